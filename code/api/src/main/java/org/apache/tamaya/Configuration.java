@@ -24,6 +24,7 @@ import org.apache.tamaya.spi.ConfigurationProviderSpi;
 import org.apache.tamaya.spi.ServiceContextManager;
 
 import java.util.*;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
@@ -300,6 +301,138 @@ public interface Configuration {
         return defaultValue;
     }
 
+    /**
+     * Get the property value as {@code int}. Implementations may use a
+     * {@link org.apache.tamaya.spi.IntPropertyConverter} to convert the value without boxing.
+     *
+     * @param key the property's key, not {@code null}.
+     * @return the property value.
+     * @throws ConfigException if no value is present, or the value could not be converted.
+     */
+    default int getInt(String key){
+        Integer value = get(key, Integer.class);
+        if(value==null){
+            throw new ConfigException("No value present for key: " + key);
+        }
+        return value;
+    }
+
+    /**
+     * Get the property value as {@code int}. Implementations may use a
+     * {@link org.apache.tamaya.spi.IntPropertyConverter} to convert the value without boxing.
+     *
+     * @param key the property's key, not {@code null}.
+     * @param defaultValue value to be returned, if no value is present.
+     * @return the property value, or the default value.
+     * @throws ConfigException if the value could not be converted.
+     */
+    default int getInt(String key, int defaultValue){
+        Integer value = get(key, Integer.class);
+        if(value==null){
+            return defaultValue;
+        }
+        return value;
+    }
+
+    /**
+     * Get the property value as {@code long}. Implementations may use a
+     * {@link org.apache.tamaya.spi.LongPropertyConverter} to convert the value without boxing.
+     *
+     * @param key the property's key, not {@code null}.
+     * @return the property value.
+     * @throws ConfigException if no value is present, or the value could not be converted.
+     */
+    default long getLong(String key){
+        Long value = get(key, Long.class);
+        if(value==null){
+            throw new ConfigException("No value present for key: " + key);
+        }
+        return value;
+    }
+
+    /**
+     * Get the property value as {@code long}. Implementations may use a
+     * {@link org.apache.tamaya.spi.LongPropertyConverter} to convert the value without boxing.
+     *
+     * @param key the property's key, not {@code null}.
+     * @param defaultValue value to be returned, if no value is present.
+     * @return the property value, or the default value.
+     * @throws ConfigException if the value could not be converted.
+     */
+    default long getLong(String key, long defaultValue){
+        Long value = get(key, Long.class);
+        if(value==null){
+            return defaultValue;
+        }
+        return value;
+    }
+
+    /**
+     * Get the property value as {@code double}. Implementations may use a
+     * {@link org.apache.tamaya.spi.DoublePropertyConverter} to convert the value without boxing.
+     *
+     * @param key the property's key, not {@code null}.
+     * @return the property value.
+     * @throws ConfigException if no value is present, or the value could not be converted.
+     */
+    default double getDouble(String key){
+        Double value = get(key, Double.class);
+        if(value==null){
+            throw new ConfigException("No value present for key: " + key);
+        }
+        return value;
+    }
+
+    /**
+     * Get the property value as {@code double}. Implementations may use a
+     * {@link org.apache.tamaya.spi.DoublePropertyConverter} to convert the value without boxing.
+     *
+     * @param key the property's key, not {@code null}.
+     * @param defaultValue value to be returned, if no value is present.
+     * @return the property value, or the default value.
+     * @throws ConfigException if the value could not be converted.
+     */
+    default double getDouble(String key, double defaultValue){
+        Double value = get(key, Double.class);
+        if(value==null){
+            return defaultValue;
+        }
+        return value;
+    }
+
+    /**
+     * Get the property value as {@code boolean}. Implementations may use a
+     * {@link org.apache.tamaya.spi.BooleanPropertyConverter} to convert the value without boxing.
+     *
+     * @param key the property's key, not {@code null}.
+     * @return the property value.
+     * @throws ConfigException if no value is present, or the value could not be converted.
+     */
+    default boolean getBoolean(String key){
+        Boolean value = get(key, Boolean.class);
+        if(value==null){
+            throw new ConfigException("No value present for key: " + key);
+        }
+        return value;
+    }
+
+    /**
+     * Get the property value as {@code boolean}. Implementations may use a
+     * {@link org.apache.tamaya.spi.BooleanPropertyConverter} to convert the value without boxing.
+     *
+     * @param key the property's key, not {@code null}.
+     * @param defaultValue value to be returned, if no value is present.
+     * @return the property value, or the default value.
+     * @throws ConfigException if the value could not be converted.
+     */
+    default boolean getBoolean(String key, boolean defaultValue){
+        Boolean value = get(key, Boolean.class);
+        if(value==null){
+            return defaultValue;
+        }
+        return value;
+    }
+
     /**
      * Access all currently known configuration properties as a full {@code Map<String,String>}.
      * Be aware that entries from non scannable parts of the registered {@link org.apache.tamaya.spi.PropertySource}
@@ -309,6 +442,52 @@ public interface Configuration {
      */
     Map<String,String> getProperties();
 
+    /**
+     * Passes all currently known configuration properties to the given consumer. The same restrictions as for
+     * {@link #getProperties()} apply. Implementations may iterate the properties without creating a full map,
+     * e.g. for exporting large configurations.
+     * @param consumer the consumer accepting key and value, not {@code null}.
+     */
+    default void forEachProperty(BiConsumer<String,String> consumer){
+        Objects.requireNonNull(consumer, "Consumer must not be null.");
+        getProperties().forEach(consumer);
+    }
+
+    /**
+     * Access all currently known configuration properties with keys starting with the given prefix,
+     * e.g. {@code tenants.myTenant.}. The same restrictions as for {@link #getProperties()} apply.
+     * Implementations may evaluate only the matching subtree instead of all properties.
+     * @param prefix the key prefix, not {@code null}. An empty prefix matches all keys.
+     * @return all currently known configuration properties with matching keys, never {@code null}.
+     */
+    default Map<String,String> getProperties(String prefix){
+        Objects.requireNonNull(prefix, "Prefix must not be null.");
+        Map<String,String> result = new HashMap<>();
+        for(Map.Entry<String,String> en:getProperties().entrySet()){
+            if(en.getKey().startsWith(prefix)){
+                result.put(en.getKey(), en.getValue());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Access the values of the given keys in one call. The result is equal to calling {@link #get(String)} for
+     * each key, but implementations may evaluate all keys in one pass over the property sources.
+     * @param keys the keys to be accessed, not {@code null}.
+     * @return a map containing the keys with a value present and their values, never {@code null}.
+     */
+    default Map<String,String> getAll(Collection<String> keys){
+        Map<String,String> result = new HashMap<>();
+        for(String key:keys){
+            String value = get(key);
+            if(value!=null){
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
     /**
      * Extension point for adjusting configuration.
      *
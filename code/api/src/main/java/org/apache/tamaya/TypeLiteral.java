@@ -22,7 +22,12 @@ import java.io.Serializable;
 import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.WeakHashMap;
 
 
 /**
@@ -36,14 +41,35 @@ import java.util.Objects;
  * TypeLiteral&lt;List&lt;Integer&gt;&gt; stringListType = new TypeLiteral&lt;List&lt;Integer&gt;&gt;() {};
  * </pre>
  *
+ * <p>Instances created using {@link #of(Type)} are canonical, so the same instance is returned for equal types
+ * as long as it is referenced.</p>
+ *
  * @param <T> the type, including all type parameters
  */
 public class TypeLiteral<T> implements Serializable {
 
     private static final long serialVersionUID = 1L;
     private static final Type[] EMPTY_TYPE_ARRAY = new Type[0];
+    /** The boxed types of the primitive types and primitive array types. */
+    private static final Map<Class<?>, Class<?>> BOXED_TYPES = initBoxedTypes();
+    /** The canonical literals of classes. */
+    private static final ClassValue<TypeLiteral<?>> CLASS_LITERALS = new ClassValue<TypeLiteral<?>>() {
+        @Override
+        protected TypeLiteral<?> computeValue(Class<?> type) {
+            return new TypeLiteral<>(type);
+        }
+    };
+    /** The canonical literals of all other types, not preventing their garbage collection, guarded by itself. */
+    private static final Map<Type, WeakReference<TypeLiteral<?>>> TYPE_LITERALS = new WeakHashMap<>();
     /** The current defined type. */
     private final Type definedType;
+    /** The raw type, or null, if the defined type has no raw type or if not yet evaluated after deserialization. */
+    private transient Class<T> rawType;
+    /** The literal of the boxed type, this literal, if the type is not primitive, evaluated again after
+     * deserialization. */
+    private transient TypeLiteral<?> boxedType;
+    /** The hash code, evaluated again after deserialization. */
+    private transient int hash;
 
     /**
      * Constructor.
@@ -53,6 +79,9 @@ public class TypeLiteral<T> implements Serializable {
         Objects.requireNonNull(definedType, "Type must be given");
 
         this.definedType = definedType;
+        this.rawType = evaluateRawType(definedType);
+        this.boxedType = evaluateBoxedType(this);
+        this.hash = evaluateHashCode(definedType);
     }
 
     /**
@@ -60,19 +89,34 @@ public class TypeLiteral<T> implements Serializable {
      */
     public TypeLiteral() {
         this.definedType = getDefinedType(this.getClass());
+        this.rawType = evaluateRawType(definedType);
+        this.boxedType = evaluateBoxedType(this);
+        this.hash = evaluateHashCode(definedType);
     }
 
     /**
-     * Creates a new TypeLiteral based on a given type.
+     * Get the canonical TypeLiteral of a given type.
      *
      * @param type the type, not {@code null}.
      * @param <R>  the literal generic type.
      * @return the corresponding TypeLiteral, never {@code null}.
      */
+    @SuppressWarnings("unchecked")
     public static <R> TypeLiteral<R> of(Type type) {
         Objects.requireNonNull(type, "Type must be given.");
 
-        return new TypeLiteral<>(type);
+        if (type instanceof Class) {
+            return (TypeLiteral<R>) CLASS_LITERALS.get((Class<?>) type);
+        }
+        synchronized (TYPE_LITERALS) {
+            WeakReference<TypeLiteral<?>> ref = TYPE_LITERALS.get(type);
+            TypeLiteral<?> literal = ref != null ? ref.get() : null;
+            if (literal == null) {
+                literal = new TypeLiteral<>(type);
+                TYPE_LITERALS.put(type, new WeakReference<>(literal));
+            }
+            return (TypeLiteral<R>) literal;
+        }
     }
 
     /**
@@ -122,22 +166,73 @@ public class TypeLiteral<T> implements Serializable {
      *
      * @return the actual type represented by this createObject
      */
-    @SuppressWarnings("unchecked")
     public final Class<T> getRawType() {
-        Class<T> rawType;
-
-        if (this.definedType instanceof ParameterizedType) {
-            ParameterizedType pt = (ParameterizedType) this.definedType;
-            rawType = (Class<T>) pt.getRawType();
-        } else if (this.definedType instanceof GenericArrayType) {
-            rawType = (Class<T>) Object[].class;
-        } else if (this.definedType instanceof Class) {
-            rawType = (Class<T>) this.definedType;
-        } else {
-            throw new RuntimeException("Illegal type for the Type Literal Class");
+        Class<T> type = rawType;
+        if (type == null) {
+            type = evaluateRawType(definedType);
+            if (type == null) {
+                throw new RuntimeException("Illegal type for the Type Literal Class");
+            }
+            rawType = type;
+        }
+        return type;
+    }
+
+    /**
+     * Get the literal of the boxed type, if this literal represents a primitive type or an array of primitives,
+     * e.g. {@code Integer} for {@code int} and {@code Integer[]} for {@code int[]}.
+     *
+     * @return the canonical boxed type literal, or this literal, if the type is not primitive.
+     */
+    public final TypeLiteral<?> getBoxedType() {
+        TypeLiteral<?> type = boxedType;
+        if (type == null) {
+            type = evaluateBoxedType(this);
+            boxedType = type;
+        }
+        return type;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Class<T> evaluateRawType(Type type) {
+        if (type instanceof ParameterizedType) {
+            return (Class<T>) ((ParameterizedType) type).getRawType();
+        } else if (type instanceof GenericArrayType) {
+            return (Class<T>) Object[].class;
+        } else if (type instanceof Class) {
+            return (Class<T>) type;
         }
+        return null;
+    }
+
+    private static TypeLiteral<?> evaluateBoxedType(TypeLiteral<?> literal) {
+        Class<?> boxed = literal.definedType instanceof Class ? BOXED_TYPES.get(literal.definedType) : null;
+        return boxed != null ? of(boxed) : literal;
+    }
 
-        return rawType;
+    private static int evaluateHashCode(Type type) {
+        return 31 + type.hashCode();
+    }
+
+    private static Map<Class<?>, Class<?>> initBoxedTypes() {
+        Map<Class<?>, Class<?>> boxedTypes = new HashMap<>();
+        boxedTypes.put(int.class, Integer.class);
+        boxedTypes.put(short.class, Short.class);
+        boxedTypes.put(byte.class, Byte.class);
+        boxedTypes.put(long.class, Long.class);
+        boxedTypes.put(boolean.class, Boolean.class);
+        boxedTypes.put(char.class, Character.class);
+        boxedTypes.put(float.class, Float.class);
+        boxedTypes.put(double.class, Double.class);
+        boxedTypes.put(int[].class, Integer[].class);
+        boxedTypes.put(short[].class, Short[].class);
+        boxedTypes.put(byte[].class, Byte[].class);
+        boxedTypes.put(long[].class, Long[].class);
+        boxedTypes.put(boolean[].class, Boolean[].class);
+        boxedTypes.put(char[].class, Character[].class);
+        boxedTypes.put(float[].class, Float[].class);
+        boxedTypes.put(double[].class, Double[].class);
+        return Collections.unmodifiableMap(boxedTypes);
     }
 
 
@@ -171,11 +266,22 @@ public class TypeLiteral<T> implements Serializable {
     }
 
 
+    /**
+     * Replaces deserialized instances with the canonical instance, see {@link #of(Type)}. Instances of subclasses
+     * are kept, their transient fields are evaluated again on access.
+     * @return the canonical instance.
+     */
+    private Object readResolve() {
+        return of(definedType);
+    }
+
     @Override
     public int hashCode() {
-        final int prime = 31;
-        int result = 1;
-        result = prime * result + ((definedType == null) ? 0 : definedType.hashCode());
+        int result = hash;
+        if (result == 0) {
+            result = evaluateHashCode(definedType);
+            hash = result;
+        }
         return result;
     }
 
@@ -191,6 +297,9 @@ public class TypeLiteral<T> implements Serializable {
             return false;
         }
         TypeLiteral<?> other = (TypeLiteral<?>) obj;
+        if (hashCode() != other.hashCode()) {
+            return false;
+        }
         if (definedType == null) {
             if (other.definedType != null) {
                 return false;
@@ -377,6 +377,18 @@ public interface ConfigurationBuilder {
      */
     ConfigurationBuilder sortPropertyFilter(Comparator<PropertyFilter> comparator);
 
+    /**
+     * Enables or disables parallel evaluation of {@link Configuration#getProperties()}. When enabled, the
+     * property sources are accessed concurrently and the properties are filtered in parallel, which requires
+     * the registered property sources and filters to be thread-safe. Implementations may ignore this setting.
+     *
+     * @param parallelEvaluation true, to enable parallel evaluation.
+     * @return this instance for chaining.
+     */
+    default ConfigurationBuilder setParallelEvaluation(boolean parallelEvaluation){
+        return this;
+    }
+
     /**
      * Builds a new {@link Configuration} based on the data in this builder. The ordering of property
      * sources and property filters is not changed, regardless of their ordinals. For ensure a certain
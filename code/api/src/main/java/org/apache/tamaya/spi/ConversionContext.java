@@ -27,6 +27,8 @@ import java.util.*;
 /**
  * A conversion context containing all the required values for implementing conversion. Use the included #Builder
  * for creating new instances of. This class is thread-safe to use. Adding supported formats is synchronized.
+ * Supported formats are only formatted, when accessed, so converters should add them only, when a value
+ * cannot be converted.
  * @see PropertyConverter
  */
 public class ConversionContext {
@@ -37,7 +39,8 @@ public class ConversionContext {
     private final List<PropertyValue> values;
     private final TypeLiteral<?> targetType;
     private final AnnotatedElement annotatedElement;
-    private final Set<String> supportedFormats = new LinkedHashSet<>();
+    /** The supported formats added, created on demand, guarded by this instance. */
+    private List<FormatEntry> supportedFormats;
 
     /**
      * Private constructor used from builder.
@@ -47,11 +50,15 @@ public class ConversionContext {
         this.key = builder.key;
         this.annotatedElement = builder.annotatedElement;
         this.targetType = builder.targetType;
-        this.supportedFormats.addAll(builder.supportedFormats);
+        if(!builder.supportedFormats.isEmpty()) {
+            this.supportedFormats = new ArrayList<>(builder.supportedFormats);
+        }
         this.configuration = builder.configuration;
-        List<PropertyValue> tempValues = new ArrayList<>();
-        tempValues.addAll(builder.values);
-        this.values = Collections.unmodifiableList(tempValues);
+        if(builder.values.isEmpty()){
+            this.values = Collections.emptyList();
+        }else {
+            this.values = Collections.unmodifiableList(new ArrayList<>(builder.values));
+        }
     }
 
     /**
@@ -118,15 +125,19 @@ public class ConversionContext {
     /**
      * Allows to add information on the supported/tried formats, which can be shown to the user, especially when
      * conversion failed. Adding of formats is synchronized, all formats are added in order to the overall createList.
-     * This means formats should be passed in order of precedence.
+     * This means formats should be passed in order of precedence. The descriptors are only formatted, when
+     * accessed by {@link #getSupportedFormats()}, so the array passed must not be modified afterwards, allowing
+     * converters to pass a constant array.
      * @param converterType the converters, which implements the formats provided.
      * @param formatDescriptors the format descriptions in a human readable form, e.g. as regular expressions.
      */
     public void addSupportedFormats(@SuppressWarnings("rawtypes") Class<?> converterType, String... formatDescriptors){
-        synchronized (supportedFormats){
-            for(String format: formatDescriptors) {
-                supportedFormats.add(format + " (" + converterType.getSimpleName() + ")");
+        FormatEntry entry = new FormatEntry(converterType, formatDescriptors);
+        synchronized (this){
+            if(supportedFormats==null){
+                supportedFormats = new ArrayList<>();
             }
+            supportedFormats.add(entry);
         }
     }
 
@@ -136,9 +147,14 @@ public class ConversionContext {
      * @return the supported/tried formats, never {@code null}.
      */
     public List<String> getSupportedFormats(){
-        synchronized (supportedFormats){
-            return new ArrayList<>(supportedFormats);
+        List<FormatEntry> entries;
+        synchronized (this){
+            if(supportedFormats==null){
+                return new ArrayList<>();
+            }
+            entries = new ArrayList<>(supportedFormats);
         }
+        return FormatEntry.format(entries);
     }
 
     @Override
@@ -148,7 +164,7 @@ public class ConversionContext {
                 ", key='" + key + '\'' +
                 ", targetType=" + targetType +
                 ", annotatedElement=" + annotatedElement +
-                ", supportedFormats=" + supportedFormats +
+                ", supportedFormats=" + getSupportedFormats() +
                 '}';
     }
 
@@ -181,8 +197,8 @@ public class ConversionContext {
         private TypeLiteral<?> targetType;
         /** The injection target (only setCurrent with injection used). */
         private AnnotatedElement annotatedElement;
-        /** The ordered setCurrent of formats tried. */
-        private final Set<String> supportedFormats = new LinkedHashSet<>();
+        /** The ordered formats tried. */
+        private final List<FormatEntry> supportedFormats = new ArrayList<>();
 
         /**
          * Creates a new Builder instance.
@@ -282,9 +298,22 @@ public class ConversionContext {
          * @return the builder instance, for chaining
          */
         public Builder addSupportedFormats(@SuppressWarnings("rawtypes") Class<?> converterType, String... formatDescriptors){
-            for(String format: formatDescriptors) {
-                supportedFormats.add(format + " (" + converterType.getSimpleName() + ")");
-            }
+            supportedFormats.add(new FormatEntry(converterType, formatDescriptors));
+            return this;
+        }
+
+        /**
+         * Resets the configuration, key, values, annotated element and supported formats of this builder, keeping
+         * the target type only. This allows a builder to be reused, e.g. per thread, since each context built
+         * holds its own copy of the builder's state.
+         * @return the builder instance, for chaining
+         */
+        public Builder reset(){
+            this.configuration = null;
+            this.key = null;
+            this.values.clear();
+            this.annotatedElement = null;
+            this.supportedFormats.clear();
             return this;
         }
 
@@ -303,9 +332,32 @@ public class ConversionContext {
                     ", key='" + key + '\'' +
                     ", targetType=" + targetType +
                     ", annotatedElement=" + annotatedElement +
-                    ", supportedFormats=" + supportedFormats +
+                    ", supportedFormats=" + FormatEntry.format(supportedFormats) +
                     '}';
         }
 
     }
+
+    /**
+     * Format descriptors added by a converter, formatted on access.
+     */
+    private static final class FormatEntry{
+        private final Class<?> converterType;
+        private final String[] formatDescriptors;
+
+        FormatEntry(Class<?> converterType, String[] formatDescriptors){
+            this.converterType = converterType;
+            this.formatDescriptors = formatDescriptors;
+        }
+
+        static List<String> format(List<FormatEntry> entries){
+            Set<String> formats = new LinkedHashSet<>();
+            for(FormatEntry entry:entries){
+                for(String format: entry.formatDescriptors) {
+                    formats.add(format + " (" + entry.converterType.getSimpleName() + ")");
+                }
+            }
+            return new ArrayList<>(formats);
+        }
+    }
 }
@@ -28,14 +28,16 @@ import java.util.*;
  * @see PropertyFilter
  */
 public class FilterContext {
-    /** The key. */
-    private final List<PropertyValue> values;
+    /** The createValue under evaluation. */
+    private PropertyValue value;
+    /** All values under evaluation, created on demand for single values. */
+    private List<PropertyValue> values;
     /** The current configurationContext. */
     private final ConfigurationContext configurationContext;
     @Experimental
-    private Map<String, PropertyValue> configEntries = new HashMap<>();
+    private final Map<String, PropertyValue> configEntries;
     @Experimental
-    private boolean singlePropertyScoped;
+    private final boolean singlePropertyScoped;
 
 
     /**
@@ -44,19 +46,32 @@ public class FilterContext {
      *
      * @param value the createValue under evaluation, not {@code null}.
      * @param configEntries the raw configuration data available in the
-     *                      current evaluation configurationContext, not {@code null}.
+     *                      current evaluation configurationContext, not {@code null}. The entries are
+     *                      not copied, but accessed through a read-only view.
      * @param configurationContext the current configurationContext, not {@code null}.
      */
     public FilterContext(PropertyValue value, Map<String,PropertyValue> configEntries, ConfigurationContext configurationContext) {
-        Objects.requireNonNull(value, "Value must not be null.");
+        this(configEntries, configurationContext);
+        this.value = Objects.requireNonNull(value, "Value must not be null.");
+    }
+
+    /**
+     * Creates a new FilterContext, for filtering the values of a multi createValue access
+     * using {@link Configuration#getProperties()} one at a time. Subclasses set the createValue under
+     * evaluation using {@link #setProperty(PropertyValue)}, so a single instance can be reused for all values.
+     *
+     * @param configEntries the raw configuration data available in the
+     *                      current evaluation configurationContext, not {@code null}. The entries are
+     *                      not copied, but accessed through a read-only view.
+     * @param configurationContext the current configurationContext, not {@code null}.
+     */
+    protected FilterContext(Map<String,PropertyValue> configEntries, ConfigurationContext configurationContext) {
         Objects.requireNonNull(configEntries, "Initial configuration entries must be not null.");
         Objects.requireNonNull(configurationContext, "Context must be not null.");
 
         this.singlePropertyScoped = false;
-        this.values = Collections.singletonList(Objects.requireNonNull(value));
-        this.configurationContext = Objects.requireNonNull(configurationContext);
-        this.configEntries.putAll(configEntries);
-        this.configEntries = Collections.unmodifiableMap(this.configEntries);
+        this.configurationContext = configurationContext;
+        this.configEntries = Collections.unmodifiableMap(configEntries);
     }
 
     /**
@@ -70,9 +85,9 @@ public class FilterContext {
         Objects.requireNonNull(configurationContext, "Context must be not null.");
 
         this.singlePropertyScoped = true;
-        this.configurationContext = Objects.requireNonNull(configurationContext);
-        this.values = Collections.singletonList(Objects.requireNonNull(value));
-        this.configEntries = Collections.unmodifiableMap(this.configEntries);
+        this.configurationContext = configurationContext;
+        this.value = value;
+        this.configEntries = Collections.emptyMap();
     }
 
     /**
@@ -86,9 +101,19 @@ public class FilterContext {
         Objects.requireNonNull(configurationContext, "Context must be not null.");
 
         this.singlePropertyScoped = true;
-        this.configurationContext = Objects.requireNonNull(configurationContext);
+        this.configurationContext = configurationContext;
         this.values = Collections.unmodifiableList(new ArrayList<>(values));
-        this.configEntries = Collections.unmodifiableMap(this.configEntries);
+        this.value = this.values.isEmpty()?null:this.values.get(0);
+        this.configEntries = Collections.emptyMap();
+    }
+
+    /**
+     * Sets the createValue under evaluation, when reusing this instance for filtering multiple values.
+     * @param value the createValue under evaluation, not {@code null}.
+     */
+    protected void setProperty(PropertyValue value) {
+        this.value = Objects.requireNonNull(value, "Value must not be null.");
+        this.values = null;
     }
 
     /**
@@ -107,7 +132,7 @@ public class FilterContext {
      * key/createValue configuration is present.
      */
     public PropertyValue getProperty() {
-        return values.get(0);
+        return value;
     }
 
     /**
@@ -118,7 +143,12 @@ public class FilterContext {
      * key/createValue configuration is present.
      */
     public List<PropertyValue> getAllValues() {
-        return values;
+        List<PropertyValue> result = this.values;
+        if(result==null){
+            result = value!=null?Collections.singletonList(value):Collections.emptyList();
+            this.values = result;
+        }
+        return result;
     }
 
     /**
@@ -158,7 +188,7 @@ public class FilterContext {
 
     @Override
     public String toString() {
-        return "FilterContext{value='" + values + "', configEntries=" + configEntries.keySet() + '}';
+        return "FilterContext{value='" + getAllValues() + "', configEntries=" + configEntries.keySet() + '}';
     }
 
 }
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tamaya.spi;
+
+/**
+ * {@link PropertyConverter} for {@code Long} values, which additionally supports converting to a {@code long}
+ * without boxing. This is used by {@link org.apache.tamaya.Configuration#getLong(String)} and its variants.
+ */
+public interface LongPropertyConverter extends PropertyConverter<Long> {
+
+    /**
+     * Checks if the given configuration value can be converted by {@link #convertLong(String)}, without throwing
+     * an exception for values, which cannot be converted.
+     *
+     * @param value the configuration value, not {@code null}.
+     * @return {@code true}, if the value can be converted.
+     */
+    boolean canConvert(String value);
+
+    /**
+     * Converts the given configuration value to a {@code long}.
+     *
+     * @param value the configuration value, not {@code null}.
+     * @return the converted value.
+     * @throws IllegalArgumentException if the value cannot be converted, see {@link #canConvert(String)}.
+     */
+    long convertLong(String value);
+
+}
@@ -18,6 +18,9 @@
  */
 package org.apache.tamaya.spi;
 
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
 /**
  * Interface for an property that converts a configured String into something else.
  * This is used for implementing type conversion from a property (String) to a certain target
@@ -42,4 +45,28 @@ public interface PropertyConverter<T>{
      */
     T convert(String value, ConversionContext context);
 
+    /**
+     * Convert the given configuration value, signalling values that cannot be converted by returning
+     * {@code null} instead of throwing an exception. This is used, when several converters are tried for
+     * a value. Converters able to detect unconvertible values without exceptions should override this method.
+     * The default implementation calls {@link #convert(String, ConversionContext)}, treating any
+     * exception thrown as the value not being convertible. The exception is logged with level {@code FINEST}.
+     *
+     * @param value configuration key that needs to be converted
+     * @param context the converter context, not null.
+     * @return the converted value, or {@code null}, if the value cannot be converted by this converter.
+     * @see #convert(String, ConversionContext)
+     */
+    default T tryConvert(String value, ConversionContext context){
+        try{
+            return convert(value, context);
+        }catch(RuntimeException e){
+            Logger log = Logger.getLogger(getClass().getName());
+            if(log.isLoggable(Level.FINEST)){
+                log.log(Level.FINEST, "PropertyConverter: " + this + " failed to convert value: " + value, e);
+            }
+            return null;
+        }
+    }
+
 }
@@ -18,6 +18,7 @@
  */
 package org.apache.tamaya.spi;
 
+import java.util.Collection;
 
 /**
  * <p>Interface for filtering the current map of properties during the evaluation of the chain of PropertySources.
@@ -48,4 +49,41 @@ public interface PropertyFilter{
      */
     PropertyValue filterProperty(PropertyValue value, FilterContext context);
 
+    /**
+     * <p>Checks if this filter must be applied to values of the given key. Filters only affecting a subset of
+     * keys, e.g. {@code secret.*}, should override this method, so they can be skipped for all other keys.</p>
+     * <p>The result must only depend on the key given, since it may be cached per key. By default
+     * {@code true} is returned.</p>
+     * @param key the qualified property key, see {@link PropertyValue#getQualifiedKey()}, not {@code null}.
+     * @return true, if this filter must be applied to values of the given key.
+     */
+    default boolean appliesTo(String key){
+        return true;
+    }
+
+    /**
+     * <p>Checks if this filter is idempotent, meaning applying it again, also after other filters have changed
+     * the value, does not change the value any further. If all filters applicable to a key are idempotent, the
+     * filter chain is evaluated in a single pass, instead of being repeated until no more changes are
+     * detected. By default {@code false} is returned.</p>
+     * @return true, if this filter is idempotent.
+     */
+    default boolean isIdempotent(){
+        return false;
+    }
+
+    /**
+     * <p>Get the keys of the other entries this filter accesses using {@link FilterContext#getConfigEntries()},
+     * when filtering values of the given key. By declaring its dependencies a filter also declares, that its
+     * result only depends on the value filtered, the entries declared and the kind of {@link FilterContext},
+     * so filter results can be memoized until one of them changes.</p>
+     * <p>By default {@code null} is returned, meaning the dependencies are unknown and results of this filter
+     * are never memoized.</p>
+     * @param key the property key, not {@code null}.
+     * @return the keys of the entries accessed, or {@code null}.
+     */
+    default Collection<String> getDependencies(String key){
+        return null;
+    }
+
 }
@@ -21,10 +21,15 @@ package org.apache.tamaya.spi;
 
 import org.apache.tamaya.Configuration;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.Spliterator;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -157,6 +162,38 @@ public interface PropertySource{
      */
     PropertyValue get(String key);
 
+    /**
+     * Checks if this property source may contain a value for the given key. A return value of {@code false}
+     * guarantees that {@link #get(String)} will return {@code null}, so evaluators can skip this property source.
+     * Property sources able to decide membership cheaply, e.g. using a Bloom filter over their key set, should
+     * override this method. By default {@code true} is returned.
+     *
+     * @param key the property's key, not {@code null}.
+     * @return false, if this property source definitely does not contain a value for the key.
+     */
+    default boolean mightContain(String key){
+        return true;
+    }
+
+    /**
+     * Access multiple properties at once. Property sources that can evaluate multiple keys natively, e.g.
+     * with a single request to a remote backend, should override this method. By default each key is
+     * evaluated by calling {@link #get(String)}.
+     *
+     * @param keys the property keys, not {@code null}.
+     * @return the values found, keyed by the keys requested, never {@code null}.
+     */
+    default Map<String, PropertyValue> getAll(Collection<String> keys){
+        Map<String, PropertyValue> result = new HashMap<>();
+        for(String key:keys){
+            PropertyValue value = get(key);
+            if(value!=null){
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
     /**
      * Access the current properties as Set. The resulting Map may not return all items accessible, e.g.
      * when the underlying storage does not support iteration of its entries.
@@ -165,6 +202,48 @@ public interface PropertySource{
      */
     Map<String, PropertyValue> getProperties();
 
+    /**
+     * Passes all properties to the given consumer, without requiring a map to be created. Property sources
+     * creating their values on access should override this method, so properties can be iterated with
+     * constant memory. By default the properties returned by {@link #getProperties()} are iterated.
+     *
+     * @param consumer the consumer, not {@code null}.
+     */
+    default void forEachProperty(Consumer<PropertyValue> consumer){
+        Objects.requireNonNull(consumer, "Consumer must not be null.");
+        getProperties().values().forEach(consumer);
+    }
+
+    /**
+     * Creates a {@link Spliterator} over all properties, e.g. to process them with a parallel stream
+     * using {@code StreamSupport.stream(propertySource.spliterator(), true)}. By default the properties returned
+     * by {@link #getProperties()} are split.
+     *
+     * @return the spliterator, never {@code null}.
+     */
+    default Spliterator<PropertyValue> spliterator(){
+        return getProperties().values().spliterator();
+    }
+
+    /**
+     * Access all properties with keys starting with the given prefix, e.g. {@code db.pools.}. Property sources
+     * maintaining a sorted key index should override this method, so the costs only depend on the number of matching
+     * entries. By default the properties returned by {@link #getProperties()} are scanned.
+     *
+     * @param prefix the key prefix, not {@code null}. An empty prefix matches all keys.
+     * @return the matching properties, never {@code null}.
+     */
+    default Map<String, PropertyValue> getProperties(String prefix){
+        Objects.requireNonNull(prefix, "Prefix must not be null.");
+        Map<String, PropertyValue> result = new HashMap<>();
+        for(Map.Entry<String, PropertyValue> en:getProperties().entrySet()){
+            if(en.getKey().startsWith(prefix)){
+                result.put(en.getKey(), en.getValue());
+            }
+        }
+        return result;
+    }
+
     /**
      * Determines if this config source can be scanned for its createList of properties.
      *
@@ -68,6 +68,23 @@ public class ConfigurationTest {
         assertThat(Configuration.EMPTY.getProperties()).isEmpty();
     }
 
+    @Test
+    public void test_getProperties_prefix() throws Exception {
+        assertThat(Configuration.EMPTY.getProperties("foo.")).isEmpty();
+    }
+
+    @Test
+    public void test_forEachProperty() throws Exception {
+        Configuration.EMPTY.forEachProperty((k, v) -> {
+            throw new IllegalStateException("No properties expected: " + k);
+        });
+    }
+
+    @Test
+    public void test_getAll() throws Exception {
+        assertThat(Configuration.EMPTY.getAll(Arrays.asList("foo", "bar"))).isEmpty();
+    }
+
     @Test
     public void test_get_key() throws Exception {
         assertThat(Configuration.EMPTY.get("foo")).isNull();
@@ -18,6 +18,10 @@
  */
 package org.apache.tamaya;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.lang.reflect.Type;
 import static org.apache.tamaya.TypeLiteral.getGenericInterfaceTypeParameters;
 import static org.apache.tamaya.TypeLiteral.getTypeParameters;
@@ -133,4 +137,69 @@ public class TypeLiteralTest {
         assertThat(a.equals(c)).isFalse();
     }
 
+    @Test
+    public void test_of_ReturnsCanonicalInstances() {
+        assertThat(TypeLiteral.of(String.class)).isSameAs(TypeLiteral.of(String.class));
+        Type listType = new TypeLiteral<List<String>>() { }.getType();
+        TypeLiteral<List<String>> literal = TypeLiteral.of(listType);
+        assertThat(TypeLiteral.of(new TypeLiteral<List<String>>() { }.getType())).isSameAs(literal);
+        assertThat(literal.getRawType()).isEqualTo(List.class);
+        assertThat(new TypeLiteral<>(String.class)).isNotSameAs(TypeLiteral.of(String.class))
+                .isEqualTo(TypeLiteral.of(String.class));
+    }
+
+    @Test
+    public void testGetBoxedType() {
+        assertThat(TypeLiteral.of(int.class).getBoxedType()).isSameAs(TypeLiteral.of(Integer.class));
+        assertThat(TypeLiteral.of(char.class).getBoxedType()).isSameAs(TypeLiteral.of(Character.class));
+        assertThat(TypeLiteral.of(double[].class).getBoxedType()).isSameAs(TypeLiteral.of(Double[].class));
+        assertThat(new TypeLiteral<>(boolean.class).getBoxedType()).isSameAs(TypeLiteral.of(Boolean.class));
+        TypeLiteral<String> stringType = TypeLiteral.of(String.class);
+        assertThat(stringType.getBoxedType()).isSameAs(stringType);
+    }
+
+    @Test
+    public void testHashCodeAfterSerialization() throws Exception {
+        TypeLiteral<String> literal = TypeLiteral.of(String.class);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(literal);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            Object read = in.readObject();
+            assertThat(read).isEqualTo(literal);
+            assertThat(read.hashCode()).isEqualTo(literal.hashCode());
+        }
+    }
+
+    @Test
+    public void testDeserializationReturnsCanonicalInstances() throws Exception {
+        TypeLiteral<Integer> primitive = TypeLiteral.of(int.class);
+        assertThat(roundTrip(primitive)).isSameAs(primitive);
+        TypeLiteral<?> read = (TypeLiteral<?>) roundTrip(TypeLiteral.of(int.class));
+        assertThat(read.getRawType()).isEqualTo(int.class);
+        assertThat(read.getBoxedType()).isSameAs(TypeLiteral.of(Integer.class));
+    }
+
+    @Test
+    public void testDeserializedSubclassEvaluatesTransientFields() throws Exception {
+        TypeLiteral<?> read = (TypeLiteral<?>) roundTrip(stringLiteral());
+        assertThat(read.getRawType()).isEqualTo(String.class);
+        assertThat(read.getBoxedType()).isSameAs(read);
+        assertThat(read).isEqualTo(stringLiteral());
+    }
+
+    private static TypeLiteral<String> stringLiteral() {
+        return new TypeLiteral<String>() { };
+    }
+
+    private static Object roundTrip(Object value) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return in.readObject();
+        }
+    }
 }
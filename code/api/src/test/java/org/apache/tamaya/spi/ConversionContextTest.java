@@ -91,6 +91,33 @@ public class ConversionContextTest {
                 < ctx.getSupportedFormats().indexOf(readable.get(1))).isTrue();
     }
 
+    @Test
+    public void testSupportedFormats_Deduplicated() throws Exception {
+        String[] formats = {"0.0.0.0/nnn", "x.x.x.x/yyy"};
+        ConversionContext ctx = new ConversionContext.Builder(TypeLiteral.of(List.class)).build();
+        assertThat(ctx.getSupportedFormats()).isEmpty();
+        ctx.addSupportedFormats(MyConverter.class, formats);
+        ctx.addSupportedFormats(MyConverter.class, formats);
+        assertThat(ctx.getSupportedFormats()).containsExactly("0.0.0.0/nnn (MyConverter)",
+                "x.x.x.x/yyy (MyConverter)");
+    }
+
+    @Test
+    public void testBuilderReset() throws Exception {
+        ConversionContext.Builder builder = new ConversionContext.Builder("key", TypeLiteral.of(List.class))
+                .addSupportedFormats(MyConverter.class, "0.0.0.0/nnn")
+                .setValues(PropertyValue.createValue("key", "value"));
+        ConversionContext ctx = builder.build();
+        ConversionContext resetCtx = builder.reset().build();
+        assertThat(ctx.getKey()).isEqualTo("key");
+        assertThat(ctx.getValues()).hasSize(1);
+        assertThat(ctx.getSupportedFormats()).hasSize(1);
+        assertThat(resetCtx.getKey()).isNull();
+        assertThat(resetCtx.getValues()).isEmpty();
+        assertThat(resetCtx.getSupportedFormats()).isEmpty();
+        assertThat(resetCtx.getTargetType()).isEqualTo(TypeLiteral.of(List.class));
+    }
+
     @Test
     public void testToString() throws Exception {
         ConversionContext ctx = new ConversionContext.Builder("toString", TypeLiteral.of(List.class))
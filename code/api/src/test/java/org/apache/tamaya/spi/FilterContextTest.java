@@ -128,6 +128,45 @@ public class FilterContextTest {
         assertThat(config != ctx.getConfigEntries()).isTrue();
     }
 
+    @Test
+    public void getConfigEntries_IsReadOnlyView() throws Exception {
+        Map<String,PropertyValue> config = new HashMap<>();
+        PropertyValue val = PropertyValue.of("key", "v", "");
+        FilterContext ctx = new FilterContext(val, config, ConfigurationContext.EMPTY);
+        config.put("key", val);
+        assertThat(ctx.getConfigEntries()).containsEntry("key", val);
+        assertThat(ctx.getAllValues()).containsExactly(val);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void getConfigEntries_IsUnmodifiable() throws Exception {
+        PropertyValue val = PropertyValue.of("key", "v", "");
+        new FilterContext(val, new HashMap<>(), ConfigurationContext.EMPTY).getConfigEntries().put("key", val);
+    }
+
+    @Test
+    public void setProperty_ReusesContext() throws Exception {
+        Map<String,PropertyValue> config = new HashMap<>();
+        PropertyValue val1 = PropertyValue.of("key1", "v", "");
+        PropertyValue val2 = PropertyValue.of("key2", "v", "");
+        FilterContext ctx = new FilterContext(config, ConfigurationContext.EMPTY){
+            {
+                setProperty(val1);
+            }
+        };
+        assertThat(ctx.getProperty()).isSameAs(val1);
+        assertThat(ctx.getAllValues()).containsExactly(val1);
+        assertThat(ctx.isSinglePropertyScoped()).isFalse();
+        new FilterContext(config, ConfigurationContext.EMPTY){
+            {
+                setProperty(val1);
+                setProperty(val2);
+                assertThat(getProperty()).isSameAs(val2);
+                assertThat(getAllValues()).containsExactly(val2);
+            }
+        };
+    }
+
     @Test
     public void testToString() throws Exception {
         Map<String,PropertyValue> config = new HashMap<>();
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tamaya.spi;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PropertyConverter}.
+ */
+public class PropertyConverterTest {
+
+    private final PropertyConverter<Integer> converter = (value, ctx) -> Integer.valueOf(value);
+
+    @Test
+    public void tryConvert() {
+        assertThat(converter.tryConvert("1", ConversionContext.EMPTY)).isEqualTo(1);
+    }
+
+    @Test
+    public void tryConvert_ReturnsNullOnException() {
+        assertThat(converter.tryConvert("invalid", ConversionContext.EMPTY)).isNull();
+        assertThat(converter.tryConvert(null, ConversionContext.EMPTY)).isNull();
+    }
+
+    @Test
+    public void tryConvert_LogsException() {
+        Logger logger = Logger.getLogger(converter.getClass().getName());
+        List<LogRecord> records = new ArrayList<>();
+        Handler handler = new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                records.add(record);
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        Level level = logger.getLevel();
+        logger.addHandler(handler);
+        logger.setLevel(Level.FINEST);
+        try {
+            assertThat(converter.tryConvert("invalid", ConversionContext.EMPTY)).isNull();
+        } finally {
+            logger.removeHandler(handler);
+            logger.setLevel(level);
+        }
+        assertThat(records).hasSize(1);
+        assertThat(records.get(0).getLevel()).isEqualTo(Level.FINEST);
+        assertThat(records.get(0).getThrown()).isInstanceOf(NumberFormatException.class);
+    }
+}
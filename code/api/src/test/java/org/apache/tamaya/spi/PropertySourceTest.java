@@ -18,7 +18,10 @@
  */
 package org.apache.tamaya.spi;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiConsumer;
@@ -77,6 +80,41 @@ public class PropertySourceTest {
         new PropertySourceImpl().removeAllChangeListeners();
     }
 
+    @Test
+    public void getAll() {
+        PropertySourceImpl ps = new PropertySourceImpl();
+        assertThat(ps.getAll(Arrays.asList("a", "b"))).isEmpty();
+        ps.value = PropertyValue.createValue("a", "1");
+        assertThat(ps.getAll(Arrays.asList("a", "b"))).containsOnlyKeys("a", "b");
+        assertThat(ps.getAll(Arrays.asList("a", "b")).get("b").getValue()).isEqualTo("1");
+    }
+
+    @Test
+    public void getProperties_prefix() {
+        PropertySource ps = new PropertySourceImpl(){
+            @Override
+            public Map<String, PropertyValue> getProperties() {
+                return PropertyValue.map(Collections.singletonMap("a.b", "1"), "test");
+            }
+        };
+        assertThat(ps.getProperties("a.")).containsOnlyKeys("a.b");
+        assertThat(ps.getProperties("b.")).isEmpty();
+    }
+
+    @Test
+    public void forEachProperty() {
+        PropertySource ps = new PropertySourceImpl(){
+            @Override
+            public Map<String, PropertyValue> getProperties() {
+                return PropertyValue.map(Collections.singletonMap("a.b", "1"), "test");
+            }
+        };
+        List<PropertyValue> values = new ArrayList<>();
+        ps.forEachProperty(values::add);
+        assertThat(values).extracting(PropertyValue::getKey).containsExactly("a.b");
+        assertThat(ps.spliterator().estimateSize()).isEqualTo(1);
+    }
+
     @Test
     public void isScannable() {
         assertThat(new PropertySourceImpl().isScannable()).isTrue();
@@ -36,6 +36,16 @@ public final class CoreConfiguration extends DefaultConfiguration {
         super(context);
     }
 
+    /**
+     * Creates a new builder instance.
+     *
+     * @param context The configuration Context to be used.
+     * @param parallelEvaluation flag, if the properties should be evaluated in parallel.
+     */
+    public CoreConfiguration(ConfigurationContext context, boolean parallelEvaluation) {
+        super(context, parallelEvaluation);
+    }
+
     @Override
     public ConfigurationBuilder toBuilder() {
         return new CoreConfigurationBuilder(this);
@@ -108,7 +108,8 @@ public final class CoreConfigurationBuilder extends DefaultConfigurationBuilder
                         this.propertySources,
                         this.propertyConverters,
                         this.metaDataProvider
-                ));
+                ),
+                this.parallelEvaluation);
         built = true;
         return cfg;
     }
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tamaya.core.internal.converters;
+
+import org.apache.tamaya.TypeLiteral;
+import org.apache.tamaya.spi.ConversionContext;
+import org.apache.tamaya.spi.PropertyConverter;
+import org.osgi.service.component.annotations.Component;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+/**
+ * Converter, converting from a comma separated String to arrays of any non primitive component type, converting
+ * the elements to the component type, e.g. {@code a, b, c} or {@code 1,2,3}. Blank elements are ignored.
+ * The converter is used for all array types, primitive arrays are supported by dedicated converters,
+ * e.g. {@link IntArrayConverter}.
+ */
+@Component(service = PropertyConverter.class)
+public class ArrayConverter implements PropertyConverter<Object[]> {
+
+    private static final Logger LOG = Logger.getLogger(ArrayConverter.class.getName());
+
+    /**
+     * The supported formats, reported if a value cannot be converted.
+     */
+    private static final String[] SUPPORTED_FORMATS = {"<element>,<element>,..."};
+
+    @Override
+    public Object[] convert(String value, ConversionContext ctx) {
+        Type componentType = getComponentType(ctx.getTargetType().getType());
+        if(value!=null && componentType!=null){
+            ElementConversion<?> conversion = new ElementConversion<>(ctx.getConfiguration(), ctx.getKey(),
+                    TypeLiteral.of(componentType));
+            SplitIndex index = new SplitIndex(value);
+            Object[] result = (Object[]) Array.newInstance(conversion.getType().getRawType(), index.size());
+            for(int i=0;i<result.length;i++){
+                Object element = conversion.convert(index.getElement(i));
+                if(element==null){
+                    LOG.finest(() -> "Cannot convert array element to " + conversion.getType() + ": " + value);
+                    ctx.addSupportedFormats(getClass(), SUPPORTED_FORMATS);
+                    return null;
+                }
+                result[i] = element;
+            }
+            return result;
+        }
+        ctx.addSupportedFormats(getClass(), SUPPORTED_FORMATS);
+        return null;
+    }
+
+    @Override
+    public Object[] tryConvert(String value, ConversionContext ctx) {
+        return convert(value, ctx);
+    }
+
+    /**
+     * Get the component type of an array type.
+     * @param arrayType the target type, not null.
+     * @return the component type, or null, if the type is not an array of a non primitive type.
+     */
+    private static Type getComponentType(Type arrayType) {
+        if(arrayType instanceof GenericArrayType){
+            Type componentType = ((GenericArrayType) arrayType).getGenericComponentType();
+            return componentType instanceof ParameterizedType ? componentType : null;
+        }
+        if(arrayType instanceof Class){
+            Class<?> componentType = ((Class<?>) arrayType).getComponentType();
+            return componentType==null || componentType.isPrimitive() ? null : componentType;
+        }
+        return null;
+    }
+
+    @Override
+    public boolean equals(Object o){
+        return Objects.nonNull(o) && getClass().equals(o.getClass());
+    }
+
+    @Override
+    public int hashCode(){
+        return getClass().hashCode();
+    }
+}
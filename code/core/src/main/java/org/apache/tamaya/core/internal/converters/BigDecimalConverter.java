@@ -46,10 +46,15 @@ public class BigDecimalConverter implements PropertyConverter<BigDecimal> {
     /** Converter to be used if the format is not directly supported by BigDecimal, e.g. for integral hex values. */
     private final BigIntegerConverter integerConverter = new BigIntegerConverter();
 
+    /**
+     * The supported formats, reported if a value cannot be converted.
+     */
+    private static final String[] SUPPORTED_FORMATS = {"<bigDecimal> -> new BigDecimal(String)"};
+
     @Override
     public BigDecimal convert(String value, ConversionContext ctx) {
-        ctx.addSupportedFormats(getClass(), "<bigDecimal> -> new BigDecimal(String)");
         if(value==null){
+            ctx.addSupportedFormats(getClass(), SUPPORTED_FORMATS);
             return null;
         }
         String trimmed = value.trim();
@@ -62,6 +67,7 @@ public class BigDecimalConverter implements PropertyConverter<BigDecimal> {
                 return new BigDecimal(bigInt);
             }
             LOG.finest("Failed to parse BigDecimal from: " + value);
+            ctx.addSupportedFormats(getClass(), SUPPORTED_FORMATS);
             return null;
         }
     }
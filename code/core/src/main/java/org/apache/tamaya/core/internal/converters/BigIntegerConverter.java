@@ -44,24 +44,31 @@ public class BigIntegerConverter implements PropertyConverter<BigInteger> {
     /** The logger. */
     private static final Logger LOG = Logger.getLogger(BigIntegerConverter.class.getName());
 
+    /**
+     * The supported formats, reported if a value cannot be converted.
+     */
+    private static final String[] SUPPORTED_FORMATS = {"[-]0X.. (hex)", "[-]0x... (hex)",
+            "<bigint> -> new BigInteger(bigint)"};
+
     @Override
     public BigInteger convert(String value, ConversionContext ctx) {
-        ctx.addSupportedFormats(getClass(), "[-]0X.. (hex)", "[-]0x... (hex)", "<bigint> -> new BigInteger(bigint)");
         if(value==null){
+            ctx.addSupportedFormats(getClass(), SUPPORTED_FORMATS);
             return null;
         }
         String trimmed = value.trim();
-        if(trimmed.startsWith("0x") || trimmed.startsWith("0X")){
-            LOG.finest("Parsing Hex createValue to BigInteger: " + value);
-            return new BigInteger(value.substring(2), 16);
-        } else if(trimmed.startsWith("-0x") || trimmed.startsWith("-0X")){
-            LOG.finest("Parsing Hex createValue to BigInteger: " + value);
-            return new BigInteger('-' + value.substring(3), 16);
-        }
         try{
+            if(trimmed.startsWith("0x") || trimmed.startsWith("0X")){
+                LOG.finest("Parsing Hex createValue to BigInteger: " + value);
+                return new BigInteger(value.substring(2), 16);
+            } else if(trimmed.startsWith("-0x") || trimmed.startsWith("-0X")){
+                LOG.finest("Parsing Hex createValue to BigInteger: " + value);
+                return new BigInteger('-' + value.substring(3), 16);
+            }
             return new BigInteger(trimmed);
         } catch(Exception e){
             LOG.log(Level.FINEST, "Failed to parse BigInteger from: " + value, e);
+            ctx.addSupportedFormats(getClass(), SUPPORTED_FORMATS);
             return null;
         }
     }
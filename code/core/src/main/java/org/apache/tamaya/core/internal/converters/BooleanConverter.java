@@ -19,6 +19,7 @@
 package org.apache.tamaya.core.internal.converters;
 
 import org.apache.tamaya.spi.ConversionContext;
+import org.apache.tamaya.spi.BooleanPropertyConverter;
 import org.apache.tamaya.spi.PropertyConverter;
 import org.osgi.service.component.annotations.Component;
 
@@ -30,18 +31,47 @@ import java.util.logging.Logger;
  * Converter, converting from String to Boolean.
  */
 @Component(service = PropertyConverter.class)
-public class BooleanConverter implements PropertyConverter<Boolean> {
+public class BooleanConverter implements BooleanPropertyConverter {
 
     private final Logger LOG = Logger.getLogger(getClass().getName());
 
+    /**
+     * The supported formats, reported if a value cannot be converted.
+     */
+    private static final String[] SUPPORTED_FORMATS = {"yes (ignore case)", "y (ignore case)",
+            "true (ignore case)", "t (ignore case)", "1", "no (ignore case)", "n (ignore case)",
+            "false (ignore case)", "f (ignore case)", "0"};
+
     @Override
     public Boolean convert(String value, ConversionContext ctx) {
-        ctx.addSupportedFormats(getClass(), "yes (ignore case)", "y (ignore case)",
-                "true (ignore case)", "t (ignore case)", "1", "no (ignore case)", "n (ignore case)",
-                "false (ignore case)", "f (ignore case)", "0");
-        if(value==null){
-            return null;
+        Boolean result = value!=null ? parse(value) : null;
+        if(result==null){
+            LOG.finest(() -> "Unknown boolean createValue encountered: " + value);
+            ctx.addSupportedFormats(getClass(), SUPPORTED_FORMATS);
         }
+        return result;
+    }
+
+    @Override
+    public Boolean tryConvert(String value, ConversionContext ctx) {
+        return convert(value, ctx);
+    }
+
+    @Override
+    public boolean canConvert(String value) {
+        return parse(value)!=null;
+    }
+
+    @Override
+    public boolean convertBoolean(String value) {
+        Boolean result = parse(value);
+        if(result==null){
+            throw new IllegalArgumentException("Unknown boolean value: " + value);
+        }
+        return result;
+    }
+
+    private static Boolean parse(String value) {
         String ignoreCaseValue = value.trim()
                                         .toLowerCase(Locale.ENGLISH);
         switch(ignoreCaseValue) {
@@ -60,9 +90,8 @@ public class BooleanConverter implements PropertyConverter<Boolean> {
             case "off":
                 return Boolean.FALSE;
             default:
-                LOG.finest("Unknown boolean createValue encountered: " + value);
+                return null;
         }
-        return null;
     }
 
     @Override
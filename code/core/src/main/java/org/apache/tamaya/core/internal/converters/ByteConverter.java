@@ -22,7 +22,6 @@ import org.apache.tamaya.spi.ConversionContext;
 import org.apache.tamaya.spi.PropertyConverter;
 import org.osgi.service.component.annotations.Component;
 
-import java.util.Locale;
 import java.util.Objects;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -49,28 +48,28 @@ public class ByteConverter implements PropertyConverter<Byte>{
 
     private final Logger LOG = Logger.getLogger(getClass().getName());
 
+    /**
+     * The supported formats, reported if a value cannot be converted.
+     */
+    private static final String[] SUPPORTED_FORMATS = {"<byte>", "MIN_VALUE", "MIN", "MAX_VALUE", "MAX"};
+
     @Override
     public Byte convert(String value, ConversionContext ctx) {
-        ctx.addSupportedFormats(getClass(),"<byte>", "MIN_VALUE", "MIN", "MAX_VALUE", "MAX");
         if(value==null){
+            ctx.addSupportedFormats(getClass(), SUPPORTED_FORMATS);
             return null;
         }
-        String trimmed = value.trim();
-        switch(trimmed.toUpperCase(Locale.ENGLISH)){
-            case "MIN_VALUE":
-            case "MIN":
-                return Byte.MIN_VALUE;
-            case "MAX_VALUE":
-            case "MAX":
-                return Byte.MAX_VALUE;
-            default:
-                try {
-                    return Byte.decode(trimmed);
-                } catch(Exception e) {
-                    LOG.log(Level.FINEST, "Unparseable Byte: " + value);
-                    return null;
-                }
+        if(NumberParser.isIntegral(value, Byte.MIN_VALUE, Byte.MAX_VALUE)) {
+            return (byte)NumberParser.parseIntegral(value, Byte.MIN_VALUE, Byte.MAX_VALUE);
         }
+        LOG.log(Level.FINEST, "Unparseable Byte: " + value);
+        ctx.addSupportedFormats(getClass(), SUPPORTED_FORMATS);
+        return null;
+    }
+
+    @Override
+    public Byte tryConvert(String value, ConversionContext ctx) {
+        return convert(value, ctx);
     }
 
     @Override
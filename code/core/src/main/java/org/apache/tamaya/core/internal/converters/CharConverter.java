@@ -40,14 +40,20 @@ public class CharConverter implements PropertyConverter<Character>{
 
     private static final Logger LOG = Logger.getLogger(CharConverter.class.getName());
 
+    /**
+     * The supported formats, reported if a value cannot be converted.
+     */
+    private static final String[] SUPPORTED_FORMATS = {"\\'<char>\\'", "<char>", "<charNum>"};
+
     @Override
     public Character convert(String value, ConversionContext ctx) {
-        ctx.addSupportedFormats(getClass(),"\\'<char>\\'", "<char>", "<charNum>");
         if(value==null){
+            ctx.addSupportedFormats(getClass(), SUPPORTED_FORMATS);
             return null;
         }
         String trimmed = value.trim();
         if(trimmed.isEmpty()){
+            ctx.addSupportedFormats(getClass(), SUPPORTED_FORMATS);
             return null;
         }
         if(trimmed.startsWith("'")) {
@@ -57,11 +63,13 @@ public class CharConverter implements PropertyConverter<Character>{
                 }
                 trimmed = trimmed.substring(1, trimmed.length() - 1);
                 if (trimmed.isEmpty()) {
+                    ctx.addSupportedFormats(getClass(), SUPPORTED_FORMATS);
                     return null;
                 }
                 return trimmed.charAt(0);
             } catch (Exception e) {
                 LOG.finest("Invalid character format encountered: '" + value + "', valid formats are 'a', 101 and a.");
+                ctx.addSupportedFormats(getClass(), SUPPORTED_FORMATS);
                 return null;
             }
         }
@@ -38,12 +38,17 @@ public class ClassConverter implements PropertyConverter<Class<?>>{
 
     private final Logger LOG = Logger.getLogger(getClass().getName());
 
+    /**
+     * The supported formats, reported if a value cannot be converted.
+     */
+    private static final String[] SUPPORTED_FORMATS = {"<fullyQualifiedClassName>"};
+
     @Override
     public Class<?> convert(String value, ConversionContext ctx) {
         if(value==null){
+            ctx.addSupportedFormats(getClass(), SUPPORTED_FORMATS);
             return null;
         }
-        ctx.addSupportedFormats(getClass(),"<fullyQualifiedClassName>");
         String trimmed = Objects.requireNonNull(value).trim();
         try {
             return Class.forName(trimmed, false, Thread.currentThread().getContextClassLoader());
@@ -59,6 +64,7 @@ public class ClassConverter implements PropertyConverter<Class<?>>{
             return Class.forName(trimmed, false, ClassLoader.getSystemClassLoader());
         } catch(Exception e) {
             LOG.finest("Class not found in System CL (giving up): " + trimmed);
+            ctx.addSupportedFormats(getClass(), SUPPORTED_FORMATS);
             return null;
         }
     }
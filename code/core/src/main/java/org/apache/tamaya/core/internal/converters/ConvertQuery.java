@@ -20,14 +20,9 @@ package org.apache.tamaya.core.internal.converters;
 
 import org.apache.tamaya.Configuration;
 import org.apache.tamaya.TypeLiteral;
-import org.apache.tamaya.spi.ConversionContext;
-import org.apache.tamaya.spi.PropertyConverter;
 
-import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 
 /**
  * Query to convert a String createValue.
@@ -35,8 +30,6 @@ import java.util.logging.Logger;
  */
 final class ConvertQuery<T> implements Function<Configuration, T> {
 
-    private static final Logger LOG = Logger.getLogger(ConvertQuery.class.getName());
-
     private String rawValue;
     private TypeLiteral<T> type;
 
@@ -47,22 +40,6 @@ final class ConvertQuery<T> implements Function<Configuration, T> {
 
     @Override
     public T apply(Configuration config) {
-        List<PropertyConverter<T>> converters = config.getContext().getPropertyConverters(type);
-        ConversionContext context = new ConversionContext.Builder(type).setConfiguration(config)
-                .setKey(ConvertQuery.class.getName()).build();
-        for (PropertyConverter<?> conv : converters) {
-            try {
-                if (conv instanceof OptionalConverter) {
-                    continue;
-                }
-                T result = (T) conv.convert(rawValue, context);
-                if (result != null) {
-                    return result;
-                }
-            } catch (Exception e) {
-                LOG.log(Level.FINEST, e, () -> "Converter " + conv + " failed to convert to " + type);
-            }
-        }
-        return null;
+        return new ElementConversion<>(config, ConvertQuery.class.getName(), type).convert(rawValue);
     }
 }
@@ -43,11 +43,16 @@ public class CurrencyConverter implements PropertyConverter<Currency> {
 
     private static final Logger LOG = Logger.getLogger(CurrencyConverter.class.getName());
 
+    /**
+     * The supported formats, reported if a value cannot be converted.
+     */
+    private static final String[] SUPPORTED_FORMATS = {"<currencyCode>, using Locale.ENGLISH", "<numericValue>",
+            "<locale>"};
+
     @Override
     public Currency convert(String value, ConversionContext ctx) {
-        ctx.addSupportedFormats(getClass(), "<currencyCode>, using Locale.ENGLISH", "<numericValue>",
-                "<locale>");
         if(value==null){
+            ctx.addSupportedFormats(getClass(), SUPPORTED_FORMATS);
             return null;
         }
         String trimmed = value.trim();
@@ -91,6 +96,7 @@ public class CurrencyConverter implements PropertyConverter<Currency> {
         } catch (Exception e) {
             LOG.log(Level.FINEST, "Not a valid country locale for currency: " + trimmed + ", giving up...", e);
         }
+        ctx.addSupportedFormats(getClass(), SUPPORTED_FORMATS);
         return null;
     }
 
@@ -19,10 +19,10 @@
 package org.apache.tamaya.core.internal.converters;
 
 import org.apache.tamaya.spi.ConversionContext;
+import org.apache.tamaya.spi.DoublePropertyConverter;
 import org.apache.tamaya.spi.PropertyConverter;
 import org.osgi.service.component.annotations.Component;
 
-import java.util.Locale;
 import java.util.Objects;
 import java.util.logging.Logger;
 
@@ -41,52 +41,71 @@ import java.util.logging.Logger;
  * </ul>
  */
 @Component(service = PropertyConverter.class)
-public class DoubleConverter implements PropertyConverter<Double> {
+public class DoubleConverter implements DoublePropertyConverter {
     /**
      * The logger.
      */
     private static final Logger LOG = Logger.getLogger(DoubleConverter.class.getName());
     /**
-     * The converter used, when floating point parse failed.
+     * The supported formats, reported if a value cannot be converted.
      */
-    private final LongConverter integerConverter = new LongConverter();
+    private static final String[] SUPPORTED_FORMATS = {"<double>", "MIN", "MIN_VALUE", "MAX", "MAX_VALUE",
+            "POSITIVE_INFINITY", "NEGATIVE_INFINITY", "NAN"};
+    /**
+     * The named values, matched ignoring case.
+     */
+    private static final String[] ALIASES = {"POSITIVE_INFINITY", "NEGATIVE_INFINITY", "NAN",
+            "MIN_VALUE", "MIN", "MAX_VALUE", "MAX"};
+    /**
+     * The values of the {@link #ALIASES}.
+     */
+    private static final double[] ALIAS_VALUES = {Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NaN,
+            Double.MIN_VALUE, Double.MIN_VALUE, Double.MAX_VALUE, Double.MAX_VALUE};
 
     @Override
     public Double convert(String value, ConversionContext ctx) {
-        ctx.addSupportedFormats(getClass(), "<double>", "MIN", "MIN_VALUE", "MAX", "MAX_VALUE",
-                "POSITIVE_INFINITY", "NEGATIVE_INFINITY", "NAN");
         if(value==null){
+            ctx.addSupportedFormats(getClass(), SUPPORTED_FORMATS);
             return null;
         }
-        String trimmed = value.trim();
-        switch (trimmed.toUpperCase(Locale.ENGLISH)) {
-            case "POSITIVE_INFINITY":
-                return Double.POSITIVE_INFINITY;
-            case "NEGATIVE_INFINITY":
-                return Double.NEGATIVE_INFINITY;
-            case "NAN":
-                return Double.NaN;
-            case "MIN_VALUE":
-            case "MIN":
-                return Double.MIN_VALUE;
-            case "MAX_VALUE":
-            case "MAX":
-                return Double.MAX_VALUE;
-            default:
-                try {
-                    return Double.valueOf(trimmed);
-                } catch (Exception e) {
-                    // OK perhaps we have an integral number that must be converted to the double type...
-                    LOG.finest("Parsing of double as floating number failed, trying parsing integral" +
-                            " number/hex instead...");
-                }
-                Long val = integerConverter.convert(trimmed, ctx);
-                if(val!=null){
-                    return val.doubleValue();
-                }
-                return null;
+        int alias = NumberParser.indexOfAlias(value, ALIASES);
+        if(alias>=0){
+            return ALIAS_VALUES[alias];
         }
+        if(NumberParser.isFloatingPoint(value)){
+            return Double.parseDouble(value);
+        }
+        // OK perhaps we have an integral number that must be converted to the double type...
+        if(NumberParser.isIntegral(value, Long.MIN_VALUE, Long.MAX_VALUE)){
+            return (double)NumberParser.parseIntegral(value, Long.MIN_VALUE, Long.MAX_VALUE);
+        }
+        LOG.finest(() -> "Unparseable Double createValue: " + value);
+        ctx.addSupportedFormats(getClass(), SUPPORTED_FORMATS);
+        return null;
+    }
+
+    @Override
+    public Double tryConvert(String value, ConversionContext ctx) {
+        return convert(value, ctx);
+    }
+
+    @Override
+    public boolean canConvert(String value) {
+        return NumberParser.indexOfAlias(value, ALIASES)>=0 || NumberParser.isFloatingPoint(value) ||
+                NumberParser.isIntegral(value, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
 
+    @Override
+    public double convertDouble(String value) {
+        int alias = NumberParser.indexOfAlias(value, ALIASES);
+        if(alias>=0){
+            return ALIAS_VALUES[alias];
+        }
+        if(NumberParser.isFloatingPoint(value)) {
+            return Double.parseDouble(value);
+        }
+        // OK perhaps we have an integral number that must be converted to the double type...
+        return NumberParser.parseIntegral(value, Long.MIN_VALUE, Long.MAX_VALUE);
     }
 
     @Override
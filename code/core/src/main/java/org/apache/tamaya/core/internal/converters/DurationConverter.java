@@ -26,6 +26,8 @@ import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.Objects;
 import java.util.logging.Level;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.logging.Logger;
 
 /**
@@ -34,13 +36,43 @@ import java.util.logging.Logger;
 @Component(service = PropertyConverter.class)
 public class DurationConverter implements PropertyConverter<Duration> {
 
-    private final Logger LOG = Logger.getLogger(getClass().getName());
+    private static final Logger LOG = Logger.getLogger(DurationConverter.class.getName());
+    /**
+     * The parse results, if enabled.
+     */
+    private static final ParseCache<Duration> CACHE = ParseCache.create(Duration.class.getName());
+
+    /**
+     * The ISO-8601 duration format as accepted by {@link Duration#parse(CharSequence)}, used to detect
+     * unparseable values without exceptions.
+     */
+    private static final Pattern DURATION_PATTERN =
+            Pattern.compile("[-+]?P(?:[-+]?[0-9]+D)?" +
+                    "(T(?:[-+]?[0-9]+H)?(?:[-+]?[0-9]+M)?(?:[-+]?[0-9]+(?:[.,][0-9]{0,9})?S)?)?",
+                    Pattern.CASE_INSENSITIVE);
+
+    /**
+     * The supported formats, reported if a value cannot be converted.
+     */
+    private static final String[] SUPPORTED_FORMATS = {Duration.of(1234, ChronoUnit.SECONDS).toString()};
 
     @Override
     public Duration convert(String value, ConversionContext ctx) {
-        ctx.addSupportedFormats(getClass(),
-                Duration.of(1234, ChronoUnit.SECONDS).toString());
-        if(value==null){
+        if(value!=null){
+            Duration result = CACHE.get(value, DurationConverter::parse);
+            if(result!=null){
+                return result;
+            }
+        }
+        ctx.addSupportedFormats(getClass(), SUPPORTED_FORMATS);
+        return null;
+    }
+
+    private static Duration parse(String value) {
+        Matcher matcher = DURATION_PATTERN.matcher(value);
+        // at least one component is required, also after T
+        if(!matcher.matches() || matcher.end() <= matcher.start() + 2 || "T".equalsIgnoreCase(matcher.group(1))){
+            LOG.finest(() -> "Cannot parse Duration: " + value);
             return null;
         }
         try {
@@ -51,6 +83,11 @@ public class DurationConverter implements PropertyConverter<Duration> {
         }
     }
 
+    @Override
+    public Duration tryConvert(String value, ConversionContext ctx) {
+        return convert(value, ctx);
+    }
+
     @Override
     public boolean equals(Object o){
         return Objects.nonNull(o) && getClass().equals(o.getClass());
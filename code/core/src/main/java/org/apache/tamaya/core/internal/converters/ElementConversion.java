@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tamaya.core.internal.converters;
+
+import org.apache.tamaya.Configuration;
+import org.apache.tamaya.TypeLiteral;
+import org.apache.tamaya.spi.ConversionContext;
+import org.apache.tamaya.spi.PropertyConverter;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Conversion of String values to a given type using the converters of a configuration. The converters and the
+ * conversion context are evaluated once, so multiple elements of a value can be converted efficiently.
+ * @param <T> the target type.
+ */
+final class ElementConversion<T> {
+
+    private static final Logger LOG = Logger.getLogger(ElementConversion.class.getName());
+
+    /** The target type. */
+    private final TypeLiteral<T> type;
+    /** The converters, empty for String targets. */
+    private final List<PropertyConverter<T>> converters;
+    /** The context passed to the converters, or null for String targets. */
+    private final ConversionContext context;
+
+    /**
+     * Creates a new instance.
+     * @param config the configuration providing the converters, or null.
+     * @param key the key converted, or null.
+     * @param type the target type, not null.
+     */
+    ElementConversion(Configuration config, String key, TypeLiteral<T> type) {
+        this.type = type;
+        if(String.class.equals(type.getType()) || config==null){
+            this.converters = Collections.emptyList();
+            this.context = null;
+        }else{
+            this.converters = config.getContext().getPropertyConverters(type);
+            this.context = new ConversionContext.Builder(config, key, type).build();
+        }
+    }
+
+    /**
+     * Get the element type of a collection type.
+     * @param collectionType the collection type, not null.
+     * @return the type of the first type argument, or {@code String} for raw collection types.
+     */
+    static Type getElementType(Type collectionType) {
+        if(!(collectionType instanceof ParameterizedType)){
+            return String.class;
+        }
+        Type elementType = ((ParameterizedType) collectionType).getActualTypeArguments()[0];
+        if(elementType instanceof WildcardType){
+            elementType = ((WildcardType) elementType).getUpperBounds()[0];
+        }
+        if(elementType instanceof Class || elementType instanceof ParameterizedType){
+            return Object.class.equals(elementType) ? String.class : elementType;
+        }
+        return String.class;
+    }
+
+    /**
+     * Get the target type.
+     * @return the target type, never null.
+     */
+    TypeLiteral<T> getType() {
+        return type;
+    }
+
+    /**
+     * Converts the given value.
+     * @param value the value, not null.
+     * @return the converted value, or null, if no converter can convert it.
+     */
+    @SuppressWarnings("unchecked")
+    T convert(String value) {
+        if(context==null){
+            return String.class.equals(type.getType()) ? (T) value : null;
+        }
+        for (PropertyConverter<T> conv : converters) {
+            if (conv instanceof OptionalConverter) {
+                continue;
+            }
+            T result = conv.tryConvert(value, context);
+            if (result != null) {
+                return result;
+            }
+            LOG.log(Level.FINEST, () -> "Converter " + conv + " failed to convert to " + type);
+        }
+        return null;
+    }
+}
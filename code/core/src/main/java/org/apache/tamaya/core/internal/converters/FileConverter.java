@@ -35,18 +35,24 @@ public class FileConverter implements PropertyConverter<File> {
 
     private final Logger LOG = Logger.getLogger(getClass().getName());
 
+    /**
+     * The supported formats, reported if a value cannot be converted.
+     */
+    private static final String[] SUPPORTED_FORMATS = {"<File>"};
+
     @Override
     public File convert(String value, ConversionContext ctx) {
         if(value==null || value.isEmpty()){
+            ctx.addSupportedFormats(getClass(), SUPPORTED_FORMATS);
             return null;
         }
-        ctx.addSupportedFormats(getClass(),"<File>");
         String trimmed = Objects.requireNonNull(value).trim();
         try {
             return new File(trimmed);
         } catch (Exception e) {
             LOG.log(Level.FINE, "Unparseable File Name: " + trimmed, e);
         }
+        ctx.addSupportedFormats(getClass(), SUPPORTED_FORMATS);
         return null;
     }
 
@@ -22,14 +22,13 @@ import org.apache.tamaya.spi.ConversionContext;
 import org.apache.tamaya.spi.PropertyConverter;
 import org.osgi.service.component.annotations.Component;
 
-import java.util.Locale;
 import java.util.Objects;
 import java.util.logging.Logger;
 
 /**
  * Converter, converting from String to Float, using the Java number syntax:
  * (-)?[0-9]*\.[0-9]*. In case of error the createValue given also is tried being parsed as integral number using
- * {@link LongConverter}. Additionally the following values are supported:
+ * {@link IntegerConverter}. Additionally the following values are supported:
  * <ul>
  * <li>NaN (ignoring case)</li>
  * <li>POSITIVE_INFINITY (ignoring case)</li>
@@ -47,46 +46,46 @@ public class FloatConverter implements PropertyConverter<Float> {
      */
     private static final Logger LOG = Logger.getLogger(FloatConverter.class.getName());
     /**
-     * The converter used, when floating point parse failed.
+     * The supported formats, reported if a value cannot be converted.
      */
-    private final IntegerConverter integerConverter = new IntegerConverter();
+    private static final String[] SUPPORTED_FORMATS = {"<float>", "MIN", "MIN_VALUE", "MAX", "MAX_VALUE",
+            "POSITIVE_INFINITY", "NEGATIVE_INFINITY", "NAN"};
+    /**
+     * The named values, matched ignoring case.
+     */
+    private static final String[] ALIASES = {"POSITIVE_INFINITY", "NEGATIVE_INFINITY", "NAN",
+            "MIN_VALUE", "MIN", "MAX_VALUE", "MAX"};
+    /**
+     * The values of the {@link #ALIASES}.
+     */
+    private static final float[] ALIAS_VALUES = {Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY, Float.NaN,
+            Float.MIN_VALUE, Float.MIN_VALUE, Float.MAX_VALUE, Float.MAX_VALUE};
 
     @Override
     public Float convert(String value, ConversionContext ctx) {
-        ctx.addSupportedFormats(getClass(), "<float>", "MIN", "MIN_VALUE", "MAX", "MAX_VALUE",
-                        "POSITIVE_INFINITY", "NEGATIVE_INFINITY", "NAN");
         if(value==null){
+            ctx.addSupportedFormats(getClass(), SUPPORTED_FORMATS);
             return null;
         }
-        String trimmed = value.trim();
-        switch(trimmed.toUpperCase(Locale.ENGLISH)){
-            case "POSITIVE_INFINITY":
-                return Float.POSITIVE_INFINITY;
-            case "NEGATIVE_INFINITY":
-                return Float.NEGATIVE_INFINITY;
-            case "NAN":
-                return Float.NaN;
-            case "MIN_VALUE":
-            case "MIN":
-                return Float.MIN_VALUE;
-            case "MAX_VALUE":
-            case "MAX":
-                return Float.MAX_VALUE;
-            default:
-                try {
-                    return Float.valueOf(trimmed);
-                } catch(Exception e){
-                    // OK perhaps we have an integral number that must be converted to the double type...
-                    LOG.finest("Parsing of float as floating number failed, trying parsing integral" +
-                            " number/hex instead...");
-                }
-                Integer val = integerConverter.convert(trimmed, ctx);
-                if(val!=null) {
-                    return val.floatValue();
-                }
-                LOG.finest("Unparseable float createValue: " + trimmed);
-                return null;
+        int alias = NumberParser.indexOfAlias(value, ALIASES);
+        if(alias>=0){
+            return ALIAS_VALUES[alias];
+        }
+        if(NumberParser.isFloatingPoint(value)) {
+            return Float.parseFloat(value);
         }
+        // OK perhaps we have an integral number that must be converted to the float type...
+        if(NumberParser.isIntegral(value, Integer.MIN_VALUE, Integer.MAX_VALUE)){
+            return (float)NumberParser.parseIntegral(value, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        }
+        LOG.finest("Unparseable float createValue: " + value);
+        ctx.addSupportedFormats(getClass(), SUPPORTED_FORMATS);
+        return null;
+    }
+
+    @Override
+    public Float tryConvert(String value, ConversionContext ctx) {
+        return convert(value, ctx);
     }
 
     @Override
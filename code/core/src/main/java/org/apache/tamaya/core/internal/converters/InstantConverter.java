@@ -33,14 +33,25 @@ import java.util.logging.Logger;
 @Component(service = PropertyConverter.class)
 public class InstantConverter implements PropertyConverter<Instant> {
 
-    private final Logger LOG = Logger.getLogger(getClass().getName());
+    private static final Logger LOG = Logger.getLogger(InstantConverter.class.getName());
+    /**
+     * The parse results, if enabled.
+     */
+    private static final ParseCache<Instant> CACHE = ParseCache.create(Instant.class.getName());
 
     @Override
     public Instant convert(String value, ConversionContext ctx) {
-        ctx.addSupportedFormats(getClass(), Instant.now().toString());
-        if(value==null){
-            return null;
+        if(value!=null){
+            Instant result = CACHE.get(value, InstantConverter::parse);
+            if(result!=null){
+                return result;
+            }
         }
+        ctx.addSupportedFormats(getClass(), Instant.now().toString());
+        return null;
+    }
+
+    private static Instant parse(String value) {
         try{
             return Instant.parse(value);
         }catch(Exception e){
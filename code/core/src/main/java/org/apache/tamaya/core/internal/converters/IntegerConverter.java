@@ -19,10 +19,10 @@
 package org.apache.tamaya.core.internal.converters;
 
 import org.apache.tamaya.spi.ConversionContext;
+import org.apache.tamaya.spi.IntPropertyConverter;
 import org.apache.tamaya.spi.PropertyConverter;
 import org.osgi.service.component.annotations.Component;
 
-import java.util.Locale;
 import java.util.Objects;
 import java.util.logging.Logger;
 
@@ -44,36 +44,45 @@ import java.util.logging.Logger;
  * </ul>
  */
 @Component(service = PropertyConverter.class)
-public class IntegerConverter implements PropertyConverter<Integer>{
+public class IntegerConverter implements IntPropertyConverter {
 
     /**
      * The logger.
      */
     private static final Logger LOG = Logger.getLogger(IntegerConverter.class.getName());
 
+    /**
+     * The supported formats, reported if a value cannot be converted.
+     */
+    private static final String[] SUPPORTED_FORMATS = {"<int>", "MIN_VALUE", "MIN", "MAX_VALUE", "MAX"};
+
     @Override
     public Integer convert(String value, ConversionContext ctx) {
-        ctx.addSupportedFormats(getClass(), "<int>", "MIN_VALUE", "MIN", "MAX_VALUE", "MAX");
         if(value==null){
+            ctx.addSupportedFormats(getClass(), SUPPORTED_FORMATS);
             return null;
         }
-        String trimmed = value.trim();
-        switch(trimmed.toUpperCase(Locale.ENGLISH)){
-            case "MIN_VALUE":
-            case "MIN":
-                return Integer.MIN_VALUE;
-            case "MAX_VALUE":
-            case "MAX":
-                return Integer.MAX_VALUE;
-            default:
-                try {
-                    return Integer.decode(trimmed);
-                } catch(Exception e) {
-                    LOG.finest("Unparseable Integer createValue: " + trimmed);
-                    return null;
-                }
+        if(NumberParser.isIntegral(value, Integer.MIN_VALUE, Integer.MAX_VALUE)){
+            return (int)NumberParser.parseIntegral(value, Integer.MIN_VALUE, Integer.MAX_VALUE);
         }
+        LOG.finest(() -> "Unparseable Integer createValue: " + value);
+        ctx.addSupportedFormats(getClass(), SUPPORTED_FORMATS);
+        return null;
+    }
 
+    @Override
+    public Integer tryConvert(String value, ConversionContext ctx) {
+        return convert(value, ctx);
+    }
+
+    @Override
+    public boolean canConvert(String value) {
+        return NumberParser.isIntegral(value, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int convertInt(String value) {
+        return (int)NumberParser.parseIntegral(value, Integer.MIN_VALUE, Integer.MAX_VALUE);
     }
 
     @Override
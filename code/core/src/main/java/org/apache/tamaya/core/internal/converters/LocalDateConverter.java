@@ -37,14 +37,15 @@ public class LocalDateConverter implements PropertyConverter<LocalDate> {
 
     @Override
     public LocalDate convert(String value, ConversionContext ctx) {
-        ctx.addSupportedFormats(getClass(), LocalDate.now().toString());
         if(value==null){
+            ctx.addSupportedFormats(getClass(), LocalDate.now().toString());
             return null;
         }
         try{
             return LocalDate.parse(value);
         }catch(Exception e){
             LOG.log(Level.FINEST, e, () -> "Cannot parse LocalDate: " + value);
+            ctx.addSupportedFormats(getClass(), LocalDate.now().toString());
             return null;
         }
     }
@@ -33,14 +33,25 @@ import java.util.logging.Logger;
 @Component(service = PropertyConverter.class)
 public class LocalDateTimeConverter implements PropertyConverter<LocalDateTime> {
 
-    private final Logger LOG = Logger.getLogger(getClass().getName());
+    private static final Logger LOG = Logger.getLogger(LocalDateTimeConverter.class.getName());
+    /**
+     * The parse results, if enabled.
+     */
+    private static final ParseCache<LocalDateTime> CACHE = ParseCache.create(LocalDateTime.class.getName());
 
     @Override
     public LocalDateTime convert(String value, ConversionContext ctx) {
-        ctx.addSupportedFormats(getClass(), LocalDateTime.now().toString());
-        if(value==null){
-            return null;
+        if(value!=null){
+            LocalDateTime result = CACHE.get(value, LocalDateTimeConverter::parse);
+            if(result!=null){
+                return result;
+            }
         }
+        ctx.addSupportedFormats(getClass(), LocalDateTime.now().toString());
+        return null;
+    }
+
+    private static LocalDateTime parse(String value) {
         try{
             return LocalDateTime.parse(value);
         }catch(Exception e){
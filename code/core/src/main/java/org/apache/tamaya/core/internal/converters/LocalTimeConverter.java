@@ -37,14 +37,15 @@ public class LocalTimeConverter implements PropertyConverter<LocalTime> {
 
     @Override
     public LocalTime convert(String value, ConversionContext ctx) {
-        ctx.addSupportedFormats(getClass(), LocalTime.now().toString());
         if(value==null){
+            ctx.addSupportedFormats(getClass(), LocalTime.now().toString());
             return null;
         }
         try{
             return LocalTime.parse(value);
         }catch(Exception e){
             LOG.log(Level.FINEST, e, () -> "Cannot parse LocalTime: " + value);
+            ctx.addSupportedFormats(getClass(), LocalTime.now().toString());
             return null;
         }
     }
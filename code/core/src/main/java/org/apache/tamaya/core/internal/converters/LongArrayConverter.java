@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tamaya.core.internal.converters;
+
+import org.apache.tamaya.spi.ConversionContext;
+import org.apache.tamaya.spi.PropertyConverter;
+import org.osgi.service.component.annotations.Component;
+
+import java.util.Objects;
+import java.util.logging.Logger;
+
+/**
+ * Converter, converting from a comma separated String to {@code long[]}, e.g. {@code 1, 0x2, MAX}. The elements
+ * support the formats of {@link LongConverter} and are parsed in place, without creating substrings.
+ * Blank elements are ignored.
+ */
+@Component(service = PropertyConverter.class)
+public class LongArrayConverter implements PropertyConverter<long[]> {
+
+    private static final Logger LOG = Logger.getLogger(LongArrayConverter.class.getName());
+
+    /**
+     * The supported formats, reported if a value cannot be converted.
+     */
+    private static final String[] SUPPORTED_FORMATS = {"<long>,<long>,..."};
+
+    @Override
+    public long[] convert(String value, ConversionContext ctx) {
+        if(value!=null){
+            SplitIndex index = new SplitIndex(value);
+            long[] result = new long[index.size()];
+            for(int i=0;i<result.length;i++){
+                int begin = index.getBegin(i);
+                int end = index.getEnd(i);
+                if(!NumberParser.isIntegral(value, begin, end, Long.MIN_VALUE, Long.MAX_VALUE)){
+                    LOG.finest(() -> "Unparseable long[] createValue: " + value);
+                    ctx.addSupportedFormats(getClass(), SUPPORTED_FORMATS);
+                    return null;
+                }
+                result[i] = NumberParser.parseIntegral(value, begin, end, Long.MIN_VALUE, Long.MAX_VALUE);
+            }
+            return result;
+        }
+        ctx.addSupportedFormats(getClass(), SUPPORTED_FORMATS);
+        return null;
+    }
+
+    @Override
+    public long[] tryConvert(String value, ConversionContext ctx) {
+        return convert(value, ctx);
+    }
+
+    @Override
+    public boolean equals(Object o){
+        return Objects.nonNull(o) && getClass().equals(o.getClass());
+    }
+
+    @Override
+    public int hashCode(){
+        return getClass().hashCode();
+    }
+}
@@ -19,10 +19,10 @@
 package org.apache.tamaya.core.internal.converters;
 
 import org.apache.tamaya.spi.ConversionContext;
+import org.apache.tamaya.spi.LongPropertyConverter;
 import org.apache.tamaya.spi.PropertyConverter;
 import org.osgi.service.component.annotations.Component;
 
-import java.util.Locale;
 import java.util.Objects;
 import java.util.logging.Logger;
 
@@ -44,33 +44,43 @@ import java.util.logging.Logger;
  * </ul>
  */
 @Component(service = PropertyConverter.class)
-public class LongConverter implements PropertyConverter<Long>{
+public class LongConverter implements LongPropertyConverter {
 
     private static final Logger LOGGER = Logger.getLogger(LongConverter.class.getName());
 
+    /**
+     * The supported formats, reported if a value cannot be converted.
+     */
+    private static final String[] SUPPORTED_FORMATS = {"<long>", "MIN", "MIN_VALUE", "MAX", "MAX_VALUE"};
+
     @Override
     public Long convert(String value, ConversionContext ctx) {
-        ctx.addSupportedFormats(getClass(), "<long>", "MIN", "MIN_VALUE", "MAX", "MAX_VALUE");
 
         if(value==null){
+            ctx.addSupportedFormats(getClass(), SUPPORTED_FORMATS);
             return null;
         }
-        String trimmed = value.trim();
-            switch (trimmed.toUpperCase(Locale.ENGLISH)) {
-                case "MIN_VALUE":
-                case "MIN":
-                    return Long.MIN_VALUE;
-                case "MAX_VALUE":
-                case "MAX":
-                    return Long.MAX_VALUE;
-                default:
-                    try {
-                        return Long.decode(trimmed);
-                    } catch(Exception e) {
-                        LOGGER.finest("Unable to parse Long createValue: " + value);
-                        return null;
-                    }
-            }
+        if(NumberParser.isIntegral(value, Long.MIN_VALUE, Long.MAX_VALUE)){
+            return NumberParser.parseIntegral(value, Long.MIN_VALUE, Long.MAX_VALUE);
+        }
+        LOGGER.finest(() -> "Unable to parse Long createValue: " + value);
+        ctx.addSupportedFormats(getClass(), SUPPORTED_FORMATS);
+        return null;
+    }
+
+    @Override
+    public Long tryConvert(String value, ConversionContext ctx) {
+        return convert(value, ctx);
+    }
+
+    @Override
+    public boolean canConvert(String value) {
+        return NumberParser.isIntegral(value, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    @Override
+    public long convertLong(String value) {
+        return NumberParser.parseIntegral(value, Long.MIN_VALUE, Long.MAX_VALUE);
     }
 
     @Override
@@ -44,12 +44,17 @@ public class NumberConverter implements PropertyConverter<Number>{
     /** Converter used for trying to parse as an integral createValue. */
     private final LongConverter longConverter = new LongConverter();
 
+    /**
+     * The supported formats, reported if a value cannot be converted.
+     */
+    private static final String[] SUPPORTED_FORMATS = {"<double>, <long>", "0x (hex)", "0X... (hex)",
+            "POSITIVE_INFINITY", "NEGATIVE_INFINITY", "NAN"};
+
     @Override
     public Number convert(String value, ConversionContext ctx) {
-        ctx.addSupportedFormats(getClass(), "<double>, <long>", "0x (hex)", "0X... (hex)", "POSITIVE_INFINITY",
-                "NEGATIVE_INFINITY", "NAN");
 
         if(value==null){
+            ctx.addSupportedFormats(getClass(), SUPPORTED_FORMATS);
             return null;
         }
         String trimmed = value.trim();
@@ -65,15 +70,24 @@ public class NumberConverter implements PropertyConverter<Number>{
                 if (lVal != null) {
                     return lVal;
                 }
-                try {
-                    return new BigDecimal(trimmed);
-                } catch(Exception e) {
-                    LOGGER.finest("Unparseable Number: " + trimmed);
-                    return null;
+                if(NumberParser.isDecimal(trimmed)) {
+                    try {
+                        return new BigDecimal(trimmed);
+                    } catch(NumberFormatException e) {
+                        // exponent out of range
+                    }
                 }
+                LOGGER.finest("Unparseable Number: " + trimmed);
+                ctx.addSupportedFormats(getClass(), SUPPORTED_FORMATS);
+                return null;
         }
     }
 
+    @Override
+    public Number tryConvert(String value, ConversionContext ctx) {
+        return convert(value, ctx);
+    }
+
     @Override
     public boolean equals(Object o){
         return Objects.nonNull(o) && getClass().equals(o.getClass());
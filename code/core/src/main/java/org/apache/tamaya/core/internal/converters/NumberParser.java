@@ -0,0 +1,347 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tamaya.core.internal.converters;
+
+/**
+ * Allocation free parsing and syntax checks for numeric values, allowing the converters to detect values that
+ * cannot be parsed without catching exceptions thrown by the JDK parse methods. Leading and trailing whitespace
+ * is ignored the same way as by {@link String#trim()}, without creating a trimmed copy.
+ */
+final class NumberParser {
+
+    /** The aliases for the minimal and maximal value of integral types, minimal values first. */
+    private static final String[] INTEGRAL_ALIASES = {"MIN", "MIN_VALUE", "MAX", "MAX_VALUE"};
+
+    private NumberParser(){}
+
+    /**
+     * Checks if the given value is an integral number within the given range, as accepted by
+     * {@link #parseIntegral(String, long, long)}.
+     * @param value the value, not null.
+     * @param min the minimal value allowed.
+     * @param max the maximal value allowed.
+     * @return true, if the value can be parsed.
+     */
+    static boolean isIntegral(String value, long min, long max){
+        return isIntegral(value, 0, value.length(), min, max);
+    }
+
+    /**
+     * Checks if the given range of a value is an integral number within the given range, as accepted by
+     * {@link #parseIntegral(String, int, int, long, long)}.
+     * @param value the value, not null.
+     * @param begin the begin index, inclusive.
+     * @param end the end index, exclusive.
+     * @param min the minimal value allowed.
+     * @param max the maximal value allowed.
+     * @return true, if the value can be parsed.
+     */
+    static boolean isIntegral(String value, int begin, int end, long min, long max){
+        int start = trimStart(value, begin, end);
+        int stop = trimEnd(value, start, end);
+        return indexOfAlias(value, start, stop, INTEGRAL_ALIASES)>=0 || isDecodable(value, start, stop, min, max);
+    }
+
+    /**
+     * Parses an integral number, supporting the formats of {@link Long#decode(String)}, and the case insensitive
+     * aliases {@code MIN}, {@code MIN_VALUE}, {@code MAX} and {@code MAX_VALUE} for the range boundaries.
+     * @param value the value, not null.
+     * @param min the minimal value allowed.
+     * @param max the maximal value allowed.
+     * @return the value parsed.
+     * @throws NumberFormatException if the value cannot be parsed, check using
+     * {@link #isIntegral(String, long, long)} to avoid the exception.
+     */
+    static long parseIntegral(String value, long min, long max){
+        return parseIntegral(value, 0, value.length(), min, max);
+    }
+
+    /**
+     * Parses an integral number from the given range of a value, without creating a substring.
+     * @param value the value, not null.
+     * @param begin the begin index, inclusive.
+     * @param end the end index, exclusive.
+     * @param min the minimal value allowed.
+     * @param max the maximal value allowed.
+     * @return the value parsed.
+     * @throws NumberFormatException if the value cannot be parsed.
+     * @see #parseIntegral(String, long, long)
+     */
+    static long parseIntegral(String value, int begin, int end, long min, long max){
+        int start = trimStart(value, begin, end);
+        int stop = trimEnd(value, start, end);
+        int alias = indexOfAlias(value, start, stop, INTEGRAL_ALIASES);
+        if(alias>=0){
+            return alias<2 ? min : max;
+        }
+        if(!isDecodable(value, start, stop, min, max)){
+            throw new NumberFormatException("Not a valid number: " + value.substring(begin, end));
+        }
+        return decode(value, start, stop);
+    }
+
+    /**
+     * Evaluates the index of the alias matching the given value, ignoring case and surrounding whitespace.
+     * @param value the value, not null.
+     * @param aliases the aliases, in upper case.
+     * @return the index of the alias matching, or -1.
+     */
+    static int indexOfAlias(String value, String[] aliases){
+        int begin = trimStart(value, 0, value.length());
+        return indexOfAlias(value, begin, trimEnd(value, begin, value.length()), aliases);
+    }
+
+    /**
+     * Checks if the given value can be decoded by {@link Long#decode(String)}, {@link Integer#decode(String)},
+     * {@link Short#decode(String)} or {@link Byte#decode(String)}, resulting in a value within the given range.
+     * @param value the value, not null.
+     * @param min the minimal value allowed.
+     * @param max the maximal value allowed.
+     * @return true, if the value can be decoded.
+     */
+    static boolean isDecodable(String value, long min, long max){
+        return isDecodable(value, 0, value.length(), min, max);
+    }
+
+    /**
+     * Checks if the given value can be parsed by {@link Double#parseDouble(String)} or
+     * {@link Float#parseFloat(String)}, including hexadecimal floating point literals.
+     * @param value the value, not null.
+     * @return true, if the value can be parsed.
+     */
+    static boolean isFloatingPoint(String value){
+        int begin = trimStart(value, 0, value.length());
+        return isFloatingPoint(value, begin, trimEnd(value, begin, value.length()));
+    }
+
+    /**
+     * Checks if the given value can be parsed by {@link java.math.BigDecimal#BigDecimal(String)}.
+     * @param value the value, not null.
+     * @return true, if the value can be parsed.
+     */
+    static boolean isDecimal(String value){
+        int len = value.length();
+        int index = 0;
+        if(len>0 && (value.charAt(0)=='-' || value.charAt(0)=='+')){
+            index++;
+        }
+        int digits = 0;
+        while(index<len && Character.isDigit(value.charAt(index))){
+            index++;
+            digits++;
+        }
+        if(index<len && value.charAt(index)=='.'){
+            index++;
+            while(index<len && Character.isDigit(value.charAt(index))){
+                index++;
+                digits++;
+            }
+        }
+        if(digits==0){
+            return false;
+        }
+        if(index<len && (value.charAt(index)=='e' || value.charAt(index)=='E')){
+            index = skipExponent(value, index + 1, len, true);
+        }
+        return index==len;
+    }
+
+    /**
+     * Evaluates the index of the first character of the given range, not being whitespace as defined by
+     * {@link String#trim()}.
+     * @param value the value, not null.
+     * @param begin the begin index, inclusive.
+     * @param end the end index, exclusive.
+     * @return the index, {@code end} if the range is blank.
+     */
+    static int trimStart(String value, int begin, int end){
+        while(begin<end && value.charAt(begin)<=' '){
+            begin++;
+        }
+        return begin;
+    }
+
+    /**
+     * Evaluates the index after the last character of the given range, not being whitespace as defined by
+     * {@link String#trim()}.
+     * @param value the value, not null.
+     * @param begin the begin index, inclusive.
+     * @param end the end index, exclusive.
+     * @return the index, {@code begin} if the range is blank.
+     */
+    static int trimEnd(String value, int begin, int end){
+        while(end>begin && value.charAt(end-1)<=' '){
+            end--;
+        }
+        return end;
+    }
+
+    private static int indexOfAlias(String value, int begin, int end, String[] aliases){
+        for(int i=0;i<aliases.length;i++){
+            String alias = aliases[i];
+            if(alias.length()==end-begin && value.regionMatches(true, begin, alias, 0, alias.length())){
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isDecodable(String value, int begin, int end, long min, long max){
+        int index = skipSign(value, begin, end);
+        boolean negative = index>begin && value.charAt(begin)=='-';
+        int radix = getRadix(value, index, end);
+        index += getRadixPrefixLength(value, index, radix);
+        if(index>=end){
+            return false;
+        }
+        // accumulating negatively, to cover the full range
+        long limit = negative ? min : -max;
+        long multmin = limit / radix;
+        long result = 0;
+        for(int i=index;i<end;i++){
+            int digit = Character.digit(value.charAt(i), radix);
+            if(digit<0 || result<multmin){
+                return false;
+            }
+            result *= radix;
+            if(result < limit + digit){
+                return false;
+            }
+            result -= digit;
+        }
+        return true;
+    }
+
+    /**
+     * Decodes a value checked by {@link #isDecodable(String, int, int, long, long)}.
+     */
+    private static long decode(String value, int begin, int end){
+        int index = skipSign(value, begin, end);
+        boolean negative = index>begin && value.charAt(begin)=='-';
+        int radix = getRadix(value, index, end);
+        index += getRadixPrefixLength(value, index, radix);
+        long result = 0;
+        for(int i=index;i<end;i++){
+            result = result * radix - Character.digit(value.charAt(i), radix);
+        }
+        return negative ? result : -result;
+    }
+
+    private static int skipSign(String value, int begin, int end){
+        if(begin<end && (value.charAt(begin)=='-' || value.charAt(begin)=='+')){
+            return begin + 1;
+        }
+        return begin;
+    }
+
+    private static int getRadix(String value, int index, int end){
+        if(index<end && value.charAt(index)=='#'){
+            return 16;
+        }
+        if(index+1<end && value.charAt(index)=='0'){
+            char next = value.charAt(index+1);
+            return next=='x' || next=='X' ? 16 : 8;
+        }
+        return 10;
+    }
+
+    private static int getRadixPrefixLength(String value, int index, int radix){
+        switch(radix){
+            case 16:
+                return value.charAt(index)=='#' ? 1 : 2;
+            case 8:
+                return 1;
+            default:
+                return 0;
+        }
+    }
+
+    private static boolean isFloatingPoint(String value, int begin, int end){
+        int index = begin;
+        if(index<end && (value.charAt(index)=='-' || value.charAt(index)=='+')){
+            index++;
+        }
+        if(value.startsWith("NaN", index)){
+            return end == index + 3;
+        }
+        if(value.startsWith("Infinity", index)){
+            return end == index + 8;
+        }
+        boolean hex = index+1<end && value.charAt(index)=='0'
+                && (value.charAt(index+1)=='x' || value.charAt(index+1)=='X');
+        if(hex){
+            index += 2;
+        }
+        int radix = hex ? 16 : 10;
+        int digits = 0;
+        while(index<end && isAsciiDigit(value.charAt(index), radix)){
+            index++;
+            digits++;
+        }
+        if(index<end && value.charAt(index)=='.'){
+            index++;
+            while(index<end && isAsciiDigit(value.charAt(index), radix)){
+                index++;
+                digits++;
+            }
+        }
+        if(digits==0){
+            return false;
+        }
+        char exponent = hex ? 'p' : 'e';
+        if(index<end && Character.toLowerCase(value.charAt(index))==exponent){
+            index = skipExponent(value, index + 1, end, false);
+            if(index<0){
+                return false;
+            }
+        }else if(hex){
+            // binary exponent is mandatory for hexadecimal literals
+            return false;
+        }
+        if(index==end-1){
+            char suffix = value.charAt(index);
+            return suffix=='f' || suffix=='F' || suffix=='d' || suffix=='D';
+        }
+        return index==end;
+    }
+
+    /**
+     * Skips an optionally signed decimal exponent.
+     * @param value the value.
+     * @param index the index of the first character after the exponent indicator.
+     * @param end the end index.
+     * @param unicodeDigits true, if all unicode digits are allowed, false for ASCII digits only.
+     * @return the index after the exponent, or -1, if no exponent digits are present.
+     */
+    private static int skipExponent(String value, int index, int end, boolean unicodeDigits){
+        if(index<end && (value.charAt(index)=='-' || value.charAt(index)=='+')){
+            index++;
+        }
+        int start = index;
+        while(index<end && (unicodeDigits ? Character.isDigit(value.charAt(index))
+                : isAsciiDigit(value.charAt(index), 10))){
+            index++;
+        }
+        return index==start ? -1 : index;
+    }
+
+    private static boolean isAsciiDigit(char c, int radix){
+        return (c>='0' && c<='9') || (radix==16 && ((c>='a' && c<='f') || (c>='A' && c<='F')));
+    }
+}
@@ -33,14 +33,25 @@ import java.util.logging.Logger;
 @Component(service = PropertyConverter.class)
 public class OffsetDateTimeConverter implements PropertyConverter<OffsetDateTime> {
 
-    private final Logger LOG = Logger.getLogger(getClass().getName());
+    private static final Logger LOG = Logger.getLogger(OffsetDateTimeConverter.class.getName());
+    /**
+     * The parse results, if enabled.
+     */
+    private static final ParseCache<OffsetDateTime> CACHE = ParseCache.create(OffsetDateTime.class.getName());
 
     @Override
     public OffsetDateTime convert(String value, ConversionContext ctx) {
-        ctx.addSupportedFormats(getClass(), OffsetDateTime.now().toString());
-        if(value==null){
-            return null;
+        if(value!=null){
+            OffsetDateTime result = CACHE.get(value, OffsetDateTimeConverter::parse);
+            if(result!=null){
+                return result;
+            }
         }
+        ctx.addSupportedFormats(getClass(), OffsetDateTime.now().toString());
+        return null;
+    }
+
+    private static OffsetDateTime parse(String value) {
         try{
             return OffsetDateTime.parse(value);
         }catch(Exception e){
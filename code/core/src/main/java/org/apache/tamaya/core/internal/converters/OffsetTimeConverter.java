@@ -37,14 +37,15 @@ public class OffsetTimeConverter implements PropertyConverter<OffsetTime> {
 
     @Override
     public OffsetTime convert(String value, ConversionContext ctx) {
-        ctx.addSupportedFormats(getClass(), OffsetTime.now().toString());
         if(value==null){
+            ctx.addSupportedFormats(getClass(), OffsetTime.now().toString());
             return null;
         }
         try{
             return OffsetTime.parse(value);
         }catch(Exception e){
             LOG.log(Level.FINEST, e, () -> "Cannot parse OffsetTime: " + value);
+            ctx.addSupportedFormats(getClass(), OffsetTime.now().toString());
             return null;
         }
     }
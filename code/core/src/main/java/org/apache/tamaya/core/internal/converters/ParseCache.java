@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tamaya.core.internal.converters;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * Opt-in, bounded cache for the results of converters parsing values into immutable instances, keyed by the
+ * value parsed. Values that cannot be parsed are cached as well, so repeated failures do not cause the
+ * exceptions of the JDK parse methods again.
+ * <p>
+ * The maximal number of entries per cache is configured by the system property or environment variable
+ * {@value #SIZE_PROPERTY}, by default caching is disabled. Once full, no further entries are added.
+ * </p>
+ * This class is thread-safe.
+ * @param <T> the type of the parse results.
+ */
+public final class ParseCache<T> {
+
+    /** The system property or environment variable defining the maximal number of entries per cache. */
+    public static final String SIZE_PROPERTY = "tamaya.converters.parse-cache.size";
+
+    private static final Logger LOG = Logger.getLogger(ParseCache.class.getName());
+    /** The marker cached for values that cannot be parsed. */
+    private static final Object UNPARSEABLE = new Object();
+    /** All caches created using {@link #create(String)}. */
+    private static final List<ParseCache<?>> CACHES = new CopyOnWriteArrayList<>();
+
+    /** The name of the cache, typically the target type. */
+    private final String name;
+    /** The maximal number of entries, {@code 0} disables caching. */
+    private final int maxSize;
+    /** The parse results, keyed by the value parsed. */
+    private final Map<String, Object> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a new cache.
+     * @param name the name of the cache, not null.
+     * @param maxSize the maximal number of entries, {@code 0} disables caching.
+     */
+    ParseCache(String name, int maxSize){
+        if(maxSize<0){
+            throw new IllegalArgumentException("Cache size must not be negative: " + maxSize);
+        }
+        this.name = name;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Creates a new cache sized by {@value #SIZE_PROPERTY}, listed by {@link #getCaches()}.
+     * @param name the name of the cache, not null.
+     * @param <T> the type of the parse results.
+     * @return the new cache, never null.
+     */
+    static <T> ParseCache<T> create(String name){
+        ParseCache<T> cache = new ParseCache<>(name, evaluateMaxSize());
+        CACHES.add(cache);
+        return cache;
+    }
+
+    /**
+     * Get all caches used by the converters, e.g. for monitoring their hit rates.
+     * @return the caches, never null.
+     */
+    public static List<ParseCache<?>> getCaches(){
+        return Collections.unmodifiableList(CACHES);
+    }
+
+    /**
+     * Access the parse result of the given value, parsing it, if not cached.
+     * @param value the value, not null.
+     * @param parser the parse function, returning null if the value cannot be parsed, not null.
+     * @return the parse result, or null, if the value cannot be parsed.
+     */
+    @SuppressWarnings("unchecked")
+    T get(String value, Function<String, T> parser){
+        if(maxSize==0){
+            return parser.apply(value);
+        }
+        Object result = entries.get(value);
+        if(result!=null){
+            hits.increment();
+            return result==UNPARSEABLE ? null : (T)result;
+        }
+        misses.increment();
+        T parsed = parser.apply(value);
+        if(entries.size() < maxSize){
+            entries.put(value, parsed==null ? UNPARSEABLE : parsed);
+        }
+        return parsed;
+    }
+
+    /**
+     * Get the name of the cache.
+     * @return the name, never null.
+     */
+    public String getName(){
+        return name;
+    }
+
+    /**
+     * Get the maximal number of entries.
+     * @return the maximal size, {@code 0} if caching is disabled.
+     */
+    public int getMaxSize(){
+        return maxSize;
+    }
+
+    /**
+     * Get the current number of entries.
+     * @return the number of cached entries.
+     */
+    public int size(){
+        return entries.size();
+    }
+
+    /**
+     * Removes all entries from the cache.
+     */
+    public void invalidateAll(){
+        entries.clear();
+    }
+
+    /**
+     * Get the number of cache hits.
+     * @return the hit count.
+     */
+    public long getHitCount(){
+        return hits.sum();
+    }
+
+    /**
+     * Get the number of cache misses.
+     * @return the miss count.
+     */
+    public long getMissCount(){
+        return misses.sum();
+    }
+
+    /**
+     * Get the ratio of hits to all accesses, while caching is enabled.
+     * @return the hit rate between {@code 0} and {@code 1}, or {@code 0} if the cache was not accessed.
+     */
+    public double getHitRate(){
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total==0 ? 0 : (double)hitCount / total;
+    }
+
+    @Override
+    public String toString() {
+        return "ParseCache{" +
+                "name=" + name +
+                ", size=" + entries.size() +
+                ", maxSize=" + maxSize +
+                ", hitRate=" + getHitRate() +
+                '}';
+    }
+
+    private static int evaluateMaxSize(){
+        String value = System.getProperty(SIZE_PROPERTY);
+        if(value==null){
+            value = System.getenv(SIZE_PROPERTY);
+        }
+        if(value==null){
+            return 0;
+        }
+        try{
+            return Math.max(0, Integer.parseInt(value.trim()));
+        }catch(NumberFormatException e){
+            LOG.warning("Invalid " + SIZE_PROPERTY + ", parse caching disabled: " + value);
+            return 0;
+        }
+    }
+}
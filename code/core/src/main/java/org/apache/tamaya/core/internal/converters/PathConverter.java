@@ -34,22 +34,37 @@ import java.util.logging.Logger;
 @Component(service = PropertyConverter.class)
 public class PathConverter implements PropertyConverter<Path> {
 
-    private final Logger LOG = Logger.getLogger(getClass().getName());
+    private static final Logger LOG = Logger.getLogger(PathConverter.class.getName());
+    /**
+     * The parse results, if enabled.
+     */
+    private static final ParseCache<Path> CACHE = ParseCache.create(Path.class.getName());
+
+    /**
+     * The supported formats, reported if a value cannot be converted.
+     */
+    private static final String[] SUPPORTED_FORMATS = {"<File>"};
 
     @Override
     public Path convert(String value, ConversionContext ctx) {
-        ctx.addSupportedFormats(getClass(),"<File>");
-        if(value==null){
-            return null;
+        if(value!=null){
+            Path result = CACHE.get(value, PathConverter::parse);
+            if(result!=null){
+                return result;
+            }
         }
-        String trimmed = value.trim();
+        ctx.addSupportedFormats(getClass(), SUPPORTED_FORMATS);
+        return null;
+    }
+
+    private static Path parse(String value) {
         if(value.isEmpty()){
             return null;
         }
         try {
             return FileSystems.getDefault().getPath(value);
         } catch (Exception e) {
-            LOG.log(Level.FINE, "Unparseable Path: " + trimmed, e);
+            LOG.log(Level.FINE, "Unparseable Path: " + value.trim(), e);
             return null;
         }
     }
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tamaya.core.internal.converters;
+
+import org.apache.tamaya.TypeLiteral;
+import org.apache.tamaya.spi.ConversionContext;
+import org.apache.tamaya.spi.PropertyConverter;
+import org.osgi.service.component.annotations.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+/**
+ * Converter, converting from a comma separated String to an unmodifiable Set, converting the elements to the
+ * set's element type, e.g. {@code a, b, c} or {@code 1,2,3}. Blank elements are ignored.
+ */
+@Component(service = PropertyConverter.class)
+public class SetConverter implements PropertyConverter<Set> {
+
+    private static final Logger LOG = Logger.getLogger(SetConverter.class.getName());
+
+    /**
+     * The supported formats, reported if a value cannot be converted.
+     */
+    private static final String[] SUPPORTED_FORMATS = {"<element>,<element>,..."};
+
+    @Override
+    public Set convert(String value, ConversionContext ctx) {
+        if(value!=null){
+            ElementConversion<?> conversion = new ElementConversion<>(ctx.getConfiguration(), ctx.getKey(),
+                    TypeLiteral.of(ElementConversion.getElementType(ctx.getTargetType().getType())));
+            SplitIndex index = new SplitIndex(value);
+            Set<Object> result = new LinkedHashSet<>();
+            for(int i=0;i<index.size();i++){
+                Object element = conversion.convert(index.getElement(i));
+                if(element==null){
+                    LOG.finest(() -> "Cannot convert Set element to " + conversion.getType() + ": " + value);
+                    ctx.addSupportedFormats(getClass(), SUPPORTED_FORMATS);
+                    return null;
+                }
+                result.add(element);
+            }
+            return Collections.unmodifiableSet(result);
+        }
+        ctx.addSupportedFormats(getClass(), SUPPORTED_FORMATS);
+        return null;
+    }
+
+    @Override
+    public Set tryConvert(String value, ConversionContext ctx) {
+        return convert(value, ctx);
+    }
+
+    @Override
+    public boolean equals(Object o){
+        return Objects.nonNull(o) && getClass().equals(o.getClass());
+    }
+
+    @Override
+    public int hashCode(){
+        return getClass().hashCode();
+    }
+}
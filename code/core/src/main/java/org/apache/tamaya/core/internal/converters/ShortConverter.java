@@ -22,7 +22,6 @@ import org.apache.tamaya.spi.ConversionContext;
 import org.apache.tamaya.spi.PropertyConverter;
 import org.osgi.service.component.annotations.Component;
 
-import java.util.Locale;
 import java.util.Objects;
 import java.util.logging.Logger;
 
@@ -49,28 +48,28 @@ public class ShortConverter implements PropertyConverter<Short>{
     /** the logger. */
     private static final Logger LOG = Logger.getLogger(ShortConverter.class.getName());
 
+    /**
+     * The supported formats, reported if a value cannot be converted.
+     */
+    private static final String[] SUPPORTED_FORMATS = {"short", "MIN", "MIN_VALUE", "MAX", "MAX_VALUE"};
+
     @Override
     public Short convert(String value, ConversionContext ctx) {
-        ctx.addSupportedFormats(getClass(), "short", "MIN", "MIN_VALUE", "MAX", "MAX_VALUE");
         if(value==null){
+            ctx.addSupportedFormats(getClass(), SUPPORTED_FORMATS);
             return null;
         }
-        String trimmed = value.trim();
-        switch(trimmed.toUpperCase(Locale.ENGLISH)){
-            case "MIN_VALUE":
-            case "MIN":
-                return Short.MIN_VALUE;
-            case "MAX_VALUE":
-            case "MAX":
-                return Short.MAX_VALUE;
-            default:
-                try {
-                    return Short.decode(trimmed);
-                } catch(Exception e) {
-                    LOG.finest("Unparseable Short: " + trimmed);
-                    return null;
-                }
+        if(NumberParser.isIntegral(value, Short.MIN_VALUE, Short.MAX_VALUE)) {
+            return (short)NumberParser.parseIntegral(value, Short.MIN_VALUE, Short.MAX_VALUE);
         }
+        LOG.finest("Unparseable Short: " + value);
+        ctx.addSupportedFormats(getClass(), SUPPORTED_FORMATS);
+        return null;
+    }
+
+    @Override
+    public Short tryConvert(String value, ConversionContext ctx) {
+        return convert(value, ctx);
     }
 
     @Override
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tamaya.core.internal.converters;
+
+import java.util.Arrays;
+
+/**
+ * Index of the elements of a comma separated value, evaluated by scanning the value once. The elements are
+ * accessed as index ranges of the original value, ignoring surrounding whitespace as {@link String#trim()}
+ * does, so no intermediate arrays of substrings are created. Blank elements are ignored.
+ */
+final class SplitIndex {
+
+    /** The separator of the elements. */
+    static final char SEPARATOR = ',';
+
+    /** The value indexed. */
+    private final String value;
+    /** The begin and end indexes of the elements, alternating. */
+    private int[] bounds;
+    /** The number of elements. */
+    private int size;
+
+    /**
+     * Creates a new index.
+     * @param value the value, not null.
+     */
+    SplitIndex(String value) {
+        this.value = value;
+        this.bounds = new int[8];
+        int begin = 0;
+        int len = value.length();
+        for(int i=0;i<=len;i++){
+            if(i==len || value.charAt(i)==SEPARATOR){
+                add(begin, i);
+                begin = i + 1;
+            }
+        }
+    }
+
+    private void add(int begin, int end) {
+        int start = NumberParser.trimStart(value, begin, end);
+        int stop = NumberParser.trimEnd(value, start, end);
+        if(start==stop){
+            return;
+        }
+        if(size*2==bounds.length){
+            bounds = Arrays.copyOf(bounds, bounds.length*2);
+        }
+        bounds[size*2] = start;
+        bounds[size*2+1] = stop;
+        size++;
+    }
+
+    /**
+     * Get the value indexed.
+     * @return the value, never null.
+     */
+    String getValue() {
+        return value;
+    }
+
+    /**
+     * Get the number of non blank elements.
+     * @return the number of elements.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Get the begin index of an element, without leading whitespace.
+     * @param index the element index.
+     * @return the begin index within the value, inclusive.
+     */
+    int getBegin(int index) {
+        return bounds[checkIndex(index)*2];
+    }
+
+    /**
+     * Get the end index of an element, without trailing whitespace.
+     * @param index the element index.
+     * @return the end index within the value, exclusive.
+     */
+    int getEnd(int index) {
+        return bounds[checkIndex(index)*2+1];
+    }
+
+    /**
+     * Get an element as String, returning the value itself if it is the only element without surrounding
+     * whitespace.
+     * @param index the element index.
+     * @return the element, never null.
+     */
+    String getElement(int index) {
+        return value.substring(getBegin(index), getEnd(index));
+    }
+
+    private int checkIndex(int index) {
+        if(index<0 || index>=size){
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return "SplitIndex{" +
+                "value='" + value + '\'' +
+                ", size=" + size +
+                '}';
+    }
+}
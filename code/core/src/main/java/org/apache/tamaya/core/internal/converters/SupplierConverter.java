@@ -19,54 +19,149 @@
 package org.apache.tamaya.core.internal.converters;
 
 import org.apache.tamaya.ConfigException;
+import org.apache.tamaya.Configuration;
 import org.apache.tamaya.TypeLiteral;
+import org.apache.tamaya.spi.ChangeSupport;
+import org.apache.tamaya.spi.ConfigurationContext;
 import org.apache.tamaya.spi.ConversionContext;
 import org.apache.tamaya.spi.PropertyConverter;
+import org.apache.tamaya.spi.PropertySource;
+import org.apache.tamaya.spisupport.PropertySourceVersions;
 import org.osgi.service.component.annotations.Component;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.Objects;
 import java.util.function.Supplier;
-import java.util.logging.Logger;
 
 /**
- * Converter, converting from String to Supplier.
+ * Converter, converting from String to Supplier. The suppliers returned reflect the current value of the key
+ * converted, the value is converted again only, if it has changed. If all mutable property sources of the
+ * configuration support change events and provide versions, the key is evaluated again only, if a version has
+ * changed. If the key is not present anymore, the supplier returns {@code null}.
  */
 @Component(service = PropertyConverter.class)
 public class SupplierConverter implements PropertyConverter<Supplier> {
 
-    private static final Logger LOG = Logger.getLogger(SupplierConverter.class.getName());
-
     @Override
     public Supplier convert(String value, ConversionContext context) {
-        return () -> {
+        return new LiveSupplier(value, context);
+    }
+
+    @Override
+    public boolean equals(Object o){
+        return Objects.nonNull(o) && getClass().equals(o.getClass());
+    }
+
+    @Override
+    public int hashCode(){
+        return getClass().hashCode();
+    }
+
+    /**
+     * Supplier evaluating the current value of the key converted, memoizing the last conversion result.
+     */
+    private static final class LiveSupplier implements Supplier<Object> {
+        /** The default version of {@link PropertySource#getVersion()}, which never changes. */
+        private static final String UNVERSIONED = "N/A";
+        /** The value converted, if no configuration or key is available. */
+        private final String initialValue;
+        /** The configuration, or null. */
+        private final Configuration configuration;
+        /** The key, or null. */
+        private final String key;
+        /** The target type of the supplier. */
+        private final Type targetType;
+        /** The property source versions, or null, if the key is evaluated on each access. */
+        private final PropertySourceVersions versions;
+        /** The last conversion, or null. */
+        private volatile Conversion conversion;
+
+        LiveSupplier(String initialValue, ConversionContext context) {
+            this.initialValue = initialValue;
+            this.configuration = context.getConfiguration();
+            this.key = context.getKey();
+            this.targetType = context.getTargetType().getType();
+            if(configuration != null && key != null && configuration.getContext() != null
+                    && isVersioned(configuration.getContext())){
+                this.versions = PropertySourceVersions.of(configuration.getContext());
+            }else{
+                this.versions = null;
+            }
+        }
+
+        @Override
+        public Object get() {
+            Conversion current = this.conversion;
+            if (configuration == null || key == null) {
+                if (current == null) {
+                    current = new Conversion(initialValue, convert(initialValue), null);
+                    this.conversion = current;
+                }
+                return current.result;
+            }
+            String[] version = versions != null ? versions.current() : null;
+            if (current != null && version != null && current.versions == version) {
+                return current.result;
+            }
+            String value = configuration.get(key);
+            if (current != null && Objects.equals(current.value, value)) {
+                this.conversion = new Conversion(value, current.result, version);
+                return current.result;
+            }
+            Object result = value != null ? convert(value) : null;
+            this.conversion = new Conversion(value, result, version);
+            return result;
+        }
+
+        /**
+         * Checks if changes of all mutable property sources of the given context are reflected by their versions.
+         * Sources not supporting change events or keeping the default version may change without notice.
+         * @param context the configuration context, not null.
+         * @return true, if values can be validated by the property source versions.
+         */
+        private static boolean isVersioned(ConfigurationContext context) {
+            for(PropertySource ps:context.getPropertySources()){
+                if(ps.getChangeSupport()==ChangeSupport.IMMUTABLE){
+                    continue;
+                }
+                if(ps.getChangeSupport()!=ChangeSupport.SUPPORTED || UNVERSIONED.equals(ps.getVersion())){
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private Object convert(String value) {
             try{
-                Type targetType = context.getTargetType().getType();
                 ParameterizedType pt = (ParameterizedType) targetType;
                 if(String.class.equals(pt.getActualTypeArguments()[0])){
                     return value;
                 }
                 ConvertQuery converter = new ConvertQuery(value, TypeLiteral.of(pt.getActualTypeArguments()[0]));
-                Object o = context.getConfiguration().adapt(converter);
+                Object o = configuration.adapt(converter);
                 if(o==null){
-                    throw new ConfigException("No such createValue: " + context.getKey());
+                    throw new ConfigException("No such createValue: " + key);
                 }
                 return o;
             }catch(Exception e){
                 throw new ConfigException("Error evaluating config createValue.", e);
             }
-        };
+        }
     }
 
-    @Override
-    public boolean equals(Object o){
-        return Objects.nonNull(o) && getClass().equals(o.getClass());
-    }
+    /**
+     * A value, its conversion result and the property source versions it was evaluated for.
+     */
+    private static final class Conversion {
+        private final String value;
+        private final Object result;
+        private final String[] versions;
 
-    @Override
-    public int hashCode(){
-        return getClass().hashCode();
+        Conversion(String value, Object result, String[] versions) {
+            this.value = value;
+            this.result = result;
+            this.versions = versions;
+        }
     }
-
 }
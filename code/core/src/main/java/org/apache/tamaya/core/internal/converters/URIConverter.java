@@ -33,18 +33,34 @@ import java.util.logging.Logger;
 @Component(service = PropertyConverter.class)
 public class URIConverter implements PropertyConverter<URI> {
 
-    private final Logger LOG = Logger.getLogger(getClass().getName());
+    private static final Logger LOG = Logger.getLogger(URIConverter.class.getName());
+    /**
+     * The parse results, if enabled.
+     */
+    private static final ParseCache<URI> CACHE = ParseCache.create(URI.class.getName());
+
+    /**
+     * The supported formats, reported if a value cannot be converted.
+     */
+    private static final String[] SUPPORTED_FORMATS = {"<uri> -> new URI(uri)"};
 
     @Override
     public URI convert(String value, ConversionContext ctx) {
-        ctx.addSupportedFormats(getClass(), "<uri> -> new URI(uri)");
-        if(value==null){
-            return null;
+        if(value!=null){
+            URI result = CACHE.get(value, URIConverter::parse);
+            if(result!=null){
+                return result;
+            }
         }
-        String trimmed = value.trim();
+        ctx.addSupportedFormats(getClass(), SUPPORTED_FORMATS);
+        return null;
+    }
+
+    private static URI parse(String value) {
         if(value.isEmpty()){
             return null;
         }
+        String trimmed = value.trim();
         try {
             return new URI(trimmed);
         } catch (Exception e) {
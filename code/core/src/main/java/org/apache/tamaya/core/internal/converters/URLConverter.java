@@ -33,21 +33,37 @@ import java.util.logging.Logger;
 @Component(service = PropertyConverter.class)
 public class URLConverter implements PropertyConverter<URL> {
 
-    private final Logger LOG = Logger.getLogger(getClass().getName());
+    private static final Logger LOG = Logger.getLogger(URLConverter.class.getName());
+    /**
+     * The parse results, if enabled.
+     */
+    private static final ParseCache<URL> CACHE = ParseCache.create(URL.class.getName());
+
+    /**
+     * The supported formats, reported if a value cannot be converted.
+     */
+    private static final String[] SUPPORTED_FORMATS = {"<URL>"};
 
     @Override
     public URL convert(String value, ConversionContext ctx) {
-        ctx.addSupportedFormats(getClass(),"<URL>");
-        if(value==null){
-            return null;
+        if(value!=null){
+            URL result = CACHE.get(value, URLConverter::parse);
+            if(result!=null){
+                return result;
+            }
         }
+        ctx.addSupportedFormats(getClass(), SUPPORTED_FORMATS);
+        return null;
+    }
+
+    private static URL parse(String value) {
         String trimmed = value.trim();
         try {
             return new URL(trimmed);
         } catch (Exception e) {
             LOG.log(Level.FINE, "Unparseable URL: " + trimmed, e);
+            return null;
         }
-        return null;
     }
 
     @Override
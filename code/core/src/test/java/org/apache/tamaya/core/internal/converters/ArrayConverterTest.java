@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tamaya.core.internal.converters;
+
+import org.apache.tamaya.Configuration;
+import org.apache.tamaya.TypeLiteral;
+import org.apache.tamaya.spi.ConversionContext;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the default converter for arrays.
+ */
+public class ArrayConverterTest {
+
+    @Test
+    public void testConvert_Strings() {
+        String[] valueRead = Configuration.current().get("tests.converter.list.strings", String[].class);
+        assertThat(valueRead).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    public void testConvert_BoxedIntegers() {
+        Integer[] valueRead = Configuration.current().get("tests.converter.list.numbers", Integer[].class);
+        assertThat(valueRead).containsExactly(1, 2, Integer.MAX_VALUE);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testConvert_GenericComponentType() {
+        List<String>[] valueRead = Configuration.current().get("tests.converter.list.strings",
+                new TypeLiteral<List<String>[]>() {});
+        assertThat(valueRead).hasSize(3);
+        assertThat(valueRead[2]).containsExactly("c");
+    }
+
+    @Test
+    public void testConvert_UnsupportedTargetTypes() {
+        ConversionContext context = new ConversionContext.Builder(TypeLiteral.of(short[].class))
+                .setConfiguration(Configuration.current()).build();
+        assertThat(new ArrayConverter().convert("1", context)).isNull();
+        context = new ConversionContext.Builder(TypeLiteral.of(Object.class)).build();
+        assertThat(new ArrayConverter().convert("1", context)).isNull();
+        assertThat(context.getSupportedFormats()).contains("<element>,<element>,... (ArrayConverter)");
+    }
+
+    @Test
+    public void testConvert_InvalidElement() {
+        ConversionContext context = new ConversionContext.Builder(TypeLiteral.of(Integer[].class))
+                .setConfiguration(Configuration.current()).build();
+        assertThat(new ArrayConverter().convert("1, x", context)).isNull();
+    }
+
+    @Test
+    public void testEquality() {
+        assertThat(new ArrayConverter()).isEqualTo(new ArrayConverter());
+        assertThat(new ArrayConverter()).isNotEqualTo(new IntArrayConverter());
+        assertThat(new ArrayConverter().hashCode()).isEqualTo(ArrayConverter.class.hashCode());
+    }
+}
@@ -130,6 +130,33 @@ public class BooleanConverterTest {
         assertThat(valueRead).isNull();
     }
 
+    @Test
+    public void testGetBoolean() {
+        Configuration config = Configuration.current();
+        assertThat(config.getBoolean("tests.converter.boolean.yes2")).isTrue();
+        assertThat(config.getBoolean("tests.converter.boolean.no3", true)).isFalse();
+        assertThat(config.getBoolean("tests.converter.boolean.missing", true)).isTrue();
+    }
+
+    @Test(expected = ConfigException.class)
+    public void testGetBoolean_Invalid() {
+        Configuration.current().getBoolean("tests.converter.boolean.invalid", true);
+    }
+
+    @Test
+    public void testCanConvert() {
+        BooleanConverter converter = new BooleanConverter();
+        assertThat(converter.canConvert(" yes ")).isTrue();
+        assertThat(converter.canConvert("0")).isTrue();
+        assertThat(converter.canConvert("invalid")).isFalse();
+        assertThat(converter.canConvert("")).isFalse();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConvertBoolean_Invalid() {
+        new BooleanConverter().convertBoolean("invalid");
+    }
+
     @Test
     public void callToConvertAddsMoreSupportedFormatsToTheContext() throws Exception {
         ConversionContext context = new ConversionContext.Builder(TypeLiteral.of(Boolean.class)).build();
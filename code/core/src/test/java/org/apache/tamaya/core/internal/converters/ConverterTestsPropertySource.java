@@ -289,6 +289,14 @@ public class ConverterTestsPropertySource implements PropertySource {
                 return PropertyValue.createValue(key, "-0X0107");
             case "tests.converter.bd.invalid":
                 return PropertyValue.createValue(key, "invalid");
+            case "tests.converter.list.strings":
+                return PropertyValue.createValue(key, "a, b,, c");
+            case "tests.converter.list.numbers":
+                return PropertyValue.createValue(key, "1, 0x2 ,max");
+            case "tests.converter.list.duplicates":
+                return PropertyValue.createValue(key, "b,a,b");
+            case "tests.converter.list.invalid":
+                return PropertyValue.createValue(key, "1, x");
             default:
                 return null;
         }
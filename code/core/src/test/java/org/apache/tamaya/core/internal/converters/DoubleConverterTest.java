@@ -181,6 +181,35 @@ public class DoubleConverterTest {
         config.get("tests.converter.double.invalid", Double.class);
     }
 
+    @Test
+    public void testGetDouble() {
+        Configuration config = Configuration.current();
+        assertThat(config.getDouble("tests.converter.double.decimal")).isCloseTo(1.23456789, within(0.0000001));
+        assertThat(config.getDouble("tests.converter.double.hex1", 0.0)).isEqualTo(255.0);
+        assertThat(config.getDouble("tests.converter.double.nan")).isNaN();
+        assertThat(config.getDouble("tests.converter.double.missing", 4.2)).isEqualTo(4.2);
+    }
+
+    @Test(expected = ConfigException.class)
+    public void testGetDouble_Invalid() {
+        Configuration.current().getDouble("tests.converter.double.invalid");
+    }
+
+    @Test
+    public void testCanConvert() {
+        DoubleConverter converter = new DoubleConverter();
+        assertThat(converter.canConvert(" 1.5 ")).isTrue();
+        assertThat(converter.canConvert("NaN")).isTrue();
+        assertThat(converter.canConvert("0x10")).isTrue();
+        assertThat(converter.canConvert("invalid")).isFalse();
+        assertThat(converter.canConvert("")).isFalse();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConvertDouble_Invalid() {
+        new DoubleConverter().convertDouble("invalid");
+    }
+
     @Test
     public void callToConvertAddsMoreSupportedFormatsToTheContext() throws Exception {
         ConversionContext context = new ConversionContext.Builder(TypeLiteral.of(Double.class)).build();
@@ -69,6 +69,22 @@ public class DurationConverterTest {
         assertThat(duration).isNull();
     }
 
+    @Test
+    public void tryConvert_MatchesDurationParse() throws Exception {
+        DurationConverter conv = new DurationConverter();
+        for (String value : new String[]{"P", "-P", "PT", "P1DT", "PT1S", "pt1s", "P1D", "-P-6H+3M", "PT1.5S",
+                "PT1,5S", "PT1.S", "PT.5S", "PT1.1234567890S", "P1H", "PT1D", "P1DT1H1M1S", "PT9223372036854775807H",
+                "1", "", "P1W", "P 1D", "+P1D", "PT-0.5S"}) {
+            Duration expected;
+            try {
+                expected = Duration.parse(value);
+            } catch (RuntimeException e) {
+                expected = null;
+            }
+            assertThat(conv.tryConvert(value, context)).as(value).isEqualTo(expected);
+        }
+    }
+
     @Test
     public void equalsAndHashcode() throws Exception {
         DurationConverter conv1 = new DurationConverter();
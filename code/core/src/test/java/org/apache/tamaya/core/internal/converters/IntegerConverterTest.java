@@ -117,6 +117,46 @@ public class IntegerConverterTest {
         config.get("tests.converter.integer.invalid", Integer.class);
     }
 
+    @Test
+    public void testGetInt() {
+        Configuration config = Configuration.current();
+        assertThat(config.getInt("tests.converter.integer.decimal")).isEqualTo(101);
+        assertThat(config.getInt("tests.converter.integer.hex.lowerX", 0)).isEqualTo(0x2F);
+        assertThat(config.getInt("tests.converter.integer.min")).isEqualTo(Integer.MIN_VALUE);
+        assertThat(config.getInt("tests.converter.integer.missing", 42)).isEqualTo(42);
+    }
+
+    @Test(expected = ConfigException.class)
+    public void testGetInt_Missing() {
+        Configuration.current().getInt("tests.converter.integer.missing");
+    }
+
+    @Test(expected = ConfigException.class)
+    public void testGetInt_Invalid() {
+        Configuration.current().getInt("tests.converter.integer.invalid", 42);
+    }
+
+    @Test
+    public void testConvertInt() {
+        IntegerConverter converter = new IntegerConverter();
+        assertThat(converter.convertInt(" -0x10 ")).isEqualTo(-16);
+        assertThat(converter.convertInt("Max")).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void testCanConvert() {
+        IntegerConverter converter = new IntegerConverter();
+        assertThat(converter.canConvert(" -0x10 ")).isTrue();
+        assertThat(converter.canConvert("Max")).isTrue();
+        assertThat(converter.canConvert("invalid")).isFalse();
+        assertThat(converter.canConvert("2147483648")).isFalse();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConvertInt_Invalid() {
+        new IntegerConverter().convertInt("invalid");
+    }
+
     @Test
     public void callToConvertAddsMoreSupportedFormatsToTheContext() throws Exception {
         ConversionContext context = new ConversionContext.Builder(TypeLiteral.of(Integer.class)).build();
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tamaya.core.internal.converters;
+
+import org.apache.tamaya.Configuration;
+import org.apache.tamaya.TypeLiteral;
+import org.apache.tamaya.spi.ConversionContext;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the default converter for Lists.
+ */
+public class ListConverterTest {
+
+    @Test
+    public void testConvert_Strings() {
+        List<String> valueRead = Configuration.current().get("tests.converter.list.strings",
+                new TypeLiteral<List<String>>() {});
+        assertThat(valueRead).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    public void testConvert_Integers() {
+        List<Integer> valueRead = Configuration.current().get("tests.converter.list.numbers",
+                new TypeLiteral<List<Integer>>() {});
+        assertThat(valueRead).containsExactly(1, 2, Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void testConvert_Collection() {
+        Collection valueRead = Configuration.current().get("tests.converter.list.strings", Collection.class);
+        assertThat(valueRead).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    public void testConvert_RawList() {
+        List valueRead = Configuration.current().get("tests.converter.list.numbers", List.class);
+        assertThat(valueRead).containsExactly("1", "0x2", "max");
+    }
+
+    @Test
+    public void testConvert_InvalidElement() {
+        ConversionContext context = new ConversionContext.Builder(new TypeLiteral<List<Integer>>() {})
+                .setConfiguration(Configuration.current()).build();
+        assertThat(new ListConverter().convert("1, x", context)).isNull();
+        assertThat(context.getSupportedFormats()).contains("<element>,<element>,... (ListConverter)");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testConvert_Unmodifiable() {
+        ConversionContext context = new ConversionContext.Builder(TypeLiteral.of(List.class)).build();
+        new ListConverter().convert("a", context).add("b");
+    }
+
+    @Test
+    public void testEquality() {
+        assertThat(new ListConverter()).isEqualTo(new ListConverter());
+        assertThat(new ListConverter()).isNotEqualTo(new SetConverter());
+        assertThat(new ListConverter().hashCode()).isEqualTo(ListConverter.class.hashCode());
+    }
+}
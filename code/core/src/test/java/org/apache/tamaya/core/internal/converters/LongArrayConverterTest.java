@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tamaya.core.internal.converters;
+
+import org.apache.tamaya.Configuration;
+import org.apache.tamaya.TypeLiteral;
+import org.apache.tamaya.spi.ConversionContext;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the default converter for long arrays.
+ */
+public class LongArrayConverterTest {
+
+    private final ConversionContext context = new ConversionContext.Builder(TypeLiteral.of(long[].class)).build();
+
+    @Test
+    public void testConvert() {
+        long[] valueRead = Configuration.current().get("tests.converter.list.numbers", long[].class);
+        assertThat(valueRead).containsExactly(1L, 2L, Long.MAX_VALUE);
+    }
+
+    @Test
+    public void testConvert_Formats() {
+        assertThat(new LongArrayConverter().convert(" -0x10,010 , #f,, MIN_VALUE", context))
+                .containsExactly(-16L, 8L, 15L, Long.MIN_VALUE);
+        assertThat(new LongArrayConverter().convert("", context)).isEmpty();
+    }
+
+    @Test
+    public void testConvert_Invalid() {
+        assertThat(new LongArrayConverter().convert("1, x", context)).isNull();
+        assertThat(new LongArrayConverter().convert("1, 99999999999999999999", context)).isNull();
+        assertThat(new LongArrayConverter().convert(null, context)).isNull();
+        assertThat(context.getSupportedFormats()).contains("<long>,<long>,... (LongArrayConverter)");
+    }
+
+    @Test
+    public void testEquality() {
+        assertThat(new LongArrayConverter()).isEqualTo(new LongArrayConverter());
+        assertThat(new LongArrayConverter()).isNotEqualTo(new IntArrayConverter());
+        assertThat(new LongArrayConverter().hashCode()).isEqualTo(LongArrayConverter.class.hashCode());
+    }
+}
@@ -117,6 +117,33 @@ public class LongConverterTest {
         config.get("tests.converter.long.invalid", Long.class);
     }
 
+    @Test
+    public void testGetLong() {
+        Configuration config = Configuration.current();
+        assertThat(config.getLong("tests.converter.long.max")).isEqualTo(Long.MAX_VALUE);
+        assertThat(config.getLong("tests.converter.long.min", 0L)).isEqualTo(Long.MIN_VALUE);
+        assertThat(config.getLong("tests.converter.long.missing", 42L)).isEqualTo(42L);
+    }
+
+    @Test(expected = ConfigException.class)
+    public void testGetLong_Invalid() {
+        Configuration.current().getLong("tests.converter.long.invalid");
+    }
+
+    @Test
+    public void testCanConvert() {
+        LongConverter converter = new LongConverter();
+        assertThat(converter.canConvert("123")).isTrue();
+        assertThat(converter.canConvert("min_value")).isTrue();
+        assertThat(converter.canConvert("invalid")).isFalse();
+        assertThat(converter.canConvert("9223372036854775808")).isFalse();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConvertLong_Invalid() {
+        new LongConverter().convertLong("invalid");
+    }
+
     @Test
     public void callToConvertAddsMoreSupportedFormatsToTheContext() throws Exception {
         ConversionContext context = new ConversionContext.Builder(TypeLiteral.of(Long.class)).build();
@@ -0,0 +1,248 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tamaya.core.internal.converters;
+
+import org.apache.tamaya.TypeLiteral;
+import org.apache.tamaya.spi.ConversionContext;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests {@link NumberParser} against the corresponding JDK parse methods.
+ */
+public class NumberParserTest {
+
+    private static final List<String> SAMPLES = Arrays.asList("", "0", "-0", "+0", "1", "-1", "+1", "01", "08",
+            "0x", "0X1f", "-0x80", "#FF", "-#80", "0x-1", "+-1", "-", "+", "#", "00", "0.5", ".5", "5.", ".", "1e5",
+            "1E-5", "1e", "1e+", "-1.5e+3", "1.5f", "1.5D", "1.5x", "NaN", "-Infinity", "+NaN", "nan", "Infinityx",
+            "0x1p3", "0x1.8P-1", "0x.8p1", "0x1", "0x1.8", "0x1p", "0xp1", "127", "128", "-128", "-129", "32767",
+            "32768", "-32768", "2147483647", "2147483648", "-2147483648", "-2147483649", "9223372036854775807",
+            "9223372036854775808", "-9223372036854775808", "-9223372036854775809", "0x7fffffffffffffff",
+            "0x8000000000000000", "-0x8000000000000000", "١٢", "1٣", "1 2", "abc", "1_000",
+            "12345678901234567890", "1e2147483648");
+
+    private static final List<String> ALIAS_SAMPLES = Arrays.asList("MIN", "min", "Min_Value", "MAX", "mAx",
+            "MAX_VALUE", "MAXVALUE", "MAX_", "MINI", "NaN", "NAN", "nan", "positive_infinity", "NEGATIVE_INFINITY",
+            "Infinity", "-Infinity", "POSITIVE_INFINITYX", "M", "\u0131");
+
+    @Test
+    public void isDecodable_MatchesDecode() {
+        for (String sample : samples()) {
+            assertThat(NumberParser.isDecodable(sample, Long.MIN_VALUE, Long.MAX_VALUE))
+                    .as(sample).isEqualTo(succeeds(() -> Long.decode(sample)));
+            assertThat(NumberParser.isDecodable(sample, Integer.MIN_VALUE, Integer.MAX_VALUE))
+                    .as(sample).isEqualTo(succeeds(() -> Integer.decode(sample)));
+            assertThat(NumberParser.isDecodable(sample, Short.MIN_VALUE, Short.MAX_VALUE))
+                    .as(sample).isEqualTo(succeeds(() -> Short.decode(sample)));
+            assertThat(NumberParser.isDecodable(sample, Byte.MIN_VALUE, Byte.MAX_VALUE))
+                    .as(sample).isEqualTo(succeeds(() -> Byte.decode(sample)));
+        }
+    }
+
+    @Test
+    public void isFloatingPoint_MatchesParseDouble() {
+        for (String sample : samples()) {
+            assertThat(NumberParser.isFloatingPoint(sample))
+                    .as(sample).isEqualTo(succeeds(() -> Double.parseDouble(sample)));
+        }
+    }
+
+    @Test
+    public void isDecimal_MatchesBigDecimal() {
+        for (String sample : samples()) {
+            if (sample.equals("1e2147483648")) {
+                // exponent overflow is only detected by BigDecimal itself
+                continue;
+            }
+            assertThat(NumberParser.isDecimal(sample))
+                    .as(sample).isEqualTo(succeeds(() -> new BigDecimal(sample)));
+        }
+    }
+
+    @Test
+    public void parseIntegral_MatchesTrimmedDecodeWithAliases() {
+        for (String sample : convertibleSamples()) {
+            assertIntegral(sample, Long.MIN_VALUE, Long.MAX_VALUE);
+            assertIntegral(sample, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            assertIntegral(sample, Short.MIN_VALUE, Short.MAX_VALUE);
+            assertIntegral(sample, Byte.MIN_VALUE, Byte.MAX_VALUE);
+        }
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void parseIntegral_InvalidValue() {
+        NumberParser.parseIntegral("128", Byte.MIN_VALUE, Byte.MAX_VALUE);
+    }
+
+    @Test
+    public void converters_MatchTrimAndDecodeImplementation() {
+        ConversionContext context = new ConversionContext.Builder(TypeLiteral.of(Number.class)).build();
+        IntegerConverter integerConverter = new IntegerConverter();
+        LongConverter longConverter = new LongConverter();
+        ShortConverter shortConverter = new ShortConverter();
+        ByteConverter byteConverter = new ByteConverter();
+        DoubleConverter doubleConverter = new DoubleConverter();
+        FloatConverter floatConverter = new FloatConverter();
+        for (String sample : convertibleSamples()) {
+            Long integral = referenceIntegral(sample, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            assertThat(integerConverter.convert(sample, context))
+                    .as(sample).isEqualTo(integral == null ? null : integral.intValue());
+            assertThat(longConverter.convert(sample, context))
+                    .as(sample).isEqualTo(referenceIntegral(sample, Long.MIN_VALUE, Long.MAX_VALUE));
+            integral = referenceIntegral(sample, Short.MIN_VALUE, Short.MAX_VALUE);
+            assertThat(shortConverter.convert(sample, context))
+                    .as(sample).isEqualTo(integral == null ? null : integral.shortValue());
+            integral = referenceIntegral(sample, Byte.MIN_VALUE, Byte.MAX_VALUE);
+            assertThat(byteConverter.convert(sample, context))
+                    .as(sample).isEqualTo(integral == null ? null : integral.byteValue());
+            assertThat(doubleConverter.convert(sample, context))
+                    .as(sample).isEqualTo(referenceDouble(sample));
+            Double floatValue = referenceFloat(sample);
+            assertThat(floatConverter.convert(sample, context))
+                    .as(sample).isEqualTo(floatValue == null ? null : floatValue.floatValue());
+        }
+    }
+
+    private static void assertIntegral(String sample, long min, long max) {
+        Long expected = referenceIntegral(sample, min, max);
+        assertThat(NumberParser.isIntegral(sample, min, max)).as(sample).isEqualTo(expected != null);
+        if (expected != null) {
+            assertThat(NumberParser.parseIntegral(sample, min, max)).as(sample).isEqualTo(expected);
+        }
+    }
+
+    /**
+     * The former integral conversion, trimming and upper casing the value before decoding it.
+     */
+    private static Long referenceIntegral(String value, long min, long max) {
+        String trimmed = value.trim();
+        switch (trimmed.toUpperCase(Locale.ENGLISH)) {
+            case "MIN_VALUE":
+            case "MIN":
+                return min;
+            case "MAX_VALUE":
+            case "MAX":
+                return max;
+            default:
+                try {
+                    long result = Long.decode(trimmed);
+                    return result < min || result > max ? null : result;
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+        }
+    }
+
+    /**
+     * The former floating point conversion, falling back to integral values within the given range.
+     */
+    private static Double referenceFloatingPoint(String value, double minValue, double maxValue,
+                                                 long minIntegral, long maxIntegral) {
+        String trimmed = value.trim();
+        switch (trimmed.toUpperCase(Locale.ENGLISH)) {
+            case "POSITIVE_INFINITY":
+                return Double.POSITIVE_INFINITY;
+            case "NEGATIVE_INFINITY":
+                return Double.NEGATIVE_INFINITY;
+            case "NAN":
+                return Double.NaN;
+            case "MIN_VALUE":
+            case "MIN":
+                return minValue;
+            case "MAX_VALUE":
+            case "MAX":
+                return maxValue;
+            default:
+                try {
+                    return Double.parseDouble(trimmed);
+                } catch (NumberFormatException e) {
+                    Long integral = referenceIntegral(trimmed, minIntegral, maxIntegral);
+                    return integral == null ? null : (double) integral;
+                }
+        }
+    }
+
+    private static Double referenceDouble(String value) {
+        return referenceFloatingPoint(value, Double.MIN_VALUE, Double.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    private static Double referenceFloat(String value) {
+        String trimmed = value.trim();
+        try {
+            // parse as float directly, rounding via double may differ
+            return (double) Float.parseFloat(trimmed);
+        } catch (NumberFormatException e) {
+            Double result = referenceFloatingPoint(value, Float.MIN_VALUE, Float.MAX_VALUE,
+                    Integer.MIN_VALUE, Integer.MAX_VALUE);
+            return result == null ? null : (double) result.floatValue();
+        }
+    }
+
+    /**
+     * Get the samples, including aliases, each additionally surrounded by whitespace.
+     * @return the samples.
+     */
+    private static List<String> convertibleSamples() {
+        List<String> samples = new ArrayList<>(SAMPLES);
+        samples.addAll(ALIAS_SAMPLES);
+        Random random = new Random(42);
+        String[] whitespace = {" ", "\t", "\n ", "\u0000", "\u00a0"};
+        for (String sample : new ArrayList<>(samples)) {
+            samples.add(whitespace[random.nextInt(whitespace.length)] + sample
+                    + whitespace[random.nextInt(whitespace.length)]);
+        }
+        samples.addAll(samples());
+        return samples;
+    }
+
+    /**
+     * Get the fixed samples, and random strings composed of characters relevant for number parsing.
+     * @return the samples.
+     */
+    private static List<String> samples() {
+        List<String> samples = new ArrayList<>(SAMPLES);
+        String chars = "0123456789abcdefxXpP.+-#eE";
+        Random random = new Random(42);
+        for (int i = 0; i < 20000; i++) {
+            char[] value = new char[1 + random.nextInt(8)];
+            for (int j = 0; j < value.length; j++) {
+                value[j] = chars.charAt(random.nextInt(chars.length()));
+            }
+            samples.add(new String(value));
+        }
+        return samples;
+    }
+
+    private static boolean succeeds(Runnable parse) {
+        try {
+            parse.run();
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tamaya.core.internal.converters;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ParseCache}.
+ */
+public class ParseCacheTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private final Function<String, Integer> parser = value -> {
+        calls.incrementAndGet();
+        return value.startsWith("x") ? null : value.length();
+    };
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidSize() {
+        new ParseCache<>("test", -1);
+    }
+
+    @Test
+    public void get_CachesResultsAndFailures() {
+        ParseCache<Integer> cache = new ParseCache<>("test", 10);
+        assertThat(cache.get("abc", parser)).isEqualTo(3);
+        assertThat(cache.get("abc", parser)).isEqualTo(3);
+        assertThat(cache.get("xyz", parser)).isNull();
+        assertThat(cache.get("xyz", parser)).isNull();
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getHitCount()).isEqualTo(2);
+        assertThat(cache.getMissCount()).isEqualTo(2);
+        assertThat(cache.getHitRate()).isEqualTo(0.5);
+        cache.invalidateAll();
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void get_Bounded() {
+        ParseCache<Integer> cache = new ParseCache<>("test", 1);
+        cache.get("a", parser);
+        cache.get("bb", parser);
+        assertThat(cache.get("bb", parser)).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(calls.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void get_DisabledBySizeZero() {
+        ParseCache<Integer> cache = new ParseCache<>("test", 0);
+        cache.get("a", parser);
+        cache.get("a", parser);
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(0);
+        assertThat(cache.getHitRate()).isEqualTo(0);
+    }
+
+    @Test
+    public void getCaches_ListsConverterCaches() {
+        new URIConverter();
+        assertThat(ParseCache.getCaches()).extracting(ParseCache::getName).contains("java.net.URI");
+    }
+}
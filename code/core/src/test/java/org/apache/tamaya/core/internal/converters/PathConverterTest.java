@@ -75,11 +75,13 @@ public class PathConverterTest {
     }
 
     @Test
-    public void callToConvertAddsMoreSupportedFormatsToTheContext() throws Exception {
+    public void callToConvertAddsSupportedFormatsOnFailureOnly() throws Exception {
         ConversionContext context = new ConversionContext.Builder(TypeLiteral.of(Path.class)).build();
 
         PathConverter converter = new PathConverter();
         converter.convert("notempty", context);
+        assertThat(context.getSupportedFormats()).isEmpty();
+        converter.convert("", context);
 
         assertThat(context.getSupportedFormats()).contains("<File> (PathConverter)");
     }
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tamaya.core.internal.converters;
+
+import org.apache.tamaya.Configuration;
+import org.apache.tamaya.TypeLiteral;
+import org.apache.tamaya.spi.ConversionContext;
+import org.junit.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the default converter for Sets.
+ */
+public class SetConverterTest {
+
+    @Test
+    public void testConvert_KeepsOrderAndRemovesDuplicates() {
+        Set<String> valueRead = Configuration.current().get("tests.converter.list.duplicates",
+                new TypeLiteral<Set<String>>() {});
+        assertThat(valueRead).containsExactly("b", "a");
+    }
+
+    @Test
+    public void testConvert_Integers() {
+        Set<Integer> valueRead = Configuration.current().get("tests.converter.list.numbers",
+                new TypeLiteral<Set<Integer>>() {});
+        assertThat(valueRead).containsExactly(1, 2, Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void testConvert_InvalidElement() {
+        ConversionContext context = new ConversionContext.Builder(new TypeLiteral<Set<Integer>>() {})
+                .setConfiguration(Configuration.current()).build();
+        assertThat(new SetConverter().convert("1, x", context)).isNull();
+        assertThat(context.getSupportedFormats()).contains("<element>,<element>,... (SetConverter)");
+    }
+
+    @Test
+    public void testEquality() {
+        assertThat(new SetConverter()).isEqualTo(new SetConverter());
+        assertThat(new SetConverter()).isNotEqualTo(new ListConverter());
+        assertThat(new SetConverter().hashCode()).isEqualTo(SetConverter.class.hashCode());
+    }
+}
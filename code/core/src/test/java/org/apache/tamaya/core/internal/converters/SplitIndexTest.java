@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tamaya.core.internal.converters;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link SplitIndex}.
+ */
+public class SplitIndexTest {
+
+    @Test
+    public void testElements() {
+        SplitIndex index = new SplitIndex(" a, bc ,,\t d ,");
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.getElement(0)).isEqualTo("a");
+        assertThat(index.getElement(1)).isEqualTo("bc");
+        assertThat(index.getElement(2)).isEqualTo("d");
+        assertThat(index.getBegin(1)).isEqualTo(4);
+        assertThat(index.getEnd(1)).isEqualTo(6);
+    }
+
+    @Test
+    public void testBlankValue() {
+        assertThat(new SplitIndex("").size()).isEqualTo(0);
+        assertThat(new SplitIndex(" , ").size()).isEqualTo(0);
+    }
+
+    @Test
+    public void testSingleElementIsNotCopied() {
+        String value = "abc";
+        assertThat(new SplitIndex(value).getElement(0)).isSameAs(value);
+    }
+
+    @Test
+    public void testManyElements() {
+        StringBuilder value = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            value.append(i).append(',');
+        }
+        SplitIndex index = new SplitIndex(value.toString());
+        assertThat(index.size()).isEqualTo(100);
+        assertThat(index.getElement(99)).isEqualTo("99");
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testInvalidIndex() {
+        new SplitIndex("a").getBegin(1);
+    }
+}
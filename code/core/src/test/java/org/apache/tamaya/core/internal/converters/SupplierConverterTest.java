@@ -19,12 +19,16 @@
 package org.apache.tamaya.core.internal.converters;
 
 import java.net.InetAddress;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Supplier;
 import org.apache.tamaya.Configuration;
 import org.apache.tamaya.TypeLiteral;
+import org.apache.tamaya.spi.ChangeSupport;
+import org.apache.tamaya.spi.ConfigurationContext;
 import org.apache.tamaya.spi.ConversionContext;
 import org.apache.tamaya.spi.PropertyConverter;
+import org.apache.tamaya.spi.PropertySource;
 import org.junit.Test;
 import org.mockito.Mockito;
 
@@ -71,6 +75,73 @@ public class SupplierConverterTest {
 
 }
         
+    @Test
+    public void testConvert_ReconvertsOnlyChangedValues() {
+        Configuration mockConfig = Mockito.mock(Configuration.class);
+        Mockito.when(mockConfig.get("key")).thenReturn("1", "1", "2", null);
+        Mockito.when(mockConfig.adapt(any())).thenReturn(1, 2, 3);
+        TypeLiteral<Supplier<Integer>> type = new TypeLiteral<Supplier<Integer>>() {};
+        ConversionContext context = new ConversionContext.Builder("key", type)
+                .setConfiguration(mockConfig)
+                .build();
+        Supplier<Integer> supplier = new SupplierConverter().convert("1", context);
+
+        assertThat(supplier.get()).isEqualTo(1);
+        assertThat(supplier.get()).isEqualTo(1);
+        assertThat(supplier.get()).isEqualTo(2);
+        // the key is not present anymore
+        assertThat(supplier.get()).isNull();
+        Mockito.verify(mockConfig, Mockito.times(2)).adapt(any());
+    }
+
+    @Test
+    public void testConvert_EvaluatesKeyOnlyOnVersionChange() {
+        PropertySource ps = Mockito.mock(PropertySource.class);
+        Mockito.when(ps.getChangeSupport()).thenReturn(ChangeSupport.SUPPORTED);
+        Mockito.when(ps.getVersion()).thenReturn("1", "1", "1", "1", "2");
+        ConfigurationContext mockContext = Mockito.mock(ConfigurationContext.class);
+        Mockito.when(mockContext.getPropertySources()).thenReturn(Collections.singletonList(ps));
+        Configuration mockConfig = Mockito.mock(Configuration.class);
+        Mockito.when(mockConfig.getContext()).thenReturn(mockContext);
+        Mockito.when(mockConfig.get("key")).thenReturn("1", "2");
+        Mockito.when(mockConfig.adapt(any())).thenReturn(1, 2);
+        TypeLiteral<Supplier<Integer>> type = new TypeLiteral<Supplier<Integer>>() {};
+        ConversionContext context = new ConversionContext.Builder("key", type)
+                .setConfiguration(mockConfig)
+                .build();
+        Supplier<Integer> supplier = new SupplierConverter().convert("1", context);
+
+        assertThat(supplier.get()).isEqualTo(1);
+        assertThat(supplier.get()).isEqualTo(1);
+        Mockito.verify(mockConfig, Mockito.times(1)).get("key");
+        assertThat(supplier.get()).isEqualTo(2);
+        Mockito.verify(mockConfig, Mockito.times(2)).get("key");
+    }
+
+    @Test
+    public void testConvert_EvaluatesKeyOnEachAccessForUnversionedSources() {
+        PropertySource ps = Mockito.mock(PropertySource.class);
+        Mockito.when(ps.getChangeSupport()).thenReturn(ChangeSupport.UNSUPPORTED);
+        Mockito.when(ps.getVersion()).thenReturn("N/A");
+        ConfigurationContext mockContext = Mockito.mock(ConfigurationContext.class);
+        Mockito.when(mockContext.getPropertySources()).thenReturn(Collections.singletonList(ps));
+        Configuration mockConfig = Mockito.mock(Configuration.class);
+        Mockito.when(mockConfig.getContext()).thenReturn(mockContext);
+        Mockito.when(mockConfig.get("key")).thenReturn("1", "1", "2");
+        Mockito.when(mockConfig.adapt(any())).thenReturn(1, 2);
+        TypeLiteral<Supplier<Integer>> type = new TypeLiteral<Supplier<Integer>>() {};
+        ConversionContext context = new ConversionContext.Builder("key", type)
+                .setConfiguration(mockConfig)
+                .build();
+        Supplier<Integer> supplier = new SupplierConverter().convert("1", context);
+
+        assertThat(supplier.get()).isEqualTo(1);
+        assertThat(supplier.get()).isEqualTo(1);
+        assertThat(supplier.get()).isEqualTo(2);
+        Mockito.verify(mockConfig, Mockito.times(3)).get("key");
+        Mockito.verify(mockConfig, Mockito.times(2)).adapt(any());
+    }
+
     @Test
     public void testHashCode(){
         SupplierConverter instance = new SupplierConverter();
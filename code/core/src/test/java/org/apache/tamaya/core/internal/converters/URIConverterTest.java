@@ -73,11 +73,13 @@ public class URIConverterTest {
     }
 
     @Test
-    public void callToConvertAddsMoreSupportedFormatsToTheContext() throws Exception {
+    public void callToConvertAddsSupportedFormatsOnFailureOnly() throws Exception {
         ConversionContext context = new ConversionContext.Builder(TypeLiteral.of(URI.class)).build();
 
         URIConverter converter = new URIConverter();
         converter.convert("test:path", context);
+        assertThat(context.getSupportedFormats()).isEmpty();
+        converter.convert("a b", context);
 
 
         assertThat(context.getSupportedFormats()).contains("<uri> -> new URI(uri) (URIConverter)");
@@ -74,11 +74,13 @@ public class URLConverterTest {
     }
 
     @Test
-    public void callToConvertAddsMoreSupportedFormatsToTheContext() throws Exception {
+    public void callToConvertAddsSupportedFormatsOnFailureOnly() throws Exception {
         ConversionContext context = new ConversionContext.Builder(TypeLiteral.of(URL.class)).build();
 
         URLConverter converter = new URLConverter();
         converter.convert("http://localhost", context);
+        assertThat(context.getSupportedFormats()).isEmpty();
+        converter.convert("", context);
 
         assertThat(context.getSupportedFormats()).contains("<URL> (URLConverter)");
     }
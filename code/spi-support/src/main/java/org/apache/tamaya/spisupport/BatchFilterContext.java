@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tamaya.spisupport;
+
+import org.apache.tamaya.spi.ConfigurationContext;
+import org.apache.tamaya.spi.FilterContext;
+import org.apache.tamaya.spi.PropertyValue;
+
+import java.util.Map;
+
+/**
+ * {@link FilterContext} reused for filtering all values of a property map, sharing a single read-only view of
+ * the raw entries. Instances are not thread-safe and must only be used by one thread at a time.
+ */
+final class BatchFilterContext extends FilterContext {
+
+    /**
+     * Creates a new instance.
+     * @param configEntries the raw configuration entries, not {@code null}.
+     * @param configurationContext the current configurationContext, not {@code null}.
+     */
+    BatchFilterContext(Map<String, PropertyValue> configEntries, ConfigurationContext configurationContext) {
+        super(configEntries, configurationContext);
+    }
+
+    /**
+     * Points this context to the next value to be filtered.
+     * @param value the value under evaluation, not {@code null}.
+     * @return this instance.
+     */
+    BatchFilterContext reset(PropertyValue value) {
+        setProperty(value);
+        return this;
+    }
+}
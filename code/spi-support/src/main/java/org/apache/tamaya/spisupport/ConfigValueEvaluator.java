@@ -23,6 +23,7 @@ import org.apache.tamaya.spi.PropertySource;
 import org.apache.tamaya.spi.PropertyValue;
 
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -34,28 +35,51 @@ import java.util.logging.Logger;
 public interface ConfigValueEvaluator {
 
     /**
-     * Evaluates single createValue using a {@link ConfigurationContext}.
+     * Evaluates single createValue using a {@link ConfigurationContext}. The property sources are
+     * accessed in order of precedence, stopping at the first source providing a value. Property sources
+     * reporting the key as not contained by {@link PropertySource#mightContain(String)} are skipped.
      * @param key the config key, not null.
      * @param context the context, not null.
      * @return the createValue, or null.
      */
     default PropertyValue evaluateRawValue(String key, ConfigurationContext context){
-        List<PropertyValue> values = evaluateAllValues(key, context);
-        if(values.isEmpty()){
-            return null;
+        List<PropertySource> propertySources = context.getPropertySources();
+        ListIterator<PropertySource> iterator = propertySources.listIterator(propertySources.size());
+        while(iterator.hasPrevious()){
+            PropertySource ps = iterator.previous();
+            if(!ps.mightContain(key)){
+                continue;
+            }
+            try{
+                PropertyValue val = ps.get(key);
+                if(val!=null){
+                    return val;
+                }
+            }catch(Exception e){
+                Logger.getLogger(getClass().getName())
+                        .log(Level.WARNING, "Failed to access '"+key+"' from PropertySource: " + ps.getName(), e);
+            }
         }
-        return values.get(0);
+        return null;
     }
 
     /**
-     * Evaluates all values using a {@link ConfigurationContext}.
+     * Evaluates all values using a {@link ConfigurationContext}. Since this accesses all property sources, this is
+     * more expensive than {@link #evaluateRawValue(String, ConfigurationContext)} and should only be used, when
+     * all values are required, e.g. for collection types.
      * @param key the config key, not null.
      * @param context the context, not null.
-     * @return the createValue, or null.
+     * @return the values found in order of precedence, never null.
      */
     default List<PropertyValue> evaluateAllValues(String key, ConfigurationContext context){
+        List<PropertySource> propertySources = context.getPropertySources();
         List<PropertyValue> result = new ArrayList<>();
-        for(PropertySource ps:context.getPropertySources()){
+        ListIterator<PropertySource> iterator = propertySources.listIterator(propertySources.size());
+        while(iterator.hasPrevious()){
+            PropertySource ps = iterator.previous();
+            if(!ps.mightContain(key)){
+                continue;
+            }
             try{
                 PropertyValue val = ps.get(key);
                 if(val!=null){
@@ -66,8 +90,89 @@ public interface ConfigValueEvaluator {
                         .log(Level.WARNING, "Failed to access '"+key+"' from PropertySource: " + ps.getName(), e);
             }
         }
-        // Ensure returning values found in order of precedence.
-        Collections.reverse(result);
+        return result;
+    }
+
+    /**
+     * Evaluates the values of multiple keys using a {@link ConfigurationContext}. The property sources are
+     * accessed in order of precedence using {@link PropertySource#getAll(Collection)}, requesting only the keys
+     * not yet resolved. Values being {@code null} are not contained in the result.
+     * @param keys the config keys, not null.
+     * @param context the context, not null.
+     * @return the values found, keyed by the keys requested, never null.
+     */
+    default Map<String, PropertyValue> evaluateRawValues(Collection<String> keys, ConfigurationContext context){
+        Map<String, PropertyValue> result = new HashMap<>();
+        Set<String> remaining = new HashSet<>(keys);
+        Set<String> requested = Collections.unmodifiableSet(remaining);
+        List<PropertySource> propertySources = context.getPropertySources();
+        ListIterator<PropertySource> iterator = propertySources.listIterator(propertySources.size());
+        while(!remaining.isEmpty() && iterator.hasPrevious()){
+            PropertySource ps = iterator.previous();
+            try{
+                for(Map.Entry<String, PropertyValue> en:ps.getAll(requested).entrySet()){
+                    if(en.getValue()!=null && remaining.remove(en.getKey())){
+                        result.put(en.getKey(), en.getValue());
+                    }
+                }
+            }catch(Exception e){
+                Logger.getLogger(getClass().getName())
+                        .log(Level.WARNING, "Failed to access keys from PropertySource: " + ps.getName(), e);
+            }
+        }
+        result.values().removeIf(val -> val.getValueType()==PropertyValue.ValueType.VALUE && val.getValue()==null);
+        return result;
+    }
+
+    /**
+     * Passes all effective property values from a {@link ConfigurationContext} to the given consumer, without
+     * creating a merged map. The property sources are iterated in order of precedence using
+     * {@link PropertySource#forEachProperty(Consumer)}, so only the keys already passed are tracked.
+     * @param context the context, not null.
+     * @param consumer the consumer, not null.
+     */
+    default void forEachRawValue(ConfigurationContext context, Consumer<PropertyValue> consumer){
+        Set<String> visited = new HashSet<>();
+        List<PropertySource> propertySources = context.getPropertySources();
+        ListIterator<PropertySource> iterator = propertySources.listIterator(propertySources.size());
+        while(iterator.hasPrevious()){
+            PropertySource ps = iterator.previous();
+            try{
+                ps.forEachProperty(val -> {
+                    if(val!=null && (val.getValueType() != PropertyValue.ValueType.VALUE || val.getValue() != null)
+                            && visited.add(val.getKey())){
+                        consumer.accept(val);
+                    }
+                });
+            }catch(Exception e){
+                Logger.getLogger(getClass().getName())
+                        .log(Level.WARNING, "Failed to access properties from PropertySource: " + ps.getName(), e);
+            }
+        }
+    }
+
+    /**
+     * Evaluates all property values with keys starting with the given prefix from a {@link ConfigurationContext},
+     * using {@link PropertySource#getProperties(String)}.
+     * @param prefix the key prefix, not null.
+     * @param context the context, not null.
+     * @return the matching values, never null.
+     */
+    default Map<String, PropertyValue> evaluateRawValuesWithPrefix(String prefix, ConfigurationContext context){
+        Map<String, PropertyValue> result = new HashMap<>();
+        // Property sources are ordered ascending, so values with higher precedence override.
+        for(PropertySource ps:context.getPropertySources()){
+            try{
+                for(PropertyValue val:ps.getProperties(prefix).values()){
+                    if(val!=null && (val.getValueType() != PropertyValue.ValueType.VALUE || val.getValue() != null)){
+                        result.put(val.getKey(), val);
+                    }
+                }
+            }catch(Exception e){
+                Logger.getLogger(getClass().getName())
+                        .log(Level.WARNING, "Failed to access properties from PropertySource: " + ps.getName(), e);
+            }
+        }
         return result;
     }
 
@@ -78,9 +183,8 @@ public interface ConfigValueEvaluator {
      */
     default Map<String, PropertyValue> evaluateRawValues(ConfigurationContext context){
         Map<String, PropertyValue> result = new HashMap<>();
-        List<PropertySource> propertySources = context.getPropertySources();
-        Collections.reverse(propertySources);
-        for(PropertySource ps:propertySources){
+        // Property sources are ordered ascending, so values with higher precedence override.
+        for(PropertySource ps:context.getPropertySources()){
             try{
                 Map<String,PropertyValue> val = ps.getProperties();
                 if(val!=null){
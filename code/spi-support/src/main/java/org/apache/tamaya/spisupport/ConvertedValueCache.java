@@ -0,0 +1,285 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tamaya.spisupport;
+
+import org.apache.tamaya.TypeLiteral;
+import org.apache.tamaya.spi.ChangeSupport;
+import org.apache.tamaya.spi.ConfigurationContext;
+import org.apache.tamaya.spi.PropertySource;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Currency;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache for typed values converted by a configuration, keyed by the property key and the
+ * target {@link TypeLiteral}. Entries are validated the same way as by {@link ResolvedValueCache}, so a cached
+ * value is returned without accessing any property source: each entry carries the snapshot of the
+ * {@link PropertySource#getVersion()} of all property sources, which are not {@link ChangeSupport#IMMUTABLE},
+ * and {@link ChangeSupport#SUPPORTED} property sources additionally invalidate the keys reported to their
+ * change listeners.
+ * <p>
+ * Since cached instances are shared between callers, only results of well known immutable types
+ * (e.g. {@link String}, boxed primitives, {@link Enum}s, {@code java.time} types) are cached.
+ * </p>
+ * This class is thread-safe.
+ */
+public final class ConvertedValueCache {
+
+    /** The maximal number of entries. */
+    private final int maxSize;
+    /** The versions of the property sources, which may change. */
+    private final PropertySourceVersions versions;
+    /** The property sources this cache is listening on. */
+    private final List<PropertySource> listenedSources = new ArrayList<>();
+    /** Counter incremented with every invalidation. */
+    private final AtomicLong generation = new AtomicLong();
+    /** The cached entries, per target type. */
+    private final Map<TypeLiteral<?>, Map<String, CacheEntry>> entries = new ConcurrentHashMap<>();
+    /** The current number of entries. */
+    private final AtomicInteger size = new AtomicInteger();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    /** Listener registered on property sources supporting change events, not keeping this cache reachable. */
+    private final BiConsumer<Set<String>, PropertySource> listener =
+            new WeakChangeListener<>(this, ConvertedValueCache::invalidate);
+
+    /**
+     * Creates a new cache.
+     * @param context the configuration context, not null.
+     * @param maxSize the maximal number of entries cached, must be positive.
+     */
+    public ConvertedValueCache(ConfigurationContext context, int maxSize){
+        Objects.requireNonNull(context, "Context must be given.");
+        if(maxSize<=0){
+            throw new IllegalArgumentException("Cache size must be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        for(PropertySource ps:context.getPropertySources()){
+            if(ps.getChangeSupport()==ChangeSupport.SUPPORTED){
+                ps.addChangeListener(listener);
+                listenedSources.add(ps);
+            }
+        }
+        this.versions = PropertySourceVersions.of(context);
+    }
+
+    /**
+     * Access a converted value, evaluating and converting it using the given supplier, if not cached or outdated.
+     * @param key the key, not null.
+     * @param type the target type, not null.
+     * @param converter the evaluation and conversion to be performed on a cache miss, not null.
+     * @param <T> the target type.
+     * @return the converted value.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, TypeLiteral<T> type, Supplier<T> converter){
+        String[] version = versions.current();
+        Map<String, CacheEntry> typeEntries = entries.get(type);
+        if(typeEntries!=null){
+            CacheEntry entry = typeEntries.get(key);
+            if(entry!=null && entry.version==version){
+                hits.increment();
+                return (T)entry.result;
+            }
+        }
+        misses.increment();
+        long gen = generation.get();
+        T result = converter.get();
+        if(result!=null && isCacheable(result)){
+            if(typeEntries==null){
+                typeEntries = entries.computeIfAbsent(type, t -> new ConcurrentHashMap<>());
+            }
+            if(typeEntries.put(key, new CacheEntry(version, result))==null &&
+                    size.incrementAndGet()>maxSize){
+                evict();
+            }
+            if(gen!=generation.get() && typeEntries.remove(key)!=null){
+                // invalidated concurrently, do not keep a possibly outdated value.
+                size.decrementAndGet();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Removes the given keys from the cache, for all target types.
+     * @param keys the keys, not null.
+     */
+    public void invalidate(Collection<String> keys){
+        generation.incrementAndGet();
+        for(Map<String, CacheEntry> typeEntries:entries.values()){
+            for(String key:keys){
+                if(typeEntries.remove(key)!=null){
+                    size.decrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes all entries from the cache.
+     */
+    public void invalidateAll(){
+        generation.incrementAndGet();
+        for(Map<String, CacheEntry> typeEntries:entries.values()){
+            for(String key:typeEntries.keySet()){
+                if(typeEntries.remove(key)!=null){
+                    size.decrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * Unregisters the change listeners of this cache from the property sources. The listeners do not keep this
+     * cache reachable, they unregister themselves on the next change after the cache has been garbage collected.
+     */
+    public void release(){
+        for(PropertySource ps:listenedSources){
+            ps.removeChangeListener(listener);
+        }
+        invalidateAll();
+    }
+
+    /**
+     * Get the current number of entries.
+     * @return the number of cached entries.
+     */
+    public int size(){
+        return size.get();
+    }
+
+    /**
+     * Get the maximal number of entries.
+     * @return the maximal size.
+     */
+    public int getMaxSize(){
+        return maxSize;
+    }
+
+    /**
+     * Get the number of cache hits.
+     * @return the hit count.
+     */
+    public long getHitCount(){
+        return hits.sum();
+    }
+
+    /**
+     * Get the number of cache misses, including outdated entries.
+     * @return the miss count.
+     */
+    public long getMissCount(){
+        return misses.sum();
+    }
+
+    /**
+     * Get the number of entries evicted, because the cache exceeded its maximal size.
+     * @return the eviction count.
+     */
+    public long getEvictionCount(){
+        return evictions.sum();
+    }
+
+    /**
+     * Checks if the given converted instance can be shared safely.
+     * @param result the converted value, not null.
+     * @return true, if the value is of a known immutable type.
+     */
+    static boolean isCacheable(Object result){
+        return result instanceof String ||
+                result instanceof Boolean ||
+                result instanceof Character ||
+                result instanceof Byte ||
+                result instanceof Short ||
+                result instanceof Integer ||
+                result instanceof Long ||
+                result instanceof Float ||
+                result instanceof Double ||
+                result instanceof BigInteger ||
+                result instanceof BigDecimal ||
+                result instanceof Enum ||
+                result instanceof Class ||
+                result instanceof Currency ||
+                result instanceof URI ||
+                result instanceof File ||
+                result instanceof Path ||
+                result.getClass().getName().startsWith("java.time.");
+    }
+
+    private void evict(){
+        for(Map<String, CacheEntry> typeEntries:entries.values()){
+            Iterator<String> keys = typeEntries.keySet().iterator();
+            while(size.get()>maxSize && keys.hasNext()){
+                // only count entries actually removed by this thread, they may be removed concurrently.
+                if(typeEntries.remove(keys.next())!=null){
+                    size.decrementAndGet();
+                    evictions.increment();
+                }
+            }
+            if(size.get()<=maxSize){
+                return;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ConvertedValueCache{" +
+                "size=" + size.get() +
+                ", maxSize=" + maxSize +
+                ", hits=" + hits.sum() +
+                ", misses=" + misses.sum() +
+                ", evictions=" + evictions.sum() +
+                '}';
+    }
+
+    /**
+     * A cached conversion result.
+     */
+    private static final class CacheEntry{
+        /** The versions snapshot the value was converted for. */
+        private final String[] version;
+        /** The conversion result. */
+        private final Object result;
+
+        CacheEntry(String[] version, Object result){
+            this.version = version;
+            this.result = result;
+        }
+    }
+}
@@ -24,6 +24,8 @@ import org.apache.tamaya.spi.PropertySource;
 import org.apache.tamaya.spi.PropertyValue;
 
 import java.util.HashMap;
+import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
 
 
@@ -37,10 +39,12 @@ public class DefaultConfigValueEvaluator implements ConfigValueEvaluator{
     @Override
     public PropertyValue evaluateRawValue(String key, ConfigurationContext context) {
         PropertyValue unfilteredValue = null;
-        for (PropertySource propertySource : context.getPropertySources()) {
-            PropertyValue val = propertySource.get(key);
-            if(val!=null){
-                unfilteredValue = val;
+        List<PropertySource> propertySources = context.getPropertySources();
+        ListIterator<PropertySource> iterator = propertySources.listIterator(propertySources.size());
+        while(unfilteredValue==null && iterator.hasPrevious()){
+            PropertySource propertySource = iterator.previous();
+            if(propertySource.mightContain(key)){
+                unfilteredValue = propertySource.get(key);
             }
         }
         if(unfilteredValue==null ||
@@ -24,12 +24,19 @@ import org.apache.tamaya.ConfigQuery;
 import org.apache.tamaya.Configuration;
 import org.apache.tamaya.ConfigurationSnapshot;
 import org.apache.tamaya.TypeLiteral;
+import org.apache.tamaya.spi.BooleanPropertyConverter;
 import org.apache.tamaya.spi.ConfigurationContext;
 import org.apache.tamaya.spi.ConversionContext;
+import org.apache.tamaya.spi.DoublePropertyConverter;
+import org.apache.tamaya.spi.IntPropertyConverter;
+import org.apache.tamaya.spi.LongPropertyConverter;
 import org.apache.tamaya.spi.PropertyConverter;
 import org.apache.tamaya.spi.PropertyValue;
 
 import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -44,6 +51,17 @@ public class DefaultConfiguration implements Configuration {
      */
     private static final Logger LOG = Logger.getLogger(DefaultConfiguration.class.getName());
 
+    /**
+     * The conversion context builder, reused per thread.
+     */
+    private static final ThreadLocal<ConversionContext.Builder> CONTEXT_BUILDER =
+            ThreadLocal.withInitial(() -> new ConversionContext.Builder(TypeLiteral.of(Object.class)));
+
+    private static final TypeLiteral<Integer> INTEGER_TYPE = TypeLiteral.of(Integer.class);
+    private static final TypeLiteral<Long> LONG_TYPE = TypeLiteral.of(Long.class);
+    private static final TypeLiteral<Double> DOUBLE_TYPE = TypeLiteral.of(Double.class);
+    private static final TypeLiteral<Boolean> BOOLEAN_TYPE = TypeLiteral.of(Boolean.class);
+
     /**
      * The current {@link ConfigurationContext} of the current instance.
      */
@@ -54,8 +72,23 @@ public class DefaultConfiguration implements Configuration {
      */
     private ConfigValueEvaluator configEvaluator;
 
+    /**
+     * The cache for filtered values, or null.
+     */
+    private final ResolvedValueCache valueCache;
+
+    /**
+     * The cache for converted values, or null.
+     */
+    private final ConvertedValueCache conversionCache;
+
+    /**
+     * Flag for evaluating {@link #getProperties()} in parallel.
+     */
+    private final boolean parallelEvaluation;
 
-    private ConfigValueEvaluator loadConfigValueEvaluator() {
+    private static ConfigValueEvaluator loadConfigValueEvaluator(ConfigurationContext configurationContext,
+                                                                 boolean parallelEvaluation) {
         ConfigValueEvaluator eval = null;
         try{
             eval = configurationContext.getServiceContext()
@@ -63,8 +96,8 @@ public class DefaultConfiguration implements Configuration {
         }catch(Exception e){
             LOG.log(Level.WARNING, "Failed to load ConfigValueEvaluator from ServiceContext, using default.", e);
         }
-        if(eval==null){
-            eval = new DefaultConfigValueEvaluator();
+        if(eval==null || (parallelEvaluation && eval.getClass()==DefaultConfigValueEvaluator.class)){
+            eval = parallelEvaluation?new ParallelConfigValueEvaluator():new DefaultConfigValueEvaluator();
         }
         return eval;
     }
@@ -75,8 +108,65 @@ public class DefaultConfiguration implements Configuration {
      * @param configurationContext The configuration Context to be used.
      */
     public DefaultConfiguration(ConfigurationContext configurationContext){
+        this(configurationContext, false);
+    }
+
+    /**
+     * Constructor.
+     * @param configurationContext The configuration Context to be used.
+     * @param parallelEvaluation flag, if {@link #getProperties()} should be evaluated in parallel, using
+     *                           a {@link ParallelConfigValueEvaluator}, unless another evaluator is registered.
+     */
+    public DefaultConfiguration(ConfigurationContext configurationContext, boolean parallelEvaluation){
+        this(configurationContext,
+                loadConfigValueEvaluator(Objects.requireNonNull(configurationContext), parallelEvaluation),
+                0, parallelEvaluation);
+    }
+
+    /**
+     * Constructor.
+     * @param configurationContext The configuration Context to be used.
+     * @param configEvaluator the evaluator used for evaluating the raw values, e.g. an
+     *                        {@link IndexedConfigValueEvaluator}, not null.
+     */
+    public DefaultConfiguration(ConfigurationContext configurationContext, ConfigValueEvaluator configEvaluator){
+        this(configurationContext, configEvaluator, 0);
+    }
+
+    /**
+     * Constructor.
+     * @param configurationContext The configuration Context to be used.
+     * @param configEvaluator the evaluator used for evaluating the raw values, not null.
+     * @param valueCacheSize the maximal number of filtered values cached by {@link #get(String)}, and of
+     *                       converted values cached by {@link #get(String, TypeLiteral)}, {@code 0} disables caching.
+     * @see ResolvedValueCache
+     * @see ConvertedValueCache
+     */
+    public DefaultConfiguration(ConfigurationContext configurationContext, ConfigValueEvaluator configEvaluator,
+                                int valueCacheSize){
+        this(configurationContext, configEvaluator, valueCacheSize, false);
+    }
+
+    /**
+     * Constructor.
+     * @param configurationContext The configuration Context to be used.
+     * @param configEvaluator the evaluator used for evaluating the raw values, not null.
+     * @param valueCacheSize the maximal number of values cached, {@code 0} disables caching.
+     * @param parallelEvaluation flag, if the properties returned by {@link #getProperties()} should be filtered
+     *                           in parallel, see {@link PropertyFiltering#applyFiltersParallel(Map, ConfigurationContext)}.
+     */
+    public DefaultConfiguration(ConfigurationContext configurationContext, ConfigValueEvaluator configEvaluator,
+                                int valueCacheSize, boolean parallelEvaluation){
+        this.parallelEvaluation = parallelEvaluation;
         this.configurationContext = Objects.requireNonNull(configurationContext);
-        this.configEvaluator = loadConfigValueEvaluator();
+        this.configEvaluator = Objects.requireNonNull(configEvaluator);
+        if(valueCacheSize>0){
+            this.valueCache = new ResolvedValueCache(configurationContext, valueCacheSize);
+            this.conversionCache = new ConvertedValueCache(configurationContext, valueCacheSize);
+        }else{
+            this.valueCache = null;
+            this.conversionCache = null;
+        }
     }
 
     /**
@@ -86,23 +176,75 @@ public class DefaultConfiguration implements Configuration {
      */
     @Override
     public String get(String key) {
+        PropertyValue value = getValue(key);
+        if(value!=null){
+            return value.getValue();
+        }
+        return null;
+    }
+
+    /**
+     * Get the filtered value for the given key, using the value cache, if enabled.
+     * @param key the property's key, not null.
+     * @return the filtered value, or null, if absent or filtered to a null value.
+     */
+    private PropertyValue getValue(String key) {
         Objects.requireNonNull(key, "Key must not be null.");
 
-        PropertyValue value = configEvaluator.evaluateRawValue(key, configurationContext);
+        PropertyValue value;
+        if(valueCache!=null){
+            value = valueCache.get(key, this::evaluateFilteredValue);
+        }else{
+            value = evaluateFilteredValue(key);
+        }
         if(value==null || value.getValue()==null){
             return null;
         }
-        value = PropertyFiltering.applyFilter(value, configurationContext);
-        if(value!=null){
-            return value.getValue();
+        return value;
+    }
+
+    /**
+     * Evaluates the raw value and applies the filters.
+     * @param key the key, not null.
+     * @return the filtered value, or null.
+     */
+    private PropertyValue evaluateFilteredValue(String key) {
+        PropertyValue value = configEvaluator.evaluateRawValue(key, configurationContext);
+        if(value==null || value.getValue()==null){
+            return null;
         }
-        return null;
+        return PropertyFiltering.applyFilter(value, configurationContext);
     }
 
     /**
-     * Get a given createValue, filtered with the context's filters as needed.
+     * Access the cache used for the filtered values returned by {@link #get(String)}.
+     * @return the cache, or null, if caching is disabled.
+     */
+    public ResolvedValueCache getValueCache() {
+        return valueCache;
+    }
+
+    /**
+     * Access the cache used for the converted values returned by {@link #get(String, TypeLiteral)}.
+     * @return the cache, or null, if caching is disabled.
+     */
+    public ConvertedValueCache getConversionCache() {
+        return conversionCache;
+    }
+
+    /**
+     * Checks if {@link #getProperties()} is evaluated in parallel.
+     * @return true, if parallel evaluation is enabled.
+     */
+    public boolean isParallelEvaluation() {
+        return parallelEvaluation;
+    }
+
+    /**
+     * Get all values for a given key in order of precedence, filtered with the context's filters as needed.
+     * Since this accesses all property sources, prefer {@link #get(String)} if only the effective value is required.
      * @param key the property's key, not null.
-     * @return the filtered createValue, or null.
+     * @return the filtered values, never null.
      */
     public List<PropertyValue> getValues(String key) {
         Objects.requireNonNull(key, "Key must not be null.");
@@ -162,9 +304,57 @@ public class DefaultConfiguration implements Configuration {
      */
     @Override
     public Map<String, String> getProperties() {
-        Map<String, PropertyValue> filtered = PropertyFiltering.applyFilters(
-                configEvaluator.evaluateRawValues(configurationContext),
-                configurationContext);
+        return filterProperties(configEvaluator.evaluateRawValues(configurationContext));
+    }
+
+    /**
+     * Passes the current properties to the given consumer, filtered the same way as by {@link #getProperties()}.
+     * If no filters are registered, the values are passed without creating the merged property maps. Otherwise
+     * the raw values are evaluated, since filters may access all entries, but no filtered maps are created.
+     *
+     * @param consumer the consumer accepting key and value, not null.
+     */
+    @Override
+    public void forEachProperty(BiConsumer<String, String> consumer) {
+        Objects.requireNonNull(consumer, "Consumer must not be null.");
+        Consumer<PropertyValue> valueConsumer = value -> {
+            if(value.getValue()!=null){
+                consumer.accept(value.getKey(), value.getValue());
+            }
+        };
+        if(configurationContext.getPropertyFilters().isEmpty()){
+            configEvaluator.forEachRawValue(configurationContext, valueConsumer);
+        }else{
+            PropertyFiltering.applyFilters(configEvaluator.evaluateRawValues(configurationContext),
+                    configurationContext, valueConsumer);
+        }
+    }
+
+    /**
+     * Get the current properties with keys starting with the given prefix. Only the matching properties are
+     * evaluated and passed to the registered {@link org.apache.tamaya.spi.PropertyFilter} instances.
+     *
+     * @param prefix the key prefix, not null.
+     * @return the final properties matching.
+     */
+    @Override
+    public Map<String, String> getProperties(String prefix) {
+        Objects.requireNonNull(prefix, "Prefix must not be null.");
+        return filterProperties(configEvaluator.evaluateRawValuesWithPrefix(prefix, configurationContext));
+    }
+
+    /**
+     * Filters the raw values evaluated.
+     * @param rawValues the raw values, not null.
+     * @return the final properties.
+     */
+    private Map<String, String> filterProperties(Map<String, PropertyValue> rawValues) {
+        Map<String, PropertyValue> filtered;
+        if(parallelEvaluation){
+            filtered = PropertyFiltering.applyFiltersParallel(rawValues, configurationContext);
+        }else{
+            filtered = PropertyFiltering.applyFilters(rawValues, configurationContext);
+        }
         Map<String,String> result = new HashMap<>();
         for(PropertyValue val:filtered.values()){
             if(val.getValue()!=null) {
@@ -175,6 +365,30 @@ public class DefaultConfiguration implements Configuration {
     }
 
 
+    /**
+     * Get the values of the given keys, evaluated in one pass over the property sources. The values are
+     * filtered the same way as by {@link #get(String)}, but are never read from the value cache.
+     * @param keys the keys, not null.
+     * @return the filtered values, keyed by the keys requested, never null.
+     */
+    @Override
+    public Map<String, String> getAll(Collection<String> keys) {
+        Objects.requireNonNull(keys, "Keys must not be null.");
+
+        Map<String, PropertyValue> rawValues = configEvaluator.evaluateRawValues(keys, configurationContext);
+        if(rawValues.isEmpty()){
+            return Collections.emptyMap();
+        }
+        Map<String, String> result = new HashMap<>();
+        for(Map.Entry<String, PropertyValue> en:rawValues.entrySet()){
+            PropertyValue filtered = PropertyFiltering.applyFilter(en.getValue(), configurationContext);
+            if(filtered!=null && filtered.getValue()!=null){
+                result.put(en.getKey(), filtered.getValue());
+            }
+        }
+        return result;
+    }
+
     /**
      * Accesses the current String createValue for the given key and tries to convert it
      * using the {@link PropertyConverter} instances provided by the current
@@ -207,6 +421,9 @@ public class DefaultConfiguration implements Configuration {
         Objects.requireNonNull(key, "Key must not be null.");
         Objects.requireNonNull(type, "Target type must not be null");
 
+        if(conversionCache!=null){
+            return conversionCache.get(key, type, () -> convertValue(key, getValues(key), type));
+        }
         return convertValue(key, getValues(key), type);
     }
 
@@ -214,18 +431,19 @@ public class DefaultConfiguration implements Configuration {
     protected <T> T convertValue(String key, List<PropertyValue> values, TypeLiteral<T> type) {
         if (values != null && !values.isEmpty()) {
             List<PropertyConverter<T>> converters = configurationContext.getPropertyConverters(type);
-            ConversionContext context = new ConversionContext.Builder(this, key, type)
+            ConversionContext.Builder builder = CONTEXT_BUILDER.get();
+            ConversionContext context = builder.reset().setConfiguration(this).setKey(key).setTargetType(type)
                     .setValues(values)
                     .build();
+            builder.reset();
             String value = values.get(0).getValue();
             for (PropertyConverter<T> converter : converters) {
-                try {
-                    T t = converter.convert(value, context);
-                    if (t != null) {
-                        return t;
-                    }
-                } catch (Exception e) {
-                    LOG.log(Level.FINEST, "PropertyConverter: " + converter + " failed to convert createValue: " + value, e);
+                T t = converter.tryConvert(value, context);
+                if (t != null) {
+                    return t;
+                }
+                if (LOG.isLoggable(Level.FINEST)) {
+                    LOG.finest("PropertyConverter: " + converter + " failed to convert createValue: " + value);
                 }
             }
             // if the target type is a String, we can return the createValue, no conversion required.
@@ -251,6 +469,136 @@ public class DefaultConfiguration implements Configuration {
         return val;
     }
 
+    @Override
+    public int getInt(String key) {
+        PropertyValue value = requireValue(key);
+        IntPropertyConverter converter = getPrimitiveConverter(value, INTEGER_TYPE, IntPropertyConverter.class,
+                IntPropertyConverter::canConvert);
+        return converter!=null?converter.convertInt(value.getValue()):convertPrimitive(value, INTEGER_TYPE);
+    }
+
+    @Override
+    public int getInt(String key, int defaultValue) {
+        PropertyValue value = getValue(key);
+        if(value==null){
+            return defaultValue;
+        }
+        IntPropertyConverter converter = getPrimitiveConverter(value, INTEGER_TYPE, IntPropertyConverter.class,
+                IntPropertyConverter::canConvert);
+        return converter!=null?converter.convertInt(value.getValue()):convertPrimitive(value, INTEGER_TYPE);
+    }
+
+    @Override
+    public long getLong(String key) {
+        PropertyValue value = requireValue(key);
+        LongPropertyConverter converter = getPrimitiveConverter(value, LONG_TYPE, LongPropertyConverter.class,
+                LongPropertyConverter::canConvert);
+        return converter!=null?converter.convertLong(value.getValue()):convertPrimitive(value, LONG_TYPE);
+    }
+
+    @Override
+    public long getLong(String key, long defaultValue) {
+        PropertyValue value = getValue(key);
+        if(value==null){
+            return defaultValue;
+        }
+        LongPropertyConverter converter = getPrimitiveConverter(value, LONG_TYPE, LongPropertyConverter.class,
+                LongPropertyConverter::canConvert);
+        return converter!=null?converter.convertLong(value.getValue()):convertPrimitive(value, LONG_TYPE);
+    }
+
+    @Override
+    public double getDouble(String key) {
+        PropertyValue value = requireValue(key);
+        DoublePropertyConverter converter = getPrimitiveConverter(value, DOUBLE_TYPE, DoublePropertyConverter.class,
+                DoublePropertyConverter::canConvert);
+        return converter!=null?converter.convertDouble(value.getValue()):convertPrimitive(value, DOUBLE_TYPE);
+    }
+
+    @Override
+    public double getDouble(String key, double defaultValue) {
+        PropertyValue value = getValue(key);
+        if(value==null){
+            return defaultValue;
+        }
+        DoublePropertyConverter converter = getPrimitiveConverter(value, DOUBLE_TYPE, DoublePropertyConverter.class,
+                DoublePropertyConverter::canConvert);
+        return converter!=null?converter.convertDouble(value.getValue()):convertPrimitive(value, DOUBLE_TYPE);
+    }
+
+    @Override
+    public boolean getBoolean(String key) {
+        PropertyValue value = requireValue(key);
+        BooleanPropertyConverter converter = getPrimitiveConverter(value, BOOLEAN_TYPE,
+                BooleanPropertyConverter.class, BooleanPropertyConverter::canConvert);
+        return converter!=null?converter.convertBoolean(value.getValue()):convertPrimitive(value, BOOLEAN_TYPE);
+    }
+
+    @Override
+    public boolean getBoolean(String key, boolean defaultValue) {
+        PropertyValue value = getValue(key);
+        if(value==null){
+            return defaultValue;
+        }
+        BooleanPropertyConverter converter = getPrimitiveConverter(value, BOOLEAN_TYPE,
+                BooleanPropertyConverter.class, BooleanPropertyConverter::canConvert);
+        return converter!=null?converter.convertBoolean(value.getValue()):convertPrimitive(value, BOOLEAN_TYPE);
+    }
+
+    /**
+     * Get the filtered value for the given key, used by the primitive getters without default value.
+     * @param key the property's key, not null.
+     * @return the filtered value, never null.
+     * @throws ConfigException if no value is present.
+     */
+    private PropertyValue requireValue(String key) {
+        PropertyValue value = getValue(key);
+        if(value==null){
+            throw new ConfigException("No value present for key: " + key);
+        }
+        return value;
+    }
+
+    /**
+     * Get the converter with the highest priority for the given type, if it supports converting the value
+     * without boxing. Otherwise the value must be converted using {@link #convertPrimitive(PropertyValue, TypeLiteral)}.
+     * @param value the filtered value, not null.
+     * @param type the boxed target type, not null.
+     * @param converterType the primitive converter type, not null.
+     * @param canConvert the check, if the primitive converter can convert the value, not null.
+     * @param <T> the boxed type.
+     * @param <C> the primitive converter type.
+     * @return the primitive converter, or null.
+     */
+    private <T, C extends PropertyConverter<T>> C getPrimitiveConverter(PropertyValue value, TypeLiteral<T> type,
+                                                                      Class<C> converterType,
+                                                                      BiPredicate<C, String> canConvert) {
+        List<PropertyConverter<T>> converters = configurationContext.getPropertyConverters(type);
+        if(converters.isEmpty() || !converterType.isInstance(converters.get(0))){
+            return null;
+        }
+        C converter = converterType.cast(converters.get(0));
+        if(canConvert.test(converter, value.getValue())){
+            return converter;
+        }
+        if(LOG.isLoggable(Level.FINEST)) {
+            LOG.finest("PropertyConverter: " + converter + " failed to convert createValue: " + value.getValue());
+        }
+        return null;
+    }
+
+    /**
+     * Converts the filtered value using all converters for the given type in order of priority.
+     * @param value the filtered value, not null.
+     * @param type the boxed target type, not null.
+     * @param <T> the boxed type.
+     * @return the converted value, never null.
+     * @throws ConfigException if the value cannot be converted.
+     */
+    private <T> T convertPrimitive(PropertyValue value, TypeLiteral<T> type) {
+        return convertValue(value.getKey(), Collections.singletonList(value), type);
+    }
+
     @Override
     public Configuration with(ConfigOperator operator) {
         return operator.operate(this);
@@ -57,6 +57,11 @@ public class DefaultConfigurationBuilder implements ConfigurationBuilder {
      */
     protected boolean built;
 
+    /**
+     * Flag if the configuration built evaluates its properties in parallel.
+     */
+    protected boolean parallelEvaluation;
+
     /**
      * Creates a new builder instance.
      */
@@ -82,6 +87,7 @@ public class DefaultConfigurationBuilder implements ConfigurationBuilder {
      */
     public DefaultConfigurationBuilder(Configuration configuration) {
         this(configuration.getContext());
+        applyEvaluationSettings(configuration);
     }
 
     @Override
@@ -108,9 +114,16 @@ public class DefaultConfigurationBuilder implements ConfigurationBuilder {
      */
     public ConfigurationBuilder setConfiguration(Configuration configuration) {
         setContext(configuration.getContext());
+        applyEvaluationSettings(configuration);
         return this;
     }
 
+    private void applyEvaluationSettings(Configuration configuration) {
+        if(configuration instanceof DefaultConfiguration){
+            this.parallelEvaluation = ((DefaultConfiguration) configuration).isParallelEvaluation();
+        }
+    }
+
 
     @Override
     public ConfigurationBuilder setContext(ConfigurationContext context) {
@@ -328,11 +341,19 @@ public class DefaultConfigurationBuilder implements ConfigurationBuilder {
                         this.propertyFilters,
                         this.propertySources,
                         this.propertyConverters,
-                        this.metaDataProvider));
+                        this.metaDataProvider),
+                this.parallelEvaluation);
         this.built = true;
         return cfg;
     }
 
+    @Override
+    public ConfigurationBuilder setParallelEvaluation(boolean parallelEvaluation) {
+        checkBuilderState();
+        this.parallelEvaluation = parallelEvaluation;
+        return this;
+    }
+
     @Override
     public ConfigurationBuilder sortPropertyFilter(Comparator<PropertyFilter> comparator) {
         Collections.sort(propertyFilters, comparator);
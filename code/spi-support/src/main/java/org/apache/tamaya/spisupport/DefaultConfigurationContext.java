@@ -37,6 +37,8 @@ public class DefaultConfigurationContext implements ConfigurationContext {
 
     /** The logger used. */
     private final static Logger LOG = Logger.getLogger(DefaultConfigurationContext.class.getName());
+    /** The maximal number of filter results memoized, per kind of filtering. */
+    private static final int FILTER_RESULT_CACHE_SIZE = 10000;
     private final MetadataProvider metaDataProvider;
 
     /**
@@ -54,6 +56,16 @@ public class DefaultConfigurationContext implements ConfigurationContext {
      */
     private List<PropertyFilter> immutablePropertyFilters;
 
+    /**
+     * The filters to be applied per key, evaluated on demand.
+     */
+    private PropertyFilterPlan filterPlan;
+
+    /**
+     * The memoized filter results of the filter plan.
+     */
+    private FilterResultCache filterResultCache;
+
     /** The corresponding classLoader for this instance. */
     private ServiceContext serviceContext;
 
@@ -78,6 +90,8 @@ public class DefaultConfigurationContext implements ConfigurationContext {
         // as next step we pick up the PropertyFilters pretty much the same way
         List<PropertyFilter> propertyFilters = new ArrayList<>(builder.getPropertyFilters());
         immutablePropertyFilters = Collections.unmodifiableList(propertyFilters);
+        filterPlan = new PropertyFilterPlan(immutablePropertyFilters);
+        filterResultCache = new FilterResultCache(filterPlan, FILTER_RESULT_CACHE_SIZE);
 
         // Finally add the converters
         for(Map.Entry<TypeLiteral<?>, List<PropertyConverter<?>>> en:builder.getPropertyConverter().entrySet()) {
@@ -95,6 +109,8 @@ public class DefaultConfigurationContext implements ConfigurationContext {
                                        MetadataProvider metaDataProvider) {
         this.serviceContext = Objects.requireNonNull(serviceContext);
         this.immutablePropertyFilters = Collections.unmodifiableList(new ArrayList<>(propertyFilters));
+        this.filterPlan = new PropertyFilterPlan(immutablePropertyFilters);
+        this.filterResultCache = new FilterResultCache(filterPlan, FILTER_RESULT_CACHE_SIZE);
         this.immutablePropertySources = Collections.unmodifiableList(new ArrayList<>(propertySources));
         this.metaDataProvider = Objects.requireNonNull(metaDataProvider);
         this.metaDataProvider.init(this);
@@ -268,4 +284,20 @@ public class DefaultConfigurationContext implements ConfigurationContext {
         return immutablePropertyFilters;
     }
 
+    /**
+     * Access the filters to be applied per key, cached for this context.
+     * @return the filter plan, never null.
+     */
+    public PropertyFilterPlan getFilterPlan() {
+        return filterPlan;
+    }
+
+    /**
+     * Access the memoized results of the filters of this context.
+     * @return the filter result cache, never null.
+     */
+    public FilterResultCache getFilterResultCache() {
+        return filterResultCache;
+    }
+
 }
@@ -50,6 +50,21 @@ public class DefaultPropertySourceSnapshot implements PropertySource, Serializab
 
     private Set<String> keys = new HashSet<>();
 
+    /**
+     * The radix tree storing the properties, or null.
+     */
+    private RadixTreeMap<PropertyValue> radixTree;
+
+    /**
+     * The key index, created on first access.
+     */
+    private transient volatile SortedKeyIndex keyIndex;
+
+    /**
+     * The key membership filter, created on first access.
+     */
+    private transient volatile KeyBloomFilter keyFilter;
+
     private long frozenAt = System.currentTimeMillis();
 
     /**
@@ -68,6 +83,19 @@ public class DefaultPropertySourceSnapshot implements PropertySource, Serializab
      * @param keys the keys to be added to the snapshot.
      */
     public DefaultPropertySourceSnapshot(PropertySource propertySource, Iterable<String> keys) {
+        this(propertySource, keys, false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param propertySource The base PropertySource.
+     * @param keys the keys to be added to the snapshot.
+     * @param radixTreeStorage true, to store the properties in a {@link RadixTreeMap} instead of a {@link HashMap},
+     *                         supporting {@link #getProperties(String)} without scanning all properties.
+     */
+    public DefaultPropertySourceSnapshot(PropertySource propertySource, Iterable<String> keys,
+                                         boolean radixTreeStorage) {
         for(String k:keys){
             this.keys.add(k);
         }
@@ -84,6 +112,10 @@ public class DefaultPropertySourceSnapshot implements PropertySource, Serializab
         }else{
             this.properties = initProperties(propertySource, true);
         }
+        if(radixTreeStorage){
+            this.radixTree = new RadixTreeMap<>(this.properties);
+            this.properties = Collections.unmodifiableMap(this.radixTree);
+        }
     }
 
     private Map<String, PropertyValue> initProperties(PropertySource propertySource, boolean checkVersion) {
@@ -175,11 +207,34 @@ public class DefaultPropertySourceSnapshot implements PropertySource, Serializab
         return this.properties.get(key);
     }
 
+    @Override
+    public boolean mightContain(String key) {
+        KeyBloomFilter filter = this.keyFilter;
+        if(filter==null){
+            filter = new KeyBloomFilter(properties.keySet());
+            this.keyFilter = filter;
+        }
+        return filter.mightContain(key);
+    }
+
     @Override
     public Map<String, PropertyValue> getProperties() {
         return properties;
     }
 
+    @Override
+    public Map<String, PropertyValue> getProperties(String prefix) {
+        if(radixTree!=null){
+            return Collections.unmodifiableMap(radixTree.getPrefixed(prefix));
+        }
+        SortedKeyIndex index = this.keyIndex;
+        if(index==null){
+            index = new SortedKeyIndex(properties);
+            this.keyIndex = index;
+        }
+        return index.getProperties(prefix);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -22,54 +22,82 @@ import org.apache.tamaya.ConfigException;
 import org.apache.tamaya.spi.ConversionContext;
 import org.apache.tamaya.spi.PropertyConverter;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
- * Converter, converting from String to the given enum type.
+ * Converter, converting from String to the given enum type. Values are matched against the constant names,
+ * and if not found, converted to upper case and matched again.
  * @param <T> the enum type
  */
 public class EnumConverter<T> implements PropertyConverter<T> {
 
+    /**
+     * The constants of each enum type, keyed by name, evaluated once per type.
+     */
+    private static final ClassValue<Map<String, Object>> CONSTANTS = new ClassValue<Map<String, Object>>() {
+        @Override
+        protected Map<String, Object> computeValue(Class<?> type) {
+            Map<String, Object> constants = new HashMap<>();
+            for (Object constant : type.getEnumConstants()) {
+                constants.put(((Enum<?>) constant).name(), constant);
+            }
+            return Collections.unmodifiableMap(constants);
+        }
+    };
+
     private final Logger LOG = Logger.getLogger(EnumConverter.class.getName());
     private Class<T> enumType;
-    private Method factory;
+    private Map<String, Object> constants;
 
     public EnumConverter(Class<T> enumType) {
         if (!Enum.class.isAssignableFrom(enumType)) {
             throw new IllegalArgumentException("Not an Enum: " + enumType.getName());
         }
         this.enumType = Objects.requireNonNull(enumType);
-        try {
-            this.factory = enumType.getMethod("valueOf", String.class);
-        } catch (NoSuchMethodException e) {
+        // constants with a body are subclasses of the enum type
+        Class<?> declaringType = enumType.isEnum() ? enumType : enumType.getSuperclass();
+        if (!declaringType.isEnum()) {
             throw new ConfigException("Uncovertible enum type without createValue method found, please provide a custom "
                     + "PropertyConverter for: " + enumType.getName());
         }
+        this.constants = CONSTANTS.get(declaringType);
     }
 
+    /**
+     * The supported formats, reported if a value cannot be converted.
+     */
+    private static final String[] SUPPORTED_FORMATS = {"<enumValue>"};
+
     @Override
+    @SuppressWarnings("unchecked")
     public T convert(String value, ConversionContext ctx) {
-        ctx.addSupportedFormats(getClass(), "<enumValue>");
-        try {
-            return (T) factory.invoke(null, value);
-        } catch (InvocationTargetException | IllegalAccessException e) {
-            LOG.log(Level.FINEST, "Invalid enum createValue '" + value + "' for " + enumType.getName(), e);
-        }
-        try {
-            if (value != null) {
-                return (T) factory.invoke(null, value.toUpperCase(Locale.ENGLISH));
+        if (value != null) {
+            Object constant = constants.get(value);
+            if (constant == null) {
+                constant = constants.get(value.toUpperCase(Locale.ENGLISH));
+            }
+            if (constant != null) {
+                return (T) constant;
+            }
+            if (LOG.isLoggable(Level.FINEST)) {
+                LOG.finest("Invalid enum createValue '" + value + "' for " + enumType.getName());
             }
-        } catch (InvocationTargetException | IllegalAccessException e) {
-            LOG.log(Level.FINEST, "Invalid enum createValue '" + value + "' for " + enumType.getName(), e);
         }
+        ctx.addSupportedFormats(getClass(), SUPPORTED_FORMATS);
         return null;
     }
 
+    @Override
+    public T tryConvert(String value, ConversionContext ctx) {
+        return convert(value, ctx);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -0,0 +1,241 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tamaya.spisupport;
+
+import org.apache.tamaya.spi.PropertyFilter;
+import org.apache.tamaya.spi.PropertyValue;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Memo table for the results of the filters of a {@link PropertyFilterPlan}. Plans and results are keyed by
+ * {@link PropertyValue#getQualifiedKey()}, the key filters such as {@link RegexPropertyFilter} match. A result is
+ * reused as long as the value filtered has the same qualified key, value, meta entries and
+ * {@link PropertyValue#getVersion()}, and the entries the filters declared as dependencies are unchanged.
+ * Results are only memoized, if all filters applicable to a key declare their dependencies using
+ * {@link PropertyFilter#getDependencies(String)}. When the maximal size is exceeded, arbitrary entries are evicted.
+ * <p>
+ * Results of single value filtering and filtering of all properties are kept separately, since filters may
+ * behave differently depending on {@link org.apache.tamaya.spi.FilterContext#isSinglePropertyScoped()}.
+ * </p>
+ * This class is thread-safe.
+ */
+public final class FilterResultCache {
+
+    /** The filter plan, whose results are cached. */
+    private final PropertyFilterPlan filterPlan;
+    /** The maximal number of entries, per kind of filtering. */
+    private final int maxSize;
+    /** The results of filtering single values. */
+    private final Map<String, CacheEntry> singleEntries = new ConcurrentHashMap<>();
+    /** The results of filtering all properties. */
+    private final Map<String, CacheEntry> mapEntries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a new cache.
+     * @param filterPlan the filter plan, not null.
+     * @param maxSize the maximal number of entries cached per kind of filtering, must be positive.
+     */
+    public FilterResultCache(PropertyFilterPlan filterPlan, int maxSize){
+        if(maxSize<=0){
+            throw new IllegalArgumentException("Cache size must be positive: " + maxSize);
+        }
+        this.filterPlan = Objects.requireNonNull(filterPlan);
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Get the filter plan, whose results are cached.
+     * @return the filter plan, never null.
+     */
+    public PropertyFilterPlan getFilterPlan(){
+        return filterPlan;
+    }
+
+    /**
+     * Access the filtered value, filtering it using the given function, if not cached or outdated. If no
+     * filters apply to the value's key, the value is returned as is.
+     * @param value the value to be filtered, not null.
+     * @param singlePropertyScoped true, if a single value is filtered, false if all properties are filtered.
+     * @param configEntries the entries available to the filters, not null.
+     * @param filter the filtering performed on a cache miss, not null.
+     * @return the filtered value, or null, if the value was removed.
+     */
+    public PropertyValue get(PropertyValue value, boolean singlePropertyScoped,
+                             Map<String, PropertyValue> configEntries,
+                             Function<PropertyValue, PropertyValue> filter){
+        String key = value.getQualifiedKey();
+        PropertyFilterPlan.KeyPlan plan = filterPlan.getPlan(key);
+        if(plan.getFilters().isEmpty()){
+            return value;
+        }
+        Set<String> dependencies = plan.getDependencies();
+        if(dependencies==null){
+            return filter.apply(value);
+        }
+        Map<String, CacheEntry> entries = singlePropertyScoped?singleEntries:mapEntries;
+        CacheEntry entry = entries.get(key);
+        if(entry!=null && entry.matches(value, configEntries)){
+            hits.increment();
+            return entry.result;
+        }
+        misses.increment();
+        CacheEntry newEntry = new CacheEntry(value, dependencies, configEntries);
+        newEntry.setResult(filter.apply(value));
+        entries.put(key, newEntry);
+        if(entries.size()>maxSize){
+            evict(entries, key);
+        }
+        return newEntry.result;
+    }
+
+    /**
+     * Removes all entries from the cache.
+     */
+    public void invalidateAll(){
+        singleEntries.clear();
+        mapEntries.clear();
+    }
+
+    /**
+     * Get the current number of entries.
+     * @return the number of cached entries.
+     */
+    public int size(){
+        return singleEntries.size() + mapEntries.size();
+    }
+
+    /**
+     * Get the number of cache hits.
+     * @return the hit count.
+     */
+    public long getHitCount(){
+        return hits.sum();
+    }
+
+    /**
+     * Get the number of cache misses, including outdated entries.
+     * @return the miss count.
+     */
+    public long getMissCount(){
+        return misses.sum();
+    }
+
+    /**
+     * Get the number of entries evicted, because the cache exceeded its maximal size.
+     * @return the eviction count.
+     */
+    public long getEvictionCount(){
+        return evictions.sum();
+    }
+
+    private void evict(Map<String, CacheEntry> entries, String addedKey){
+        Iterator<String> keys = entries.keySet().iterator();
+        while(entries.size()>maxSize && keys.hasNext()){
+            // keep the entry just added
+            if(!keys.next().equals(addedKey)){
+                keys.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "FilterResultCache{" +
+                "size=" + size() +
+                ", maxSize=" + maxSize +
+                ", hits=" + hits.sum() +
+                ", misses=" + misses.sum() +
+                ", evictions=" + evictions.sum() +
+                '}';
+    }
+
+    private static boolean isUnchanged(PropertyValue cached, int version, PropertyValue current){
+        if(cached==null || current==null){
+            return cached==current;
+        }
+        // equals compares key, value and meta entries, but not the parent.
+        return cached.getVersion()==version && current.getVersion()==version &&
+                (cached==current || (cached.equals(current) &&
+                        cached.getQualifiedKey().equals(current.getQualifiedKey())));
+    }
+
+    /**
+     * A memoized filter result.
+     */
+    private static final class CacheEntry{
+        /** The value filtered. */
+        private final PropertyValue value;
+        /** The version of the value, when filtered. */
+        private final int version;
+        /** The dependency keys. */
+        private final String[] dependencyKeys;
+        /** The dependency values, when filtered. */
+        private final PropertyValue[] dependencyValues;
+        /** The versions of the dependency values, when filtered. */
+        private final int[] dependencyVersions;
+        /** The filter result, or null. */
+        private PropertyValue result;
+        /** The version of the filter result. */
+        private int resultVersion;
+
+        CacheEntry(PropertyValue value, Set<String> dependencies, Map<String, PropertyValue> configEntries){
+            this.value = value;
+            this.version = value.getVersion();
+            this.dependencyKeys = dependencies.toArray(new String[0]);
+            this.dependencyValues = new PropertyValue[dependencyKeys.length];
+            this.dependencyVersions = new int[dependencyKeys.length];
+            for(int i=0;i<dependencyKeys.length;i++){
+                PropertyValue dependency = configEntries.get(dependencyKeys[i]);
+                dependencyValues[i] = dependency;
+                dependencyVersions[i] = dependency!=null?dependency.getVersion():0;
+            }
+        }
+
+        void setResult(PropertyValue result){
+            this.result = result;
+            this.resultVersion = result!=null?result.getVersion():0;
+        }
+
+        boolean matches(PropertyValue current, Map<String, PropertyValue> configEntries){
+            if(!isUnchanged(value, version, current)){
+                return false;
+            }
+            if(result!=null && result.getVersion()!=resultVersion){
+                return false;
+            }
+            for(int i=0;i<dependencyKeys.length;i++){
+                if(!isUnchanged(dependencyValues[i], dependencyVersions[i], configEntries.get(dependencyKeys[i]))){
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tamaya.spisupport;
+
+import org.apache.tamaya.spi.ChangeSupport;
+import org.apache.tamaya.spi.ConfigurationContext;
+import org.apache.tamaya.spi.PropertySource;
+import org.apache.tamaya.spi.PropertyValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.logging.Logger;
+
+
+/**
+ * {@link ConfigValueEvaluator} that keeps a precedence resolved key index for the {@link PropertySource}s of a
+ * {@link ConfigurationContext}. Once a key has been resolved, subsequent calls to
+ * {@link #evaluateRawValue(String, ConfigurationContext)} are served by a single hash lookup instead of
+ * querying each property source.
+ * <p>
+ * Only property sources, which are {@link ChangeSupport#IMMUTABLE} or {@link ChangeSupport#SUPPORTED} are
+ * indexed. Whenever a {@link ChangeSupport#SUPPORTED} property source reports a change to its registered
+ * listeners, or its {@link PropertySource#getVersion()} changes, the index is discarded and rebuilt on demand.
+ * The version is checked on each access, since property sources may detect changes only when being accessed
+ * and therefore not notify their listeners in time. {@link ChangeSupport#UNSUPPORTED} property sources
+ * cannot be indexed safely and are still queried on each access, whenever they have a higher significance than
+ * the indexed match.
+ * </p>
+ * <p>
+ * An instance keeps the index for one context only, so use a separate instance per configuration, e.g.
+ * by calling {@link DefaultConfiguration#DefaultConfiguration(ConfigurationContext, ConfigValueEvaluator)}.
+ * </p>
+ */
+public class IndexedConfigValueEvaluator extends DefaultConfigValueEvaluator {
+
+    private static final Logger LOG = Logger.getLogger(IndexedConfigValueEvaluator.class.getName());
+
+    /** The current index, or null. */
+    private volatile KeyIndex index;
+
+    @Override
+    public PropertyValue evaluateRawValue(String key, ConfigurationContext context) {
+        PropertyValue unfilteredValue = getIndex(context).get(key);
+        if(unfilteredValue==null ||
+                (unfilteredValue.getValueType()== PropertyValue.ValueType.VALUE && unfilteredValue.getValue()==null)){
+            return null;
+        }
+        return unfilteredValue;
+    }
+
+    /**
+     * Discards all indexed values, so they are evaluated again on next access. This is useful, when property
+     * sources are known to have changed without notifying their listeners.
+     */
+    public void invalidate(){
+        KeyIndex current = this.index;
+        if(current!=null){
+            current.clear();
+        }
+    }
+
+    private KeyIndex getIndex(ConfigurationContext context){
+        KeyIndex current = this.index;
+        if(current!=null && current.context==context){
+            return current;
+        }
+        synchronized (this){
+            current = this.index;
+            if(current==null || current.context!=context){
+                if(current!=null){
+                    current.release();
+                }
+                current = new KeyIndex(context);
+                this.index = current;
+            }
+            return current;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "IndexedConfigValueEvaluator{}";
+    }
+
+    /**
+     * The index of a single configuration context.
+     */
+    private static final class KeyIndex{
+        /** Marker for keys not found in any indexed property source. */
+        private static final IndexEntry MISSING = new IndexEntry(null, -1);
+        /** The context indexed. */
+        private final ConfigurationContext context;
+        /** The property sources, ordered by increasing significance. */
+        private final List<PropertySource> propertySources;
+        /** The positions of the not indexable property sources, ordered by decreasing significance. */
+        private final int[] livePositions;
+        /** The versions of the property sources supporting change events. */
+        private final PropertySourceVersions versions;
+        /** The resolved entries. */
+        private volatile Map<String, IndexEntry> entries = new ConcurrentHashMap<>();
+        /** The versions snapshot the entries were resolved for. */
+        private volatile String[] entriesVersions;
+        /** Listener registered on property sources supporting change events. */
+        private final BiConsumer<Set<String>, PropertySource> listener = (keys, source) -> clear();
+
+        KeyIndex(ConfigurationContext context){
+            this.context = context;
+            this.propertySources = new ArrayList<>(context.getPropertySources());
+            List<Integer> live = new ArrayList<>();
+            List<PropertySource> supported = new ArrayList<>();
+            for(int i=propertySources.size()-1;i>=0;i--){
+                PropertySource ps = propertySources.get(i);
+                switch(ps.getChangeSupport()){
+                    case SUPPORTED:
+                        ps.addChangeListener(listener);
+                        supported.add(ps);
+                        break;
+                    case IMMUTABLE:
+                        break;
+                    case UNSUPPORTED:
+                    default:
+                        live.add(i);
+                }
+            }
+            this.livePositions = new int[live.size()];
+            for(int i=0;i<livePositions.length;i++){
+                livePositions[i] = live.get(i);
+            }
+            this.versions = new PropertySourceVersions(supported);
+            this.entriesVersions = versions.current();
+            LOG.finest(() -> "Created key index, not indexable property sources: " + live.size());
+        }
+
+        PropertyValue get(String key){
+            String[] currentVersions = versions.current();
+            if(currentVersions!=entriesVersions){
+                clear();
+                this.entriesVersions = currentVersions;
+            }
+            Map<String, IndexEntry> entries = this.entries;
+            IndexEntry entry = entries.get(key);
+            if(entry==null){
+                entry = resolve(key);
+                entries.put(key, entry);
+            }
+            for(int pos:livePositions){
+                if(pos<entry.position){
+                    break;
+                }
+                PropertySource ps = propertySources.get(pos);
+                if(!ps.mightContain(key)){
+                    continue;
+                }
+                PropertyValue val = ps.get(key);
+                if(val!=null){
+                    return val;
+                }
+            }
+            return entry.value;
+        }
+
+        private IndexEntry resolve(String key){
+            int live = 0;
+            for(int i=propertySources.size()-1;i>=0;i--){
+                if(live<livePositions.length && livePositions[live]==i){
+                    live++;
+                    continue;
+                }
+                PropertySource ps = propertySources.get(i);
+                if(!ps.mightContain(key)){
+                    continue;
+                }
+                PropertyValue val = ps.get(key);
+                if(val!=null){
+                    return new IndexEntry(val, i);
+                }
+            }
+            return MISSING;
+        }
+
+        void clear(){
+            this.entries = new ConcurrentHashMap<>();
+        }
+
+        void release(){
+            for(PropertySource ps:propertySources){
+                if(ps.getChangeSupport()==ChangeSupport.SUPPORTED){
+                    ps.removeChangeListener(listener);
+                }
+            }
+        }
+    }
+
+    /**
+     * A resolved index entry.
+     */
+    private static final class IndexEntry{
+        /** The resolved value, or null. */
+        private final PropertyValue value;
+        /** The position of the providing property source. */
+        private final int position;
+
+        IndexEntry(PropertyValue value, int position){
+            this.value = value;
+            this.position = position;
+        }
+    }
+}
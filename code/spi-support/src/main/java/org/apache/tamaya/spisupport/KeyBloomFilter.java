@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tamaya.spisupport;
+
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Compact Bloom filter over a fixed set of property keys, used by property sources to implement
+ * {@link org.apache.tamaya.spi.PropertySource#mightContain(String)}. Keys contained in the set are always reported,
+ * whereas about one percent of the keys not contained are reported falsely.
+ * <p>
+ * Instances are immutable, a filter must be recreated when the key set changes.
+ * </p>
+ */
+public final class KeyBloomFilter {
+
+    /** The number of bits per key, resulting in a false positive rate of about 1%. */
+    private static final int BITS_PER_KEY = 10;
+    /** The number of hash functions, optimal for the bits per key. */
+    private static final int HASH_FUNCTIONS = 7;
+    /** The minimal number of bits. */
+    private static final int MIN_BITS = 64;
+
+    /** The bit set. */
+    private final long[] bits;
+    /** The number of bits used. */
+    private final int bitCount;
+
+    /**
+     * Creates a new filter.
+     * @param keys the keys contained, not null.
+     */
+    public KeyBloomFilter(Collection<String> keys){
+        Objects.requireNonNull(keys, "Keys must not be null.");
+        long size = Math.max(MIN_BITS, (long) keys.size() * BITS_PER_KEY);
+        this.bits = new long[(int) Math.min(Integer.MAX_VALUE / Long.SIZE, (size + Long.SIZE - 1) / Long.SIZE)];
+        this.bitCount = bits.length * Long.SIZE;
+        for(String key:keys){
+            int h1 = key.hashCode();
+            int h2 = secondHash(h1);
+            for(int i=0;i<HASH_FUNCTIONS;i++){
+                int bit = index(h1 + i * h2);
+                bits[bit >>> 6] |= 1L << bit;
+            }
+        }
+    }
+
+    /**
+     * Checks if the given key may be contained.
+     * @param key the key, not null.
+     * @return false, if the key is definitely not contained.
+     */
+    public boolean mightContain(String key){
+        int h1 = key.hashCode();
+        int h2 = secondHash(h1);
+        for(int i=0;i<HASH_FUNCTIONS;i++){
+            int bit = index(h1 + i * h2);
+            if((bits[bit >>> 6] & (1L << bit)) == 0){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get the number of bits of this filter.
+     * @return the bit count.
+     */
+    public int getBitCount(){
+        return bitCount;
+    }
+
+    private int index(int hash){
+        return (hash & Integer.MAX_VALUE) % bitCount;
+    }
+
+    /**
+     * Derives an independent second hash by applying the murmur3 finalizer, forced to be odd.
+     * @param hash the key hash.
+     * @return the second hash.
+     */
+    private static int secondHash(int hash){
+        int h = hash;
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h | 1;
+    }
+
+    @Override
+    public String toString() {
+        return "KeyBloomFilter{" +
+                "bitCount=" + bitCount +
+                '}';
+    }
+}
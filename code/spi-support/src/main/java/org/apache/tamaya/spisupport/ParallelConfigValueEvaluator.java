@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tamaya.spisupport;
+
+import org.apache.tamaya.spi.ConfigurationContext;
+import org.apache.tamaya.spi.PropertySource;
+import org.apache.tamaya.spi.PropertyValue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link ConfigValueEvaluator} evaluating all property values by accessing the property sources concurrently
+ * using the fork-join framework. The properties loaded are merged in order of the property sources, so values of
+ * property sources with higher significance override values of property sources with lower significance, same
+ * as with {@link DefaultConfigValueEvaluator}. The property sources must be thread-safe.
+ */
+public class ParallelConfigValueEvaluator extends DefaultConfigValueEvaluator{
+
+    @Override
+    public Map<String, PropertyValue> evaluateRawValues(ConfigurationContext context) {
+        List<PropertySource> propertySources = context.getPropertySources();
+        if(propertySources.size()<2){
+            return super.evaluateRawValues(context);
+        }
+        // The stream is ordered, so partial maps are combined in order of significance.
+        return propertySources.parallelStream()
+                .map(PropertySource::getProperties)
+                .collect(HashMap::new, ParallelConfigValueEvaluator::putValues, Map::putAll);
+    }
+
+    private static void putValues(Map<String, PropertyValue> result, Map<String, PropertyValue> values){
+        for (PropertyValue val: values.values()) {
+            if (val!=null && (val.getValueType() != PropertyValue.ValueType.VALUE || val.getValue() != null)){
+                result.put(val.getKey(), val);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ParallelConfigValueEvaluator{}";
+    }
+}
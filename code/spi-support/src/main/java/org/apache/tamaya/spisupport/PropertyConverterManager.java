@@ -24,6 +24,10 @@ import org.apache.tamaya.spi.ConversionContext;
 import org.apache.tamaya.spi.PropertyConverter;
 import org.apache.tamaya.spi.ServiceContext;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
@@ -32,9 +36,6 @@ import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -48,17 +49,27 @@ public class PropertyConverterManager {
      */
     private static final Logger LOG = Logger.getLogger(PropertyConverterManager.class.getName());
     /**
-     * The registered converters.
+     * The current registry snapshot, replaced atomically on each registration.
      */
-    private final Map<TypeLiteral<?>, List<PropertyConverter<?>>> converters = new ConcurrentHashMap<>();
+    private volatile Registry registry = new Registry(Collections.emptyMap(), Collections.emptyMap());
     /**
-     * The transitive converters.
+     * The type of the converters converting arrays of any component type.
      */
-    private final Map<TypeLiteral<?>, List<PropertyConverter<?>>> transitiveConverters = new ConcurrentHashMap<>();
+    private static final TypeLiteral<Object[]> OBJECT_ARRAY_TYPE = TypeLiteral.of(Object[].class);
     /**
-     * The lock used.
+     * The static factory method names supported for dynamic converters, in order of preference.
      */
-    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private static final String[] FACTORY_METHOD_NAMES = {"of", "createValue", "instanceOf", "getInstance",
+            "from", "fromString", "parse"};
+    /**
+     * The dynamic converters resolved per type, including a {@code null} value for types not convertible.
+     */
+    private static final ClassValue<PropertyConverter<?>> DYNAMIC_CONVERTERS = new ClassValue<PropertyConverter<?>>() {
+        @Override
+        protected PropertyConverter<?> computeValue(Class<?> type) {
+            return resolveDynamicConverter(type);
+        }
+    };
 
     private static final Comparator<Object> PRIORITY_COMPARATOR = new Comparator<Object>() {
 
@@ -110,68 +121,54 @@ public class PropertyConverterManager {
 
 
     /**
-     * Registers a new converters instance.
+     * Registers a new converters instance. Registrations are serialized, each creating a new registry
+     * snapshot, so readers never block.
      *
      * @param targetType the target type, not {@code null}.
      * @param converter  the converters, not {@code null}.
      * @param <T>        the type.
      */
-    @SuppressWarnings("unchecked")
     public <T> void register(TypeLiteral<T> targetType, PropertyConverter<T> converter) {
         Objects.requireNonNull(converter);
-        Lock writeLock = lock.writeLock();
-        try {
-            writeLock.lock();
-            List<PropertyConverter<?>> converters = List.class.cast(this.converters.get(targetType));
+        synchronized (this) {
+            Registry current = this.registry;
+            List<PropertyConverter<?>> converters = current.converters.get(targetType);
             if(converters!=null && converters.contains(converter)){
                 return;
             }
-            List<PropertyConverter<?>> newConverters = new ArrayList<>();
-            if (converters != null) {
-                newConverters.addAll(converters);
-            }
-            if(!newConverters.contains(converter)) {
-                newConverters.add(converter);
-            }
-            Collections.sort(newConverters, PRIORITY_COMPARATOR);
-            this.converters.put(targetType, Collections.unmodifiableList(newConverters));
+            Map<TypeLiteral<?>, List<PropertyConverter<?>>> newConverters = new HashMap<>(current.converters);
+            Map<TypeLiteral<?>, List<PropertyConverter<?>>> newTransitiveConverters =
+                    new HashMap<>(current.transitiveConverters);
+            addConverter(newConverters, targetType, converter);
             // evaluate transitive closure for all inherited supertypes and implemented interfaces
             // direct implemented interfaces
             for (Class<?> ifaceType : targetType.getRawType().getInterfaces()) {
-                converters = List.class.cast(this.transitiveConverters.get(TypeLiteral.of(ifaceType)));
-                newConverters = new ArrayList<>();
-                if (converters != null) {
-                    newConverters.addAll(converters);
-                }
-                newConverters.add(converter);
-                Collections.sort(newConverters, PRIORITY_COMPARATOR);
-                this.transitiveConverters.put(TypeLiteral.of(ifaceType), Collections.unmodifiableList(newConverters));
+                addConverter(newTransitiveConverters, TypeLiteral.of(ifaceType), converter);
             }
             Class<?> superClass = targetType.getRawType().getSuperclass();
             while (superClass != null && !superClass.equals(Object.class)) {
-                converters = List.class.cast(this.transitiveConverters.get(TypeLiteral.of(superClass)));
-                newConverters = new ArrayList<>();
-                if (converters != null) {
-                    newConverters.addAll(converters);
-                }
-                newConverters.add(converter);
-                Collections.sort(newConverters, PRIORITY_COMPARATOR);
-                this.transitiveConverters.put(TypeLiteral.of(superClass), Collections.unmodifiableList(newConverters));
+                addConverter(newTransitiveConverters, TypeLiteral.of(superClass), converter);
                 for (Class<?> ifaceType : superClass.getInterfaces()) {
-                    converters = List.class.cast(this.transitiveConverters.get(TypeLiteral.of(ifaceType)));
-                    newConverters = new ArrayList<>();
-                    if (converters != null) {
-                        newConverters.addAll(converters);
-                    }
-                    newConverters.add(converter);
-                    Collections.sort(newConverters, PRIORITY_COMPARATOR);
-                    this.transitiveConverters.put(TypeLiteral.of(ifaceType), Collections.unmodifiableList(newConverters));
+                    addConverter(newTransitiveConverters, TypeLiteral.of(ifaceType), converter);
                 }
                 superClass = superClass.getSuperclass();
             }
-        } finally {
-            writeLock.unlock();
+            this.registry = new Registry(newConverters, newTransitiveConverters);
+        }
+    }
+
+    private static void addConverter(Map<TypeLiteral<?>, List<PropertyConverter<?>>> converterMap,
+                                     TypeLiteral<?> type, PropertyConverter<?> converter) {
+        List<PropertyConverter<?>> converters = converterMap.get(type);
+        List<PropertyConverter<?>> newConverters = new ArrayList<>();
+        if (converters != null) {
+            newConverters.addAll(converters);
+        }
+        if(!newConverters.contains(converter)) {
+            newConverters.add(converter);
         }
+        Collections.sort(newConverters, PRIORITY_COMPARATOR);
+        converterMap.put(type, Collections.unmodifiableList(newConverters));
     }
 
     /**
@@ -181,7 +178,9 @@ public class PropertyConverterManager {
      * @return true, if a converter for the given type is registered or a default one can be created.
      */
     public boolean isTargetTypeSupported(TypeLiteral<?> targetType) {
-        return converters.containsKey(targetType) || transitiveConverters.containsKey(targetType) || createDefaultPropertyConverter(targetType) != null;
+        Registry current = this.registry;
+        return current.converters.containsKey(targetType) || current.transitiveConverters.containsKey(targetType)
+                || createDefaultPropertyConverter(targetType) != null;
     }
 
     /**
@@ -193,13 +192,7 @@ public class PropertyConverterManager {
      * @see #createDefaultPropertyConverter(org.apache.tamaya.TypeLiteral)
      */
     public Map<TypeLiteral<?>, List<PropertyConverter<?>>> getPropertyConverters() {
-        Lock readLock = lock.readLock();
-        try {
-            readLock.lock();
-            return new HashMap<>(this.converters);
-        } finally {
-            readLock.unlock();
-        }
+        return new HashMap<>(this.registry.converters);
     }
 
 
@@ -227,201 +220,168 @@ public class PropertyConverterManager {
      * should be used. Also in all cases @Priority annotations are honored for ordering of the converters in place.
      * Transitive conversion is supported for all directly implemented interfaces (including inherited ones) and
      * the inheritance hierarchy (exception Object). Superinterfaces of implemented interfaces are ignored.
+     * <p>
+     * The resolved list is cached per target type until the next converter is registered.
      *
      * @param targetType the target type, not {@code null}.
      * @param <T>        the type class
-     * @return the ordered createList of converters (may be empty for not convertible types).
+     * @return the ordered, unmodifiable createList of converters (may be empty for not convertible types).
      * @see #createDefaultPropertyConverter(org.apache.tamaya.TypeLiteral)
      */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
     public <T> List<PropertyConverter<T>> getPropertyConverters(TypeLiteral<T> targetType) {
-        Lock readLock = lock.readLock();
-        List<PropertyConverter<T>> converterList = new ArrayList<>();
-        // direct mapped converters
-        try {
-            readLock.lock();
-            addConvertersToList(List.class.cast(this.converters.get(targetType)), converterList);
-            addConvertersToList(List.class.cast(this.transitiveConverters.get(targetType)), converterList);
-        } finally {
-            readLock.unlock();
+        Registry current = this.registry;
+        List resolved = current.resolvedChains.get(targetType);
+        if(resolved!=null){
+            return resolved;
         }
-        // handling of java.lang wrapper classes
-        TypeLiteral<T> boxedType = mapBoxedType(targetType);
-        if (boxedType != null) {
-            try {
-                readLock.lock();
-                addConvertersToList(List.class.cast(this.converters.get(boxedType)), converterList);
-            } finally {
-                readLock.unlock();
-            }
-        }
-        if (converterList.isEmpty() && !TypeLiteral.of(String.class).equals(targetType)) {
+        resolved = resolveConverters(current, targetType);
+        if (resolved.isEmpty() && !TypeLiteral.of(String.class).equals(targetType)) {
             // adding any converters created on the fly, e.g. for enum types.
             PropertyConverter<T> defaultConverter = createDefaultPropertyConverter(targetType);
             if (defaultConverter != null) {
                 register(targetType, defaultConverter);
-                try {
-                    readLock.lock();
-                    addConvertersToList(List.class.cast(this.converters.get(targetType)), converterList);
-                } finally {
-                    readLock.unlock();
-                }
-            }
-        }
-        // check for parametrized types, ignoring param type
-        // direct mapped converters
-        if(targetType.getType()!=null) {
-            try {
-                readLock.lock();
-                addConvertersToList(List.class.cast(this.converters.get(
-                        TypeLiteral.of(targetType.getRawType()))), converterList);
-            } finally {
-                readLock.unlock();
-            }
-        }
-        return converterList;
-    }
-
-    private <T> void addConvertersToList(Collection<PropertyConverter<T>> converters, List<PropertyConverter<T>> converterList) {
-        if (converters != null) {
-            for(PropertyConverter<T> conv:converters) {
-                if(!converterList.contains(conv)) {
-                    converterList.add(conv);
-                }
+                current = this.registry;
+                resolved = resolveConverters(current, targetType);
             }
         }
+        current.resolvedChains.putIfAbsent(targetType, resolved);
+        return resolved;
     }
 
     /**
-     * Maps native types to the corresponding boxed types.
-     *
-     * @param targetType the native type.
-     * @param <T>        the type
-     * @return the boxed type, or null.
+     * Evaluates the converter chain for the given target type.
+     * @param registry the registry snapshot, not {@code null}.
+     * @param targetType the target type, not {@code null}.
+     * @return the converters, never {@code null}.
      */
-    @SuppressWarnings("unchecked")
-    private <T> TypeLiteral<T> mapBoxedType(TypeLiteral<T> targetType) {
-        Type parameterType = targetType.getType();
-        if (parameterType == int.class) {
-            return TypeLiteral.class.cast(TypeLiteral.of(Integer.class));
-        }
-        if (parameterType == short.class) {
-            return TypeLiteral.class.cast(TypeLiteral.of(Short.class));
-        }
-        if (parameterType == byte.class) {
-            return TypeLiteral.class.cast(TypeLiteral.of(Byte.class));
-        }
-        if (parameterType == long.class) {
-            return TypeLiteral.class.cast(TypeLiteral.of(Long.class));
-        }
-        if (parameterType == boolean.class) {
-            return TypeLiteral.class.cast(TypeLiteral.of(Boolean.class));
-        }
-        if (parameterType == char.class) {
-            return TypeLiteral.class.cast(TypeLiteral.of(Character.class));
-        }
-        if (parameterType == float.class) {
-            return TypeLiteral.class.cast(TypeLiteral.of(Float.class));
-        }
-        if (parameterType == double.class) {
-            return TypeLiteral.class.cast(TypeLiteral.of(Double.class));
-        }
-        if (parameterType == int[].class) {
-            return TypeLiteral.class.cast(TypeLiteral.of(Integer[].class));
-        }
-        if (parameterType == short[].class) {
-            return TypeLiteral.class.cast(TypeLiteral.of(Short[].class));
-        }
-        if (parameterType == byte[].class) {
-            return TypeLiteral.class.cast(TypeLiteral.of(Byte[].class));
-        }
-        if (parameterType == long[].class) {
-            return TypeLiteral.class.cast(TypeLiteral.of(Long[].class));
+    private List<PropertyConverter<?>> resolveConverters(Registry registry, TypeLiteral<?> targetType) {
+        Set<PropertyConverter<?>> converterSet = new LinkedHashSet<>();
+        // direct mapped converters
+        addConverters(registry.converters.get(targetType), converterSet);
+        addConverters(registry.transitiveConverters.get(targetType), converterSet);
+        // handling of java.lang wrapper classes
+        TypeLiteral<?> boxedType = targetType.getBoxedType();
+        if (boxedType != targetType) {
+            addConverters(registry.converters.get(boxedType), converterSet);
         }
-        if (parameterType == boolean[].class) {
-            return TypeLiteral.class.cast(TypeLiteral.of(Boolean[].class));
+        // generic array converters, converting element wise
+        if (targetType.getRawType().isArray()) {
+            addConverters(registry.converters.get(OBJECT_ARRAY_TYPE), converterSet);
         }
-        if (parameterType == char[].class) {
-            return TypeLiteral.class.cast(TypeLiteral.of(Character[].class));
+        // check for parametrized types, ignoring param type
+        // direct mapped converters
+        if(targetType.getType()!=null) {
+            addConverters(registry.converters.get(TypeLiteral.of(targetType.getRawType())), converterSet);
         }
-        if (parameterType == float[].class) {
-            return TypeLiteral.class.cast(TypeLiteral.of(Float[].class));
+        if(converterSet.isEmpty()){
+            return Collections.emptyList();
         }
-        if (parameterType == double[].class) {
-            return TypeLiteral.class.cast(TypeLiteral.of(Double[].class));
+        return Collections.unmodifiableList(new ArrayList<>(converterSet));
+    }
+
+    private static void addConverters(List<PropertyConverter<?>> converters, Set<PropertyConverter<?>> converterSet) {
+        if (converters != null) {
+            converterSet.addAll(converters);
         }
-        return null;
     }
 
     /**
-     * Creates a dynamic {@link PropertyConverter} for the given target type.
+     * Creates a dynamic {@link PropertyConverter} for the given target type. Converters based on static
+     * factory methods or String constructors are resolved only once per type, also if none is found.
      *
      * @param targetType the target type
      * @param <T>        the type class
      * @return a new converters, or null.
      */
+    @SuppressWarnings("unchecked")
     protected <T> PropertyConverter<T> createDefaultPropertyConverter(final TypeLiteral<T> targetType) {
         if (Enum.class.isAssignableFrom(targetType.getRawType())) {
             return new EnumConverter<>(targetType.getRawType());
         }
-        PropertyConverter<T> converter = null;
-        final Method factoryMethod = getFactoryMethod(targetType.getRawType(), "of", "createValue", "instanceOf", "getInstance", "from", "fromString", "parse");
+        return (PropertyConverter<T>) DYNAMIC_CONVERTERS.get(targetType.getRawType());
+    }
+
+    /**
+     * Evaluates the converter based on a static factory method or a String constructor, if any.
+     *
+     * @param type the target type, not {@code null}.
+     * @return the converter, or null.
+     */
+    private static PropertyConverter<?> resolveDynamicConverter(Class<?> type) {
+        Method factoryMethod = getFactoryMethod(type, FACTORY_METHOD_NAMES);
         if (factoryMethod != null) {
-            converter = new DefaultPropertyConverter<>(factoryMethod, targetType.getRawType());
+            if (!Modifier.isStatic(factoryMethod.getModifiers())) {
+                return new NonStaticFactoryMethodConverter<>(factoryMethod);
+            }
+            MethodHandle handle = unreflect(factoryMethod);
+            if (handle != null) {
+                return new FactoryMethodConverter<>(handle, factoryMethod, type);
+            }
         }
-        if (converter == null) {
-            final Constructor<T> constr;
-            try {
-                constr = targetType.getRawType().getDeclaredConstructor(String.class);
-            } catch (NoSuchMethodException e) {
-                LOG.log(Level.FINEST, "No matching constructor for " + targetType, e);
-                return null;
+        for (Constructor<?> constr : type.getDeclaredConstructors()) {
+            if (constr.getParameterCount() == 1 && constr.getParameterTypes()[0] == String.class) {
+                MethodHandle handle = unreflect(constr);
+                if (handle != null) {
+                    return new ConstructorConverter<>(handle, type);
+                }
             }
-            converter = new PropertyConverter<T>() {
-                    @Override
-                    public T convert(String value, ConversionContext context) {
-                        AccessController.doPrivileged(new PrivilegedAction<Object>() {
-                            @Override
-                            public Object run() {
-                                AccessController.doPrivileged(new PrivilegedAction<Object>() {
-                                    @Override
-                                    public Object run() {
-                                        constr.setAccessible(true);
-                                        return null;
-                                    }
-                                });
-                                return null;
-                            }
-                        });
-                        try {
-                            return constr.newInstance(value);
-                        } catch (Exception e) {
-                            LOG.log(Level.SEVERE, "Error creating new PropertyConverter instance " + targetType, e);
-                        }
-                        return null;
-                    }
-                };
         }
-        return converter;
+        LOG.finest("No factory method or String constructor found on type: " + type.getName());
+        return null;
+    }
+
+    /**
+     * Creates a method handle with type {@code (String)Object} for the given method or constructor.
+     *
+     * @param member the factory method or constructor, not {@code null}.
+     * @return the method handle, or null, if the member is not accessible.
+     */
+    private static MethodHandle unreflect(final AccessibleObject member) {
+        try {
+            AccessController.doPrivileged(new PrivilegedAction<Object>() {
+                @Override
+                public Object run() {
+                    member.setAccessible(true);
+                    return null;
+                }
+            });
+            MethodHandle handle;
+            if (member instanceof Constructor) {
+                handle = MethodHandles.lookup().unreflectConstructor((Constructor<?>) member);
+            } else {
+                handle = MethodHandles.lookup().unreflect((Method) member);
+            }
+            return handle.asType(MethodType.methodType(Object.class, String.class));
+        } catch (IllegalAccessException | RuntimeException e) {
+            LOG.log(Level.FINEST, "Cannot access " + member, e);
+            return null;
+        }
     }
 
     /**
      * Tries to evaluate a factory method that can be used to createObject an instance based on a String.
      *
      * @param type        the target type
-     * @param methodNames the possible static method names
+     * @param methodNames the possible static method names, in order of preference
      * @return the first method found, or null.
      */
-    private Method getFactoryMethod(Class<?> type, String... methodNames) {
-        Method m;
-        for (String name : methodNames) {
-            try {
-                m = type.getDeclaredMethod(name, String.class);
-                return m;
-            } catch (NoSuchMethodException | RuntimeException e) {
-                LOG.finest("No such factory method found on type: " + type.getName() + ", methodName: " + name);
+    private static Method getFactoryMethod(Class<?> type, String... methodNames) {
+        Method found = null;
+        int foundIndex = methodNames.length;
+        for (Method m : type.getDeclaredMethods()) {
+            if (m.isBridge() || m.getParameterCount() != 1 || m.getParameterTypes()[0] != String.class) {
+                continue;
+            }
+            for (int i = 0; i < foundIndex; i++) {
+                if (methodNames[i].equals(m.getName())) {
+                    found = m;
+                    foundIndex = i;
+                    break;
+                }
             }
         }
-        return null;
+        return found;
     }
 
     @Override
@@ -433,53 +393,110 @@ public class PropertyConverterManager {
             return false;
         }
         PropertyConverterManager that = (PropertyConverterManager) o;
-        return converters.equals(that.converters);
+        return registry.converters.equals(that.registry.converters);
 
     }
 
     @Override
     public int hashCode() {
-        return converters.hashCode();
+        return registry.converters.hashCode();
     }
 
 
 
     /**
-     * Default converter implementation performing several lookups for String conversion
-     * options.
-     * @param <T>
+     * Immutable snapshot of the registered converters, including the converter chains resolved so far.
      */
-    private static class DefaultPropertyConverter<T> implements PropertyConverter<T> {
+    private static final class Registry {
+        /** The registered converters. */
+        private final Map<TypeLiteral<?>, List<PropertyConverter<?>>> converters;
+        /** The transitive converters. */
+        private final Map<TypeLiteral<?>, List<PropertyConverter<?>>> transitiveConverters;
+        /** The resolved converter chains per target type, valid for this snapshot only. */
+        private final Map<TypeLiteral<?>, List<PropertyConverter<?>>> resolvedChains = new ConcurrentHashMap<>();
 
-        private final Method factoryMethod;
+        Registry(Map<TypeLiteral<?>, List<PropertyConverter<?>>> converters,
+                 Map<TypeLiteral<?>, List<PropertyConverter<?>>> transitiveConverters) {
+            this.converters = Collections.unmodifiableMap(converters);
+            this.transitiveConverters = Collections.unmodifiableMap(transitiveConverters);
+        }
+    }
+
+    /**
+     * Converter calling a static factory method taking a single String.
+     * @param <T> the target type
+     */
+    private static final class FactoryMethodConverter<T> implements PropertyConverter<T> {
+
+        private final MethodHandle factoryMethod;
+        private final String factoryMethodName;
         private final Class<T> targetType;
 
-        DefaultPropertyConverter(Method factoryMethod, Class<T> targetType){
+        FactoryMethodConverter(MethodHandle factoryMethod, Method method, Class<T> targetType){
             this.factoryMethod = Objects.requireNonNull(factoryMethod);
+            this.factoryMethodName = method.toGenericString();
             this.targetType =  Objects.requireNonNull(targetType);
         }
 
         @Override
         public T convert(String value, ConversionContext context) {
-            context.addSupportedFormats(getClass(), "<String -> " + factoryMethod.toGenericString());
-            if (!Modifier.isStatic(factoryMethod.getModifiers())) {
-                throw new ConfigException(factoryMethod.toGenericString() +
-                        " is not a static method. Only static " +
-                        "methods can be used as factory methods.");
-            }
+            Object invoke;
             try {
-                AccessController.doPrivileged(new PrivilegedAction<Object>() {
-                    @Override
-                    public Object run() {
-                        factoryMethod.setAccessible(true);
-                        return null;
-                    }
-                });
-                Object invoke = factoryMethod.invoke(null, value);
-                return targetType.cast(invoke);
-            } catch (Exception e) {
+                invoke = (Object) factoryMethod.invokeExact(value);
+            } catch (Throwable e) {
+                context.addSupportedFormats(getClass(), "<String -> " + factoryMethodName);
                 throw new ConfigException("Failed to decode '" + value + "'", e);
             }
+            if (invoke == null) {
+                context.addSupportedFormats(getClass(), "<String -> " + factoryMethodName);
+            }
+            return targetType.cast(invoke);
+        }
+    }
+
+    /**
+     * Converter for a factory method found, which is not static and therefore cannot be used.
+     * @param <T> the target type
+     */
+    private static final class NonStaticFactoryMethodConverter<T> implements PropertyConverter<T> {
+
+        private final String factoryMethodName;
+
+        NonStaticFactoryMethodConverter(Method factoryMethod){
+            this.factoryMethodName = factoryMethod.toGenericString();
+        }
+
+        @Override
+        public T convert(String value, ConversionContext context) {
+            context.addSupportedFormats(getClass(), "<String -> " + factoryMethodName);
+            throw new ConfigException(factoryMethodName +
+                    " is not a static method. Only static " +
+                    "methods can be used as factory methods.");
+        }
+    }
+
+    /**
+     * Converter calling a constructor taking a single String.
+     * @param <T> the target type
+     */
+    private static final class ConstructorConverter<T> implements PropertyConverter<T> {
+
+        private final MethodHandle constructor;
+        private final Class<T> targetType;
+
+        ConstructorConverter(MethodHandle constructor, Class<T> targetType){
+            this.constructor = Objects.requireNonNull(constructor);
+            this.targetType =  Objects.requireNonNull(targetType);
+        }
+
+        @Override
+        public T convert(String value, ConversionContext context) {
+            try {
+                return targetType.cast((Object) constructor.invokeExact(value));
+            } catch (Throwable e) {
+                LOG.log(Level.SEVERE, "Error creating new PropertyConverter instance " + targetType, e);
+            }
+            return null;
         }
     }
 
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tamaya.spisupport;
+
+import org.apache.tamaya.spi.PropertyFilter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Evaluates and caches the {@link PropertyFilter}s to be applied per key, based on
+ * {@link PropertyFilter#appliesTo(String)}, {@link PropertyFilter#isIdempotent()} and
+ * {@link PropertyFilter#getDependencies(String)}.
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ */
+public final class PropertyFilterPlan {
+
+    /** The maximal number of keys, for which the filters are cached. */
+    private static final int MAX_CACHED_KEYS = 10000;
+    /** The plan used, when no filters are registered. */
+    private static final KeyPlan EMPTY = new KeyPlan(Collections.emptyList(), true, Collections.emptySet());
+
+    /** All filters, in order of evaluation. */
+    private final List<PropertyFilter> filters;
+    /** The plans evaluated, keyed by property key. */
+    private final Map<String, KeyPlan> plans = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new instance.
+     * @param filters the filters, in order of evaluation, not null.
+     */
+    public PropertyFilterPlan(List<PropertyFilter> filters){
+        this.filters = Collections.unmodifiableList(new ArrayList<>(Objects.requireNonNull(filters)));
+    }
+
+    /**
+     * Get the filter plan for the given key.
+     * @param key the property key, not null.
+     * @return the plan, never null.
+     */
+    public KeyPlan getPlan(String key){
+        if(filters.isEmpty()){
+            return EMPTY;
+        }
+        KeyPlan plan = plans.get(key);
+        if(plan==null){
+            plan = evaluatePlan(key);
+            if(plans.size() < MAX_CACHED_KEYS){
+                plans.put(key, plan);
+            }
+        }
+        return plan;
+    }
+
+    /**
+     * Get all filters, in order of evaluation.
+     * @return the filters, never null.
+     */
+    public List<PropertyFilter> getFilters(){
+        return filters;
+    }
+
+    private KeyPlan evaluatePlan(String key){
+        List<PropertyFilter> applicable = new ArrayList<>(filters.size());
+        boolean idempotent = true;
+        Set<String> dependencies = new HashSet<>();
+        for(PropertyFilter filter:filters){
+            if(filter.appliesTo(key)){
+                applicable.add(filter);
+                idempotent = idempotent && filter.isIdempotent();
+                if(dependencies!=null){
+                    Collection<String> filterDependencies = filter.getDependencies(key);
+                    if(filterDependencies==null){
+                        dependencies = null;
+                    }else{
+                        dependencies.addAll(filterDependencies);
+                    }
+                }
+            }
+        }
+        if(applicable.size()==filters.size()){
+            applicable = filters;
+        }
+        return new KeyPlan(Collections.unmodifiableList(applicable), idempotent,
+                dependencies==null?null:Collections.unmodifiableSet(dependencies));
+    }
+
+    @Override
+    public String toString() {
+        return "PropertyFilterPlan{" +
+                "filters=" + filters +
+                ", cachedKeys=" + plans.size() +
+                '}';
+    }
+
+    /**
+     * The filters to be applied to values of a key.
+     */
+    public static final class KeyPlan{
+        /** The applicable filters, in order of evaluation. */
+        private final List<PropertyFilter> filters;
+        /** Flag, if the filters are evaluated in a single pass. */
+        private final boolean singlePass;
+        /** The keys of the entries the filters depend on, or null. */
+        private final Set<String> dependencies;
+
+        KeyPlan(List<PropertyFilter> filters, boolean singlePass, Set<String> dependencies){
+            this.filters = filters;
+            this.singlePass = singlePass;
+            this.dependencies = dependencies;
+        }
+
+        /**
+         * Get the filters applicable, in order of evaluation.
+         * @return the filters, never null.
+         */
+        public List<PropertyFilter> getFilters() {
+            return filters;
+        }
+
+        /**
+         * Checks if all applicable filters are idempotent, so the filters must be evaluated only once.
+         * @return true, if a single filter pass is sufficient.
+         */
+        public boolean isSinglePass() {
+            return singlePass;
+        }
+
+        /**
+         * Get the keys of the other entries the applicable filters depend on.
+         * @return the keys, or null, if not all filters declare their dependencies.
+         * @see PropertyFilter#getDependencies(String)
+         */
+        public Set<String> getDependencies() {
+            return dependencies;
+        }
+
+        @Override
+        public String toString() {
+            return "KeyPlan{" +
+                    "filters=" + filters +
+                    ", singlePass=" + singlePass +
+                    ", dependencies=" + dependencies +
+                    '}';
+        }
+    }
+}
@@ -24,8 +24,11 @@ import org.apache.tamaya.spi.PropertyFilter;
 import org.apache.tamaya.spi.PropertyValue;
 
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of the Configuration API. This class uses the current {@link ConfigurationContext} to evaluate the
@@ -41,6 +44,10 @@ public final class PropertyFiltering{
      * The maximal number of filter cycles performed before aborting.
      */
     private static final int MAX_FILTER_LOOPS = 10;
+    /**
+     * The minimal number of properties filtered in parallel by {@link #applyFiltersParallel(Map, ConfigurationContext)}.
+     */
+    private static final int PARALLEL_THRESHOLD = 1024;
 
     /**
      * Private singleton constructor.
@@ -54,6 +61,11 @@ public final class PropertyFiltering{
      * @return the filtered createValue, including {@code null}.
      */
     public static PropertyValue applyFilter(PropertyValue value, ConfigurationContext context) {
+        FilterResultCache resultCache = getFilterResultCache(context);
+        if(resultCache!=null){
+            return resultCache.get(value, true, Collections.emptyMap(),
+                    v -> filterValue(v, new FilterContext(v, context)));
+        }
         FilterContext filterContext = new FilterContext(value, context);
         return filterValue(value, filterContext);
     }
@@ -84,28 +96,89 @@ public final class PropertyFiltering{
      */
     public static Map<String, PropertyValue> applyFilters(Map<String, PropertyValue> rawProperties, ConfigurationContext context) {
         Map<String, PropertyValue> result = new HashMap<>();
+        applyFilters(rawProperties, context, filtered -> result.put(filtered.getKey(), filtered));
+        return result;
+    }
+
+    /**
+     * Filters all properties, passing the filtered values to the given consumer instead of collecting them. The
+     * values are filtered the same way as by {@link #applyFilters(Map, ConfigurationContext)}.
+     * @param rawProperties the unfiltered properties, not {@code null}.
+     * @param context the context
+     * @param consumer the consumer accepting the filtered values, which were not removed, not {@code null}.
+     */
+    public static void applyFilters(Map<String, PropertyValue> rawProperties, ConfigurationContext context,
+                                    Consumer<PropertyValue> consumer) {
+        Function<PropertyValue, PropertyValue> filter = mapValueFilter(rawProperties, context, true);
         // Apply filters to values, prevent values filtered to null!
-        for (Map.Entry<String, PropertyValue> entry : rawProperties.entrySet()) {
-            FilterContext filterContext = new FilterContext(entry.getValue(), rawProperties, context);
-            PropertyValue filtered = filterValue(filterContext.getProperty(), filterContext);
+        for (PropertyValue value : rawProperties.values()) {
+            PropertyValue filtered = filter.apply(value);
             if(filtered!=null){
-                result.put(filtered.getKey(), filtered);
+                consumer.accept(filtered);
             }
         }
-        return result;
     }
 
     /**
-     * Basic filter logic.
+     * Filters all properties in parallel, partitioning the keys using the fork-join framework. Smaller property
+     * maps are filtered serially. The filters registered must be thread-safe.
+     * @param rawProperties the unfiltered properties, not {@code null}.
+     * @param context the context
+     * @return the filtered properties, not {@code null}.
+     * @see #applyFilters(Map, ConfigurationContext)
+     */
+    public static Map<String, PropertyValue> applyFiltersParallel(Map<String, PropertyValue> rawProperties,
+                                                                   ConfigurationContext context) {
+        if(rawProperties.size() < PARALLEL_THRESHOLD || context.getPropertyFilters().isEmpty()){
+            return applyFilters(rawProperties, context);
+        }
+        Function<PropertyValue, PropertyValue> filter = mapValueFilter(rawProperties, context, false);
+        // Apply filters to values, prevent values filtered to null!
+        return rawProperties.values().parallelStream()
+                .map(filter)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toMap(PropertyValue::getKey, Function.identity(), (v1, v2) -> v2, HashMap::new));
+    }
+
+    /**
+     * Creates the function filtering the values of a property map, reusing memoized results, if possible.
+     * @param rawProperties the unfiltered properties, not {@code null}.
+     * @param context the context
+     * @param reuseContext if true, a single {@link FilterContext} is reused for all values, so the function
+     *                     returned is not thread-safe.
+     * @return the filter function, returning the filtered value, including {@code null}.
+     */
+    private static Function<PropertyValue, PropertyValue> mapValueFilter(Map<String, PropertyValue> rawProperties,
+                                                                         ConfigurationContext context,
+                                                                         boolean reuseContext) {
+        Function<PropertyValue, PropertyValue> filter;
+        if(reuseContext){
+            BatchFilterContext filterContext = new BatchFilterContext(rawProperties, context);
+            filter = value -> filterValue(value, filterContext.reset(value));
+        }else{
+            filter = value -> filterValue(value, new FilterContext(value, rawProperties, context));
+        }
+        FilterResultCache resultCache = getFilterResultCache(context);
+        if(resultCache!=null){
+            return value -> resultCache.get(value, false, rawProperties, filter);
+        }
+        return filter;
+    }
+
+    /**
+     * Basic filter logic. Only the filters applicable to the value's key are evaluated, and the filters are
+     * evaluated once only, if all of them are idempotent.
      * @param context the filter context, not {@code null}.
      * @return the filtered createValue.
      */
     private static PropertyValue filterValue(PropertyValue inputValue, FilterContext context) {
+        PropertyFilterPlan.KeyPlan plan = getFilterPlan(context.getConfigurationContext())
+                .getPlan(inputValue.getQualifiedKey());
         PropertyValue filteredValue = inputValue;
 
         for (int i = 0; i < MAX_FILTER_LOOPS; i++) {
             int changes = 0;
-            for (PropertyFilter filter : context.getConfigurationContext().getPropertyFilters()) {
+            for (PropertyFilter filter : plan.getFilters()) {
                 String value = filteredValue!=null?filteredValue.getValue():null;
                 filteredValue = filter.filterProperty(filteredValue, context);
                 String newValue = filteredValue!=null?filteredValue.getValue():null;
@@ -124,6 +197,9 @@ public final class PropertyFiltering{
                 break;
             } else if (filteredValue == null) {
                 break;
+            } else if (plan.isSinglePass()) {
+                LOG.finest("Finishing filter loop, all filters are idempotent.");
+                break;
             } else {
                 if (i == (MAX_FILTER_LOOPS - 1)) {
                     if (LOG.isLoggable(Level.WARNING)) {
@@ -137,4 +213,29 @@ public final class PropertyFiltering{
         return filteredValue;
     }
 
+    /**
+     * Access the filter plan of the given context. Plans are cached by {@link DefaultConfigurationContext}, for
+     * other contexts a new plan is created.
+     * @param context the context, not {@code null}.
+     * @return the filter plan, never {@code null}.
+     */
+    private static PropertyFilterPlan getFilterPlan(ConfigurationContext context) {
+        if(context instanceof DefaultConfigurationContext){
+            return ((DefaultConfigurationContext)context).getFilterPlan();
+        }
+        return new PropertyFilterPlan(context.getPropertyFilters());
+    }
+
+    /**
+     * Access the filter result cache of the given context.
+     * @param context the context, not {@code null}.
+     * @return the cache of a {@link DefaultConfigurationContext}, or {@code null}.
+     */
+    private static FilterResultCache getFilterResultCache(ConfigurationContext context) {
+        if(context instanceof DefaultConfigurationContext){
+            return ((DefaultConfigurationContext)context).getFilterResultCache();
+        }
+        return null;
+    }
+
 }
@@ -23,6 +23,7 @@ import org.apache.tamaya.spi.PropertySource;
 import org.apache.tamaya.spi.PropertyValue;
 
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -43,9 +44,10 @@ public final class PropertySourceChangeSupport {
     private ChangeSupport changeSupport;
     private PropertySource propertySource;
     private AtomicLong version = new AtomicLong();
-    private List<BiConsumer<Set<String>, PropertySource>> listeners  = new ArrayList<>();
+    private final CopyOnWriteArrayList<BiConsumer<Set<String>, PropertySource>> listeners  = new CopyOnWriteArrayList<>();
     private int oldHash = 0;
     private Map<String, PropertyValue> valueMap;
+    private volatile KeyBloomFilter keyFilter;
     private long timestamp;
     private ScheduledFuture scheduleTask;
 
@@ -73,9 +75,7 @@ public final class PropertySourceChangeSupport {
     public void addChangeListener(BiConsumer<Set<String>, PropertySource> l){
         switch(changeSupport){
             case SUPPORTED:
-                if(!listeners.contains(l)){
-                    listeners.add(l);
-                }
+                listeners.addIfAbsent(l);
                 break;
             case UNSUPPORTED:
             case IMMUTABLE:
@@ -101,12 +101,14 @@ public final class PropertySourceChangeSupport {
         if(changeSupport==ChangeSupport.SUPPORTED) {
             Set<String> changedKeys = calculateChangedKeys(this.valueMap, properties);
             if(!changedKeys.isEmpty()) {
+                this.keyFilter = new KeyBloomFilter(properties.keySet());
                 this.valueMap = properties;
                 version.incrementAndGet();
                 fireListeners(changedKeys);
             }
         } else {
             if(!properties.equals(this.valueMap)){
+                this.keyFilter = new KeyBloomFilter(properties.keySet());
                 this.valueMap = properties;
                 version.incrementAndGet();
             }
@@ -155,6 +157,16 @@ public final class PropertySourceChangeSupport {
         return valueMap.get(key);
     }
 
+    /**
+     * Checks the key against a {@link KeyBloomFilter}, rebuilt whenever changed properties are loaded.
+     * @param key the key, not null.
+     * @return false, if the key is definitely not contained in the current properties.
+     */
+    public boolean mightContain(String key){
+        KeyBloomFilter filter = this.keyFilter;
+        return filter!=null && filter.mightContain(key);
+    }
+
     public Map<String, PropertyValue> getProperties(){
         if(valueMap==null){
             return Collections.emptyMap();
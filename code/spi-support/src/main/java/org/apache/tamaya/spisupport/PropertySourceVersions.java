@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tamaya.spisupport;
+
+import org.apache.tamaya.spi.ChangeSupport;
+import org.apache.tamaya.spi.ConfigurationContext;
+import org.apache.tamaya.spi.PropertySource;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Tracks the {@link PropertySource#getVersion()} of a set of property sources, which may change. Calling
+ * {@link #current()} returns the same snapshot instance as long as all versions are unchanged, so callers can
+ * validate values by comparing the snapshot they were evaluated for by identity. Versions are compared as
+ * strings, so different versions never share a snapshot.
+ * <p>
+ * Note that a {@link ChangeSupport#SUPPORTED} property source is not guaranteed to notify its listeners about
+ * all changes, e.g. when it detects changes only when being accessed. Its version is therefore checked as well.
+ * </p>
+ * This class is thread-safe.
+ */
+public final class PropertySourceVersions {
+
+    /** The property sources checked. */
+    private final PropertySource[] sources;
+    /** The current snapshot. */
+    private volatile String[] snapshot;
+
+    /**
+     * Creates a new instance.
+     * @param propertySources the property sources to track, not null.
+     */
+    public PropertySourceVersions(Collection<PropertySource> propertySources){
+        this.sources = propertySources.toArray(new PropertySource[propertySources.size()]);
+        this.snapshot = readVersions();
+    }
+
+    /**
+     * Creates a new instance tracking all property sources of the given context, which are not
+     * {@link ChangeSupport#IMMUTABLE}.
+     * @param context the configuration context, not null.
+     * @return a new instance, never null.
+     */
+    public static PropertySourceVersions of(ConfigurationContext context){
+        List<PropertySource> versionedSources = new ArrayList<>();
+        for(PropertySource ps:context.getPropertySources()){
+            if(ps.getChangeSupport()!=ChangeSupport.IMMUTABLE){
+                versionedSources.add(ps);
+            }
+        }
+        return new PropertySourceVersions(versionedSources);
+    }
+
+    /**
+     * Get the snapshot of the current versions.
+     * @return the snapshot, identical to the previously returned one, if no version has changed.
+     */
+    public String[] current(){
+        String[] current = this.snapshot;
+        for(int i=0;i<sources.length;i++){
+            if(!sources[i].getVersion().equals(current[i])){
+                current = readVersions();
+                this.snapshot = current;
+                break;
+            }
+        }
+        return current;
+    }
+
+    private String[] readVersions(){
+        String[] versions = new String[sources.length];
+        for(int i=0;i<sources.length;i++){
+            versions[i] = sources[i].getVersion();
+        }
+        return versions;
+    }
+}
@@ -0,0 +1,327 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tamaya.spisupport;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Map storing its keys in a radix tree, where keys sharing a common prefix, e.g. hierarchical
+ * configuration keys like {@code service.a.b.c.timeout}, share the nodes of their common prefix. Entries are
+ * iterated in key order and all entries with a given key prefix can be evaluated with costs proportional to the
+ * size of the matching subtree. This map is meant for prefix queries, it does not use less memory than a
+ * {@link java.util.HashMap}, since it adds a node per key and values, such as property values, usually hold
+ * their full key anyway.
+ * <p>
+ * Entries can be added, but not removed. This class is not thread-safe, instances should be populated before they
+ * are published, e.g. as the storage of an immutable property source.
+ * </p>
+ * @param <V> the value type.
+ */
+public final class RadixTreeMap<V> extends AbstractMap<String, V> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /** The root node, with an empty label. */
+    private final Node<V> root = new Node<>("");
+    /** The number of entries. */
+    private int size;
+
+    /**
+     * Creates a new empty instance.
+     */
+    public RadixTreeMap(){
+    }
+
+    /**
+     * Creates a new instance containing the given entries.
+     * @param map the entries to be added, not null.
+     */
+    public RadixTreeMap(Map<String, ? extends V> map){
+        putAll(map);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if(!(key instanceof String)){
+            return false;
+        }
+        Node<V> node = findNode((String)key);
+        return node!=null && node.hasValue;
+    }
+
+    @Override
+    public V get(Object key) {
+        if(!(key instanceof String)){
+            return null;
+        }
+        Node<V> node = findNode((String)key);
+        if(node==null){
+            return null;
+        }
+        return node.value;
+    }
+
+    @Override
+    public V put(String key, V value) {
+        Objects.requireNonNull(key, "Key must not be null.");
+        Node<V> node = root;
+        int pos = 0;
+        while(pos < key.length()){
+            int index = node.indexOf(key.charAt(pos));
+            if(index < 0){
+                Node<V> child = new Node<>(key.substring(pos));
+                child.setValue(value);
+                node.insertChild(-(index + 1), child);
+                size++;
+                return null;
+            }
+            Node<V> child = node.children[index];
+            int common = commonPrefixLength(child.label, key, pos);
+            if(common < child.label.length()){
+                // split the edge at the first differing character
+                Node<V> split = new Node<>(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                split.children = newChildArray(child);
+                node.children[index] = split;
+                child = split;
+            }
+            node = child;
+            pos += common;
+        }
+        if(!node.hasValue){
+            size++;
+        }
+        return node.setValue(value);
+    }
+
+    @Override
+    public void clear() {
+        root.children = null;
+        root.value = null;
+        root.hasValue = false;
+        size = 0;
+    }
+
+    /**
+     * Get all entries with keys starting with the given prefix.
+     * @param prefix the key prefix, not null.
+     * @return the matching entries, in key order, never null.
+     */
+    public Map<String, V> getPrefixed(String prefix){
+        Objects.requireNonNull(prefix, "Prefix must not be null.");
+        Map<String, V> result = new LinkedHashMap<>();
+        Node<V> node = root;
+        int pos = 0;
+        while(pos < prefix.length()){
+            int index = node.indexOf(prefix.charAt(pos));
+            if(index < 0){
+                return result;
+            }
+            Node<V> child = node.children[index];
+            int common = commonPrefixLength(child.label, prefix, pos);
+            if(common < child.label.length() && pos + common < prefix.length()){
+                return result;
+            }
+            node = child;
+            pos += child.label.length();
+        }
+        Iterator<Entry<String, V>> it = new EntryIterator<>(node,
+                prefix + node.label.substring(node.label.length() - (pos - prefix.length())));
+        while(it.hasNext()){
+            Entry<String, V> en = it.next();
+            result.put(en.getKey(), en.getValue());
+        }
+        return result;
+    }
+
+    @Override
+    public Set<Entry<String, V>> entrySet() {
+        return new AbstractSet<Entry<String, V>>() {
+            @Override
+            public Iterator<Entry<String, V>> iterator() {
+                return new EntryIterator<>(root, "");
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private Node<V> findNode(String key){
+        Node<V> node = root;
+        int pos = 0;
+        while(pos < key.length()){
+            int index = node.indexOf(key.charAt(pos));
+            if(index < 0){
+                return null;
+            }
+            node = node.children[index];
+            if(!key.startsWith(node.label, pos)){
+                return null;
+            }
+            pos += node.label.length();
+        }
+        return node;
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset){
+        int max = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while(i < max && label.charAt(i) == key.charAt(offset + i)){
+            i++;
+        }
+        return i;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> Node<V>[] newChildArray(Node<V> child){
+        Node<V>[] children = new Node[1];
+        children[0] = child;
+        return children;
+    }
+
+    /**
+     * A node of the tree.
+     * @param <V> the value type.
+     */
+    private static final class Node<V> implements Serializable{
+
+        private static final long serialVersionUID = 1L;
+
+        /** The edge label, starting with the character distinguishing this node from its siblings. */
+        private String label;
+        /** The child nodes, sorted by the first character of their labels, or null. */
+        private Node<V>[] children;
+        private V value;
+        private boolean hasValue;
+
+        Node(String label){
+            this.label = label;
+        }
+
+        V setValue(V value){
+            V old = this.value;
+            this.value = value;
+            this.hasValue = true;
+            return old;
+        }
+
+        /**
+         * Binary search of the child starting with the given character.
+         * @param ch the first character.
+         * @return the child index, or {@code -(insertion point) - 1}.
+         */
+        int indexOf(char ch){
+            if(children==null){
+                return -1;
+            }
+            int low = 0;
+            int high = children.length - 1;
+            while(low <= high){
+                int mid = (low + high) >>> 1;
+                char midCh = children[mid].label.charAt(0);
+                if(midCh < ch){
+                    low = mid + 1;
+                }else if(midCh > ch){
+                    high = mid - 1;
+                }else{
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        void insertChild(int index, Node<V> child){
+            if(children==null){
+                children = newChildArray(child);
+                return;
+            }
+            Node<V>[] newChildren = Arrays.copyOf(children, children.length + 1);
+            System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+            newChildren[index] = child;
+            children = newChildren;
+        }
+    }
+
+    /**
+     * Depth first iterator, returning the entries in key order.
+     * @param <V> the value type.
+     */
+    private static final class EntryIterator<V> implements Iterator<Entry<String, V>>{
+        private final Deque<Node<V>> nodes = new ArrayDeque<>();
+        private final Deque<String> keys = new ArrayDeque<>();
+        private Entry<String, V> next;
+
+        EntryIterator(Node<V> start, String key){
+            nodes.push(start);
+            keys.push(key);
+            advance();
+        }
+
+        private void advance(){
+            next = null;
+            while(next==null && !nodes.isEmpty()){
+                Node<V> node = nodes.pop();
+                String key = keys.pop();
+                if(node.children!=null){
+                    for(int i=node.children.length-1;i>=0;i--){
+                        nodes.push(node.children[i]);
+                        keys.push(key + node.children[i].label);
+                    }
+                }
+                if(node.hasValue){
+                    next = new SimpleImmutableEntry<>(key, node.value);
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next!=null;
+        }
+
+        @Override
+        public Entry<String, V> next() {
+            if(next==null){
+                throw new NoSuchElementException();
+            }
+            Entry<String, V> result = next;
+            advance();
+            return result;
+        }
+    }
+}
@@ -22,18 +22,37 @@ import org.apache.tamaya.spi.FilterContext;
 import org.apache.tamaya.spi.PropertyFilter;
 import org.apache.tamaya.spi.PropertyValue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
 /**
  * Predicate filtering using a regex expression operating on the key. It allows either
  * to define the target keys to be selected (includes), or to be excluded (excludes).
+ * <p>
+ * The expressions are compiled once when set: literal expressions and literal prefixes followed by {@code .*}
+ * are matched using a prefix tree, all other expressions are combined into a single pattern. The decisions
+ * are cached per key. Expressions should be set before the filter is used.
+ * </p>
  */
 public final class RegexPropertyFilter implements PropertyFilter {
+    /** The maximal number of keys, for which the filter decision is cached. */
+    private static final int MAX_CACHED_KEYS = 10000;
     /** The expression used to include entries that match. */
     private List<String> includes;
     /** The expression used to exclude entries that match. */
     private List<String> excludes;
+    /** The compiled includes, or null. */
+    private volatile KeyMatcher includeMatcher;
+    /** The compiled excludes, or null. */
+    private volatile KeyMatcher excludeMatcher;
+    /** The cached decisions, if a key is accepted. */
+    private final Map<String, Boolean> decisions = new ConcurrentHashMap<>();
 
     /**
      * Sets the regex expression to be applied on the key to filter the corresponding entry
@@ -42,6 +61,8 @@ public final class RegexPropertyFilter implements PropertyFilter {
      */
     public void setIncludes(String... expressions){
         this.includes = Arrays.asList(expressions);
+        this.includeMatcher = KeyMatcher.compile(includes);
+        this.decisions.clear();
     }
 
     /**
@@ -51,26 +72,43 @@ public final class RegexPropertyFilter implements PropertyFilter {
      */
     public void setExcludes(String... expressions){
         this.excludes= Arrays.asList(expressions);
+        this.excludeMatcher = KeyMatcher.compile(excludes);
+        this.decisions.clear();
     }
 
     @Override
     public PropertyValue filterProperty(PropertyValue valueToBeFiltered, FilterContext context) {
-        if(includes!=null){
-            for(String expression:includes){
-                if(valueToBeFiltered.getQualifiedKey().matches(expression)){
-                    return valueToBeFiltered;
-                }
-            }
-            return null;
+        if(valueToBeFiltered==null || (includeMatcher==null && excludeMatcher==null)){
+            return valueToBeFiltered;
         }
-        if(excludes!=null){
-            for(String expression:excludes){
-                if(valueToBeFiltered.getQualifiedKey().matches(expression)){
-                    return null;
-                }
+        String key = valueToBeFiltered.getQualifiedKey();
+        Boolean accepted = decisions.get(key);
+        if(accepted==null){
+            accepted = accept(key);
+            if(decisions.size() < MAX_CACHED_KEYS){
+                decisions.put(key, accepted);
             }
         }
-        return valueToBeFiltered;
+        return accepted?valueToBeFiltered:null;
+    }
+
+    private boolean accept(String key){
+        KeyMatcher matcher = this.includeMatcher;
+        if(matcher!=null){
+            return matcher.matches(key);
+        }
+        matcher = this.excludeMatcher;
+        return matcher==null || !matcher.matches(key);
+    }
+
+    @Override
+    public boolean isIdempotent() {
+        return true;
+    }
+
+    @Override
+    public Collection<String> getDependencies(String key) {
+        return Collections.emptySet();
     }
 
     @Override
@@ -81,4 +119,152 @@ public final class RegexPropertyFilter implements PropertyFilter {
                 '}';
     }
 
+    /**
+     * Compiled set of expressions, fully matching keys.
+     */
+    private static final class KeyMatcher{
+        /** Detects back references, which prevent expressions from being combined. */
+        private static final Pattern BACK_REFERENCE = Pattern.compile("\\\\([1-9]|k<)");
+        /** Detects named groups, which may be defined by several expressions and cannot be combined. */
+        private static final Pattern NAMED_GROUP = Pattern.compile("\\(\\?<[a-zA-Z]");
+
+        /** The literal expressions and prefixes. */
+        private final PrefixNode literals = new PrefixNode();
+        /** The combined pattern of all other expressions, or null. */
+        private Pattern combined;
+        /** Expressions, which cannot be combined. */
+        private final List<Pattern> patterns = new ArrayList<>();
+
+        static KeyMatcher compile(List<String> expressions){
+            KeyMatcher matcher = new KeyMatcher();
+            StringBuilder alternation = new StringBuilder();
+            for(String expression:expressions){
+                String literal = parseLiteral(expression, 0, expression.length());
+                if(literal!=null){
+                    matcher.literals.add(literal, false);
+                    continue;
+                }
+                if(expression.endsWith(".*")){
+                    literal = parseLiteral(expression, 0, expression.length() - 2);
+                    if(literal!=null){
+                        matcher.literals.add(literal, true);
+                        continue;
+                    }
+                }
+                if(BACK_REFERENCE.matcher(expression).find() || NAMED_GROUP.matcher(expression).find()){
+                    matcher.patterns.add(Pattern.compile(expression));
+                    continue;
+                }
+                // validate each expression on its own, before combining them.
+                Pattern.compile(expression);
+                if(alternation.length()>0){
+                    alternation.append('|');
+                }
+                alternation.append("(?:").append(expression).append(')');
+            }
+            if(alternation.length()>0){
+                matcher.combined = Pattern.compile(alternation.toString());
+            }
+            return matcher;
+        }
+
+        /**
+         * Evaluates the literal matched by the given part of an expression.
+         * @param expression the expression.
+         * @param start the start index.
+         * @param end the end index, exclusive.
+         * @return the literal, or null, if the expression part is not literal.
+         */
+        private static String parseLiteral(String expression, int start, int end){
+            StringBuilder b = new StringBuilder(end - start);
+            for(int i=start;i<end;i++){
+                char ch = expression.charAt(i);
+                if(ch=='\\'){
+                    if(i + 1 >= end || Character.isLetterOrDigit(expression.charAt(i + 1))){
+                        return null;
+                    }
+                    b.append(expression.charAt(++i));
+                }else if("[](){}.*+?^$|".indexOf(ch)>=0){
+                    return null;
+                }else{
+                    b.append(ch);
+                }
+            }
+            return b.toString();
+        }
+
+        boolean matches(String key){
+            if(literals.matches(key)){
+                return true;
+            }
+            if(combined!=null && combined.matcher(key).matches()){
+                return true;
+            }
+            for(Pattern pattern:patterns){
+                if(pattern.matcher(key).matches()){
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Node of a character trie, storing literal keys and key prefixes.
+     */
+    private static final class PrefixNode{
+        private char[] chars = new char[0];
+        private PrefixNode[] children = new PrefixNode[0];
+        /** Flag, if a literal key ends at this node. */
+        private boolean key;
+        /** Flag, if a prefix ends at this node. */
+        private boolean prefix;
+
+        void add(String literal, boolean isPrefix){
+            PrefixNode node = this;
+            for(int i=0;i<literal.length();i++){
+                char ch = literal.charAt(i);
+                int index = Arrays.binarySearch(node.chars, ch);
+                if(index < 0){
+                    index = -(index + 1);
+                    node.chars = insert(node.chars, index, ch);
+                    PrefixNode[] newChildren = new PrefixNode[node.children.length + 1];
+                    System.arraycopy(node.children, 0, newChildren, 0, index);
+                    System.arraycopy(node.children, index, newChildren, index + 1, node.children.length - index);
+                    newChildren[index] = new PrefixNode();
+                    node.children = newChildren;
+                }
+                node = node.children[index];
+            }
+            if(isPrefix){
+                node.prefix = true;
+            }else{
+                node.key = true;
+            }
+        }
+
+        boolean matches(String key){
+            PrefixNode node = this;
+            for(int i=0;i<key.length();i++){
+                if(node.prefix){
+                    return true;
+                }
+                int index = Arrays.binarySearch(node.chars, key.charAt(i));
+                if(index < 0){
+                    return false;
+                }
+                node = node.children[index];
+            }
+            return node.prefix || node.key;
+        }
+
+        private static char[] insert(char[] chars, int index, char ch){
+            char[] result = new char[chars.length + 1];
+            System.arraycopy(chars, 0, result, 0, index);
+            System.arraycopy(chars, index, result, index + 1, chars.length - index);
+            result[index] = ch;
+            return result;
+        }
+    }
+
 }
@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tamaya.spisupport;
+
+import org.apache.tamaya.spi.ChangeSupport;
+import org.apache.tamaya.spi.ConfigurationContext;
+import org.apache.tamaya.spi.PropertySource;
+import org.apache.tamaya.spi.PropertyValue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * Bounded cache for resolved (evaluated and filtered) property values of a {@link ConfigurationContext}.
+ * <p>
+ * Each entry carries the snapshot of the {@link PropertySource#getVersion()} of all property sources, which are not
+ * {@link ChangeSupport#IMMUTABLE}. Entries are reevaluated, when any of these versions changes. This includes
+ * {@link ChangeSupport#SUPPORTED} property sources, since they may detect changes only when being accessed.
+ * Additionally they invalidate exactly the keys reported to their change listeners, e.g. by a
+ * {@link PropertySourceChangeSupport}. {@link ChangeSupport#IMMUTABLE} property sources never invalidate entries.
+ * </p>
+ * <p>
+ * Note that property sources, which neither notify their listeners nor provide a meaningful version,
+ * may change silently. Call {@link #invalidateAll()} to discard the cached values in that case.
+ * </p>
+ * This class is thread-safe.
+ */
+public final class ResolvedValueCache {
+
+    private static final Logger LOG = Logger.getLogger(ResolvedValueCache.class.getName());
+
+    /** The maximal number of entries. */
+    private final int maxSize;
+    /** The cached entries. */
+    private final Map<String, CacheEntry> entries = new ConcurrentHashMap<>();
+    /** The versions of the property sources, which may change. */
+    private final PropertySourceVersions versions;
+    /** The property sources this cache is listening on. */
+    private final List<PropertySource> listenedSources = new ArrayList<>();
+    /** Counter incremented with every invalidation. */
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    /** Listener registered on property sources supporting change events, not keeping this cache reachable. */
+    private final BiConsumer<Set<String>, PropertySource> listener =
+            new WeakChangeListener<>(this, ResolvedValueCache::invalidate);
+
+    /**
+     * Creates a new cache.
+     * @param context the configuration context, not null.
+     * @param maxSize the maximal number of entries cached, must be positive.
+     */
+    public ResolvedValueCache(ConfigurationContext context, int maxSize){
+        Objects.requireNonNull(context, "Context must be given.");
+        if(maxSize<=0){
+            throw new IllegalArgumentException("Cache size must be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        for(PropertySource ps:context.getPropertySources()){
+            if(ps.getChangeSupport()==ChangeSupport.SUPPORTED){
+                ps.addChangeListener(listener);
+                listenedSources.add(ps);
+            }
+        }
+        this.versions = PropertySourceVersions.of(context);
+    }
+
+    /**
+     * Access a value, evaluating it using the given function, if not cached or outdated.
+     * @param key the key, not null.
+     * @param evaluator the function evaluating the resolved value, returning null for absent values.
+     * @return the resolved value, or null.
+     */
+    public PropertyValue get(String key, Function<String, PropertyValue> evaluator){
+        String[] version = versions.current();
+        CacheEntry entry = entries.get(key);
+        if(entry!=null && entry.version==version){
+            hits.increment();
+            return entry.value;
+        }
+        misses.increment();
+        long gen = generation.get();
+        PropertyValue value = evaluator.apply(key);
+        entries.put(key, new CacheEntry(value, version));
+        if(gen!=generation.get()){
+            // invalidated concurrently, do not keep a possibly outdated value.
+            entries.remove(key);
+        }
+        if(entries.size()>maxSize){
+            evict();
+        }
+        return value;
+    }
+
+    /**
+     * Removes the given keys from the cache.
+     * @param keys the keys, not null.
+     */
+    public void invalidate(Collection<String> keys){
+        generation.incrementAndGet();
+        for(String key:keys){
+            entries.remove(key);
+        }
+    }
+
+    /**
+     * Removes all entries from the cache.
+     */
+    public void invalidateAll(){
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    /**
+     * Unregisters the change listeners of this cache from the property sources. The listeners do not keep this
+     * cache reachable, they unregister themselves on the next change after the cache has been garbage collected.
+     */
+    public void release(){
+        for(PropertySource ps:listenedSources){
+            ps.removeChangeListener(listener);
+        }
+        invalidateAll();
+    }
+
+    /**
+     * Get the current number of entries.
+     * @return the number of cached entries.
+     */
+    public int size(){
+        return entries.size();
+    }
+
+    /**
+     * Get the maximal number of entries.
+     * @return the maximal size.
+     */
+    public int getMaxSize(){
+        return maxSize;
+    }
+
+    /**
+     * Get the number of cache hits.
+     * @return the hit count.
+     */
+    public long getHitCount(){
+        return hits.sum();
+    }
+
+    /**
+     * Get the number of cache misses, including outdated entries.
+     * @return the miss count.
+     */
+    public long getMissCount(){
+        return misses.sum();
+    }
+
+    /**
+     * Get the number of entries evicted, because the cache exceeded its maximal size.
+     * @return the eviction count.
+     */
+    public long getEvictionCount(){
+        return evictions.sum();
+    }
+
+    private void evict(){
+        Iterator<String> keys = entries.keySet().iterator();
+        while(entries.size()>maxSize && keys.hasNext()){
+            keys.next();
+            keys.remove();
+            evictions.increment();
+        }
+        LOG.finest(() -> "Evicted entries from resolved value cache, evictions: " + evictions.sum());
+    }
+
+    @Override
+    public String toString() {
+        return "ResolvedValueCache{" +
+                "size=" + entries.size() +
+                ", maxSize=" + maxSize +
+                ", hits=" + hits.sum() +
+                ", misses=" + misses.sum() +
+                ", evictions=" + evictions.sum() +
+                '}';
+    }
+
+    /**
+     * A cached value.
+     */
+    private static final class CacheEntry{
+        /** The resolved value, or null. */
+        private final PropertyValue value;
+        /** The versions snapshot the value was evaluated for. */
+        private final String[] version;
+
+        CacheEntry(PropertyValue value, String[] version){
+            this.value = value;
+            this.version = version;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tamaya.spisupport;
+
+import org.apache.tamaya.spi.FilterContext;
+import org.apache.tamaya.spi.PropertyFilter;
+import org.apache.tamaya.spi.PropertyValue;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * {@link PropertyFilter} restricting a delegate filter to the keys starting with one of a set of prefixes, or
+ * to the keys matching a compiled pattern, e.g.
+ * <pre>
+ *     PropertyFilter filter = ScopedPropertyFilter.ofPrefixes(new MaskingFilter(), "secret.");
+ * </pre>
+ */
+public final class ScopedPropertyFilter implements PropertyFilter {
+
+    /** The filter delegated to. */
+    private final PropertyFilter delegate;
+    /** The key prefixes, empty when a pattern is used. */
+    private final List<String> prefixes;
+    /** The key pattern, or null. */
+    private final Pattern pattern;
+    /** Flag, if the delegate is idempotent. */
+    private final boolean idempotent;
+
+    private ScopedPropertyFilter(PropertyFilter delegate, List<String> prefixes, Pattern pattern,
+                                 boolean idempotent){
+        this.delegate = Objects.requireNonNull(delegate, "Filter must not be null.");
+        this.prefixes = prefixes;
+        this.pattern = pattern;
+        this.idempotent = idempotent;
+    }
+
+    /**
+     * Creates a filter applying the given filter only to keys starting with one of the given prefixes.
+     * @param delegate the filter, not null.
+     * @param prefixes the key prefixes, not null.
+     * @return the scoped filter, never null.
+     */
+    public static ScopedPropertyFilter ofPrefixes(PropertyFilter delegate, String... prefixes){
+        return new ScopedPropertyFilter(delegate, Collections.unmodifiableList(Arrays.asList(prefixes.clone())),
+                null, delegate.isIdempotent());
+    }
+
+    /**
+     * Creates a filter applying the given filter only to keys fully matching the given pattern.
+     * @param delegate the filter, not null.
+     * @param pattern the key pattern, not null.
+     * @return the scoped filter, never null.
+     */
+    public static ScopedPropertyFilter ofPattern(PropertyFilter delegate, Pattern pattern){
+        return new ScopedPropertyFilter(delegate, Collections.emptyList(),
+                Objects.requireNonNull(pattern, "Pattern must not be null."), delegate.isIdempotent());
+    }
+
+    /**
+     * Creates a new instance, declaring the delegate filter to be idempotent.
+     * @return the new filter, never null.
+     * @see PropertyFilter#isIdempotent()
+     */
+    public ScopedPropertyFilter idempotent(){
+        return new ScopedPropertyFilter(delegate, prefixes, pattern, true);
+    }
+
+    @Override
+    public PropertyValue filterProperty(PropertyValue value, FilterContext context) {
+        if(value==null || !appliesTo(value.getQualifiedKey())){
+            return value;
+        }
+        return delegate.filterProperty(value, context);
+    }
+
+    @Override
+    public boolean appliesTo(String key) {
+        if(pattern!=null){
+            return pattern.matcher(key).matches() && delegate.appliesTo(key);
+        }
+        for(String prefix:prefixes){
+            if(key.startsWith(prefix)){
+                return delegate.appliesTo(key);
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Collection<String> getDependencies(String key) {
+        if(!appliesTo(key)){
+            return Collections.emptySet();
+        }
+        return delegate.getDependencies(key);
+    }
+
+    @Override
+    public boolean isIdempotent() {
+        return idempotent;
+    }
+
+    @Override
+    public String toString() {
+        return "ScopedPropertyFilter{" +
+                "delegate=" + delegate +
+                (pattern!=null?", pattern=" + pattern:", prefixes=" + prefixes) +
+                ", idempotent=" + idempotent +
+                '}';
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tamaya.spisupport;
+
+import org.apache.tamaya.spi.PropertyValue;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Sorted index over the properties of a property source, used to evaluate all properties with a given
+ * key prefix with costs proportional to the number of matching entries. The index is a snapshot of the
+ * properties passed, so it should only be used for property sources, which do not change.
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ */
+public final class SortedKeyIndex {
+
+    /** The indexed properties, sorted by key. */
+    private final NavigableMap<String, PropertyValue> properties;
+
+    /**
+     * Creates a new index.
+     * @param properties the properties to be indexed, not null.
+     */
+    public SortedKeyIndex(Map<String, PropertyValue> properties){
+        this.properties = new TreeMap<>(Objects.requireNonNull(properties));
+    }
+
+    /**
+     * Get all properties with keys starting with the given prefix.
+     * @param prefix the key prefix, not null.
+     * @return an unmodifiable view of the matching properties, never null.
+     */
+    public Map<String, PropertyValue> getProperties(String prefix){
+        Objects.requireNonNull(prefix, "Prefix must not be null.");
+        String upperBound = upperBound(prefix);
+        if(upperBound==null){
+            return Collections.unmodifiableMap(properties.tailMap(prefix, true));
+        }
+        return Collections.unmodifiableMap(properties.subMap(prefix, true, upperBound, false));
+    }
+
+    /**
+     * Get the number of indexed properties.
+     * @return the size of the index.
+     */
+    public int size(){
+        return properties.size();
+    }
+
+    /**
+     * Evaluates the smallest key greater than all keys starting with the given prefix.
+     * @param prefix the prefix, not null.
+     * @return the exclusive upper bound, or null, if the prefix has no upper bound.
+     */
+    static String upperBound(String prefix){
+        for(int i=prefix.length()-1;i>=0;i--){
+            char ch = prefix.charAt(i);
+            if(ch!=Character.MAX_VALUE){
+                return prefix.substring(0, i) + (char)(ch + 1);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return "SortedKeyIndex{" +
+                "size=" + properties.size() +
+                '}';
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tamaya.spisupport;
+
+import org.apache.tamaya.spi.PropertySource;
+
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Change listener holding its target weakly, so registering it on a shared {@link PropertySource} does not keep
+ * the target reachable. Once the target has been garbage collected, the listener unregisters itself on the next
+ * change reported.
+ * @param <T> the target type.
+ */
+final class WeakChangeListener<T> implements BiConsumer<Set<String>, PropertySource> {
+
+    /** The target notified. */
+    private final WeakReference<T> target;
+    /** The action called with the target and the keys changed. */
+    private final BiConsumer<T, Set<String>> action;
+
+    /**
+     * Creates a new listener.
+     * @param target the target, not null.
+     * @param action the action called with the target and the keys changed, not null. It must not reference
+     *               the target itself.
+     */
+    WeakChangeListener(T target, BiConsumer<T, Set<String>> action){
+        this.target = new WeakReference<>(Objects.requireNonNull(target));
+        this.action = Objects.requireNonNull(action);
+    }
+
+    @Override
+    public void accept(Set<String> keys, PropertySource propertySource) {
+        T t = target.get();
+        if(t==null){
+            propertySource.removeChangeListener(this);
+        }else{
+            action.accept(t, keys);
+        }
+    }
+}
@@ -27,6 +27,8 @@ import java.util.logging.Logger;
 import org.apache.tamaya.spi.ChangeSupport;
 import org.apache.tamaya.spi.PropertySource;
 import org.apache.tamaya.spi.PropertyValue;
+import org.apache.tamaya.spisupport.KeyBloomFilter;
+import org.apache.tamaya.spisupport.SortedKeyIndex;
 
 /**
  * Abstract {@link org.apache.tamaya.spi.PropertySource} that allows setting a default ordinal to be used, if no
@@ -48,6 +50,10 @@ public abstract class BasePropertySource implements PropertySource{
      */
     private boolean disabled = false;
     private ChangeSupport changeSupport = ChangeSupport.UNSUPPORTED;
+    /** The key index, used for immutable property sources only. */
+    private volatile SortedKeyIndex keyIndex;
+
+    private volatile KeyBloomFilter keyFilter;
 
     /**
      * Constructor.
@@ -155,12 +161,48 @@ public abstract class BasePropertySource implements PropertySource{
         return val;
     }
 
+    /**
+     * Access all properties with keys starting with the given prefix. For {@link ChangeSupport#IMMUTABLE}
+     * property sources a {@link SortedKeyIndex} is created on first access.
+     * @param prefix the key prefix, not {@code null}.
+     * @return the matching properties, never {@code null}.
+     */
+    @Override
+    public Map<String, PropertyValue> getProperties(String prefix) {
+        if(getChangeSupport()!=ChangeSupport.IMMUTABLE){
+            return PropertySource.super.getProperties(prefix);
+        }
+        SortedKeyIndex index = this.keyIndex;
+        if(index==null){
+            index = new SortedKeyIndex(getProperties());
+            this.keyIndex = index;
+        }
+        return index.getProperties(prefix);
+    }
+
+    /**
+     * Checks the key against a {@link KeyBloomFilter} created on first access over the keys of
+     * {@link #getProperties()}. Subclasses being {@link ChangeSupport#IMMUTABLE} and using the default
+     * {@link #get(String)} can use this method to implement {@link #mightContain(String)}.
+     * @param key the key, not {@code null}.
+     * @return false, if the key is definitely not contained.
+     */
+    protected boolean mightContainKey(String key) {
+        KeyBloomFilter filter = this.keyFilter;
+        if(filter==null){
+            filter = new KeyBloomFilter(getProperties().keySet());
+            this.keyFilter = filter;
+        }
+        return filter.mightContain(key);
+    }
+
     public String getPrefix() {
         return prefix;
     }
 
     public void setPrefix(String prefix) {
         this.prefix = prefix;
+        resetKeyIndex();
     }
 
     public boolean isDisabled() {
@@ -169,6 +211,7 @@ public abstract class BasePropertySource implements PropertySource{
 
     public void setDisabled(boolean disabled) {
         this.disabled = disabled;
+        resetKeyIndex();
     }
 
     @Override
@@ -238,6 +281,17 @@ public abstract class BasePropertySource implements PropertySource{
      */
     public PropertySource setChangeSupport(ChangeSupport changeSupport) {
         this.changeSupport = Objects.requireNonNull(changeSupport);
+        resetKeyIndex();
         return this;
     }
+
+    /**
+     * Discards the {@link SortedKeyIndex} and {@link KeyBloomFilter} created over {@link #getProperties()}, so
+     * they are recreated on next access. Subclasses must call this method, whenever the properties returned
+     * change, e.g. after reloading them.
+     */
+    protected void resetKeyIndex() {
+        this.keyIndex = null;
+        this.keyFilter = null;
+    }
 }
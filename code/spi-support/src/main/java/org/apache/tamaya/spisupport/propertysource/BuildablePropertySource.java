@@ -21,6 +21,9 @@ package org.apache.tamaya.spisupport.propertysource;
 import org.apache.tamaya.spi.ChangeSupport;
 import org.apache.tamaya.spi.PropertySource;
 import org.apache.tamaya.spi.PropertyValue;
+import org.apache.tamaya.spisupport.KeyBloomFilter;
+import org.apache.tamaya.spisupport.RadixTreeMap;
+import org.apache.tamaya.spisupport.SortedKeyIndex;
 
 import java.util.*;
 
@@ -32,6 +35,8 @@ public class BuildablePropertySource implements PropertySource{
     private int ordinal;
     private String name = "PropertySource-"+UUID.randomUUID().toString();
     private Map<String,PropertyValue> properties = new HashMap<>();
+    private volatile SortedKeyIndex keyIndex;
+    private volatile KeyBloomFilter keyFilter;
 
     @Override
     public int getOrdinal() {
@@ -48,11 +53,35 @@ public class BuildablePropertySource implements PropertySource{
         return properties.get(key);
     }
 
+    @Override
+    public boolean mightContain(String key) {
+        KeyBloomFilter filter = this.keyFilter;
+        if(filter==null){
+            filter = new KeyBloomFilter(properties.keySet());
+            this.keyFilter = filter;
+        }
+        return filter.mightContain(key);
+    }
+
     @Override
     public Map<String, PropertyValue> getProperties() {
         return Collections.unmodifiableMap(properties);
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public Map<String, PropertyValue> getProperties(String prefix) {
+        if(properties instanceof RadixTreeMap){
+            return Collections.unmodifiableMap(((RadixTreeMap<PropertyValue>)properties).getPrefixed(prefix));
+        }
+        SortedKeyIndex index = this.keyIndex;
+        if(index==null){
+            index = new SortedKeyIndex(properties);
+            this.keyIndex = index;
+        }
+        return index.getProperties(prefix);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -104,10 +133,23 @@ public class BuildablePropertySource implements PropertySource{
         private String source = "<on-the-fly-build>";
         private String name = "PropertySource-"+ UUID.randomUUID().toString();
         private Map<String,PropertyValue> properties = new HashMap<>();
+        private boolean radixTreeStorage;
 
         private Builder() {
         }
 
+        /**
+         * Defines if the properties are stored in a {@link RadixTreeMap} instead of a {@link HashMap}, which
+         * supports evaluating {@link BuildablePropertySource#getProperties(String)} without scanning all properties.
+         *
+         * @param radixTreeStorage true, to store the properties in a radix tree.
+         * @return the builder
+         */
+        public Builder withRadixTreeStorage(boolean radixTreeStorage) {
+            this.radixTreeStorage = radixTreeStorage;
+            return this;
+        }
+
         /**
          * With ordinal builder.
          *
@@ -217,7 +259,8 @@ public class BuildablePropertySource implements PropertySource{
          * @return the builder
          */
         public Builder but() {
-            return builder().withOrdinal(ordinal).withName(name).withProperties(properties);
+            return builder().withOrdinal(ordinal).withName(name).withProperties(properties)
+                    .withRadixTreeStorage(radixTreeStorage);
         }
 
         /**
@@ -228,7 +271,11 @@ public class BuildablePropertySource implements PropertySource{
         public BuildablePropertySource build() {
             BuildablePropertySource buildablePropertySource = new BuildablePropertySource();
             buildablePropertySource.name = this.name;
-            buildablePropertySource.properties = this.properties;
+            if(radixTreeStorage){
+                buildablePropertySource.properties = new RadixTreeMap<>(this.properties);
+            }else{
+                buildablePropertySource.properties = this.properties;
+            }
             buildablePropertySource.ordinal = this.ordinal;
             return buildablePropertySource;
         }
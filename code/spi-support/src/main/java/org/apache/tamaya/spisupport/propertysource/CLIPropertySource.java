@@ -22,10 +22,12 @@ import org.apache.tamaya.spi.ChangeSupport;
 import org.apache.tamaya.spi.PropertyValue;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * PropertySource that allows adding the program's main arguments as configuration entries. Unix syntax using '--' and
- * '-' params is supported.
+ * '-' params is supported. Since the main arguments can be replaced by calling {@link #initMainArgs(String...)},
+ * this property source is not immutable, changes are reflected by its {@link #getVersion()}.
  */
 public class CLIPropertySource extends BasePropertySource {
 
@@ -33,7 +35,10 @@ public class CLIPropertySource extends BasePropertySource {
     private static String[] args = new String[0];
 
     /** The map of parsed main arguments. */
-    private static Map<String,PropertyValue> mainArgs;
+    private static volatile Map<String,PropertyValue> mainArgs;
+
+    /** Counter incremented, whenever the main arguments are initialized. */
+    private static final AtomicLong VERSION = new AtomicLong();
 
     /** Initializes the initial state. */
     static{
@@ -123,6 +128,7 @@ public class CLIPropertySource extends BasePropertySource {
                     PropertyValue.of(en.getKey(), en.getValue(), "main-args"));
         }
         CLIPropertySource.mainArgs = Collections.unmodifiableMap(finalProps);
+        VERSION.incrementAndGet();
     }
 
     @Override
@@ -130,9 +136,14 @@ public class CLIPropertySource extends BasePropertySource {
         return Collections.unmodifiableMap(mainArgs);
     }
 
+    @Override
+    public String getVersion() {
+        return "main-args: " + VERSION.get();
+    }
+
     @Override
     public ChangeSupport getChangeSupport(){
-        return ChangeSupport.IMMUTABLE;
+        return ChangeSupport.UNSUPPORTED;
     }
 
     @Override
@@ -20,10 +20,18 @@ package org.apache.tamaya.spisupport.propertysource;
 
 import org.apache.tamaya.spi.ChangeSupport;
 import org.apache.tamaya.spi.PropertyValue;
+import org.apache.tamaya.spisupport.KeyBloomFilter;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 
 /**
  * <p>{@link org.apache.tamaya.spi.PropertySource} to access environment variables via Tamaya
@@ -113,6 +121,11 @@ public class EnvironmentPropertySource extends BasePropertySource {
 
     private SystemPropertiesProvider propertiesProvider = new SystemPropertiesProvider();
 
+    /**
+     * Membership filter over the environment variable names, created on first access.
+     */
+    private volatile KeyBloomFilter keyFilter;
+
     /**
      * Creates a new instance. Also initializes the {@code prefix} and {@code disabled} properties
      * from the system-/ environment properties:
@@ -204,8 +217,7 @@ public class EnvironmentPropertySource extends BasePropertySource {
             return null;
         }
         // Exact match (i.e. com.ACME.getNumChilds)
-        String effectiveKey = hasPrefix() ? getPrefix() + "." + key
-                : key;
+        String effectiveKey = getEffectiveKey(key);
         String value = getPropertiesProvider().getenv(effectiveKey);
         // Replace all . by _ (i.e. com_ACME_size)
         if(value==null){
@@ -214,7 +226,7 @@ public class EnvironmentPropertySource extends BasePropertySource {
         // Replace all . by _ and convert to upper case (i.e. COM_ACME_SIZE)
         if(value==null){
             value = getPropertiesProvider().getenv(effectiveKey.replaceAll("\\.", "_")
-                    .toUpperCase());
+                    .toUpperCase(Locale.ENGLISH));
         }
         if(value==null){
             return null;
@@ -222,6 +234,35 @@ public class EnvironmentPropertySource extends BasePropertySource {
         return PropertyValue.of(key, value, getName());
     }
 
+    /**
+     * Checks the names the key is mapped to by {@link #get(String)} against a {@link KeyBloomFilter} over the
+     * upper cased names of the environment variables. Names are compared upper cased, since environment variable
+     * names are case insensitive on some platforms, e.g. Windows.
+     * @param key the key, not {@code null}.
+     * @return false, if no matching environment variable exists.
+     */
+    @Override
+    public boolean mightContain(String key) {
+        if (isDisabled()) {
+            return false;
+        }
+        KeyBloomFilter filter = this.keyFilter;
+        if(filter==null){
+            List<String> names = new ArrayList<>();
+            for(String name:getPropertiesProvider().getenv().keySet()){
+                names.add(name.toUpperCase(Locale.ENGLISH));
+            }
+            filter = new KeyBloomFilter(names);
+            this.keyFilter = filter;
+        }
+        String effectiveKey = getEffectiveKey(key).toUpperCase(Locale.ENGLISH);
+        return filter.mightContain(effectiveKey) || filter.mightContain(effectiveKey.replace('.', '_'));
+    }
+
+    private String getEffectiveKey(String key) {
+        return hasPrefix() ? getPrefix() + "." + key : key;
+    }
+
     private boolean hasPrefix() {
         return null != prefix && prefix.isEmpty();
     }
@@ -231,22 +272,35 @@ public class EnvironmentPropertySource extends BasePropertySource {
         if(disabled){
             return Collections.emptyMap();
         }
-        String prefix = this.prefix;
-        if(prefix==null) {
-            Map<String, PropertyValue> entries = new HashMap<>(System.getenv().size());
-            for (Map.Entry<String, String> entry : System.getenv().entrySet()) {
-                entries.put(entry.getKey(), PropertyValue.of(entry.getKey(), entry.getValue(), getName()));
-            }
-            return entries;
-        }else{
-            Map<String, PropertyValue> entries = new HashMap<>(System.getenv().size());
-            for (Map.Entry<String, String> entry : System.getenv().entrySet()) {
-                entries.put(prefix + entry.getKey(), PropertyValue.of(prefix + entry.getKey(), entry.getValue(), getName()));
-            }
-            return entries;
+        Map<String, PropertyValue> entries = new HashMap<>(System.getenv().size());
+        forEachProperty(value -> entries.put(value.getKey(), value));
+        return entries;
+    }
+
+
+    @Override
+    public void forEachProperty(Consumer<PropertyValue> consumer) {
+        Objects.requireNonNull(consumer, "Consumer must not be null.");
+        if(disabled){
+            return;
+        }
+        for (Map.Entry<String, String> entry : System.getenv().entrySet()) {
+            consumer.accept(toPropertyValue(entry));
         }
     }
 
+    @Override
+    public Spliterator<PropertyValue> spliterator() {
+        if(disabled){
+            return Spliterators.emptySpliterator();
+        }
+        return System.getenv().entrySet().stream().map(this::toPropertyValue).spliterator();
+    }
+
+    private PropertyValue toPropertyValue(Map.Entry<String, String> entry) {
+        String key = prefix==null?entry.getKey():prefix + entry.getKey();
+        return PropertyValue.of(key, entry.getValue(), getName());
+    }
 
     @Override
     protected String toStringValues() {
@@ -257,6 +311,7 @@ public class EnvironmentPropertySource extends BasePropertySource {
 
     void setPropertiesProvider(SystemPropertiesProvider spp) {
         propertiesProvider = spp;
+        keyFilter = null;
         initFromSystemProperties();
     }
 
@@ -77,6 +77,11 @@ public class MapPropertySource extends BasePropertySource {
         return Collections.unmodifiableMap(this.props);
     }
 
+    @Override
+    public boolean mightContain(String key) {
+        return mightContainKey(key);
+    }
+
     /**
      * Simple method to convert {@link Properties} into a {@link Map} instance.
      * @param props the properties, not null.
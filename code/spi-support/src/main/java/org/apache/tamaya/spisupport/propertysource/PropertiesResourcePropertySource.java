@@ -141,6 +141,11 @@ public class PropertiesResourcePropertySource extends BasePropertySource {
         return cachedProperties.getVersion();
     }
 
+    @Override
+    public boolean mightContain(String key) {
+        return cachedProperties.mightContain(key);
+    }
+
     @Override
     public ChangeSupport getChangeSupport() {
         return ChangeSupport.SUPPORTED;
@@ -21,12 +21,14 @@ package org.apache.tamaya.spisupport.propertysource;
 import org.apache.tamaya.ConfigException;
 import org.apache.tamaya.spi.ChangeSupport;
 import org.apache.tamaya.spi.PropertyValue;
+import org.apache.tamaya.spisupport.RadixTreeMap;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -104,7 +106,11 @@ public class SimplePropertySource extends BasePropertySource {
     }
 
     private SimplePropertySource(Builder builder) {
-        properties = builder.properties;
+        if(builder.radixTreeStorage){
+            properties = new RadixTreeMap<>(builder.properties);
+        }else{
+            properties = builder.properties;
+        }
         if(builder.defaultOrdinal!=null){
             setDefaultOrdinal(builder.defaultOrdinal);
         }
@@ -120,7 +126,21 @@ public class SimplePropertySource extends BasePropertySource {
 
     @Override
     public Map<String, PropertyValue> getProperties() {
-        return this.properties;
+        return Collections.unmodifiableMap(this.properties);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Map<String, PropertyValue> getProperties(String prefix) {
+        if(properties instanceof RadixTreeMap){
+            return Collections.unmodifiableMap(((RadixTreeMap<PropertyValue>)properties).getPrefixed(prefix));
+        }
+        return super.getProperties(prefix);
+    }
+
+    @Override
+    public boolean mightContain(String key) {
+        return mightContainKey(key);
     }
 
     @Override
@@ -172,10 +192,23 @@ public class SimplePropertySource extends BasePropertySource {
         private Integer defaultOrdinal;
         private Integer ordinal;
         private Map<String, PropertyValue> properties = new HashMap<>();
+        private boolean radixTreeStorage;
 
         private Builder() {
         }
 
+        /**
+         * Defines if the properties are stored in a {@link RadixTreeMap} instead of a {@link HashMap}, which
+         * supports evaluating {@link SimplePropertySource#getProperties(String)} without scanning all properties.
+         *
+         * @param radixTreeStorage true, to store the properties in a radix tree.
+         * @return a reference to this Builder
+         */
+        public Builder withRadixTreeStorage(boolean radixTreeStorage) {
+            this.radixTreeStorage = radixTreeStorage;
+            return this;
+        }
+
         /**
          * Sets the {@code name} to a new UUID and returns a reference to this Builder so that the methods
          * can be chained together.
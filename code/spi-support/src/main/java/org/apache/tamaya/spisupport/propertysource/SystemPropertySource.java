@@ -19,12 +19,16 @@
 package org.apache.tamaya.spisupport.propertysource;
 
 import org.apache.tamaya.spi.ChangeSupport;
+import org.apache.tamaya.spi.PropertySource;
 import org.apache.tamaya.spi.PropertyValue;
 import org.apache.tamaya.spisupport.PropertySourceChangeSupport;
 
 import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
 
 /**
  * This {@link org.apache.tamaya.spi.PropertySource} manages the system properties. You can disable this feature by
@@ -37,8 +41,17 @@ public class SystemPropertySource extends BasePropertySource {
      */
     public static final int DEFAULT_ORDINAL = 1000;
 
+    /**
+     * The minimal interval in milliseconds, after which {@link #getVersion()} checks the system properties for
+     * changes.
+     */
+    private static final long VERSION_CHECK_INTERVAL = 500L;
+
     private AtomicInteger savedHashcode = new AtomicInteger();
 
+    /** The time the system properties were checked for changes the last time. */
+    private final AtomicLong lastChecked = new AtomicLong();
+
     private volatile PropertySourceChangeSupport cachedProperties = new PropertySourceChangeSupport(
             ChangeSupport.SUPPORTED, this);
 
@@ -129,6 +142,7 @@ public class SystemPropertySource extends BasePropertySource {
     }
 
     public void reload() {
+        lastChecked.set(System.currentTimeMillis());
         int hashCode = System.getProperties().hashCode();
         if(hashCode!=this.savedHashcode.get()) {
             this.savedHashcode.set(hashCode);
@@ -145,10 +159,39 @@ public class SystemPropertySource extends BasePropertySource {
         return cachedProperties.getProperties();
     }
 
+    /**
+     * Get the current version. Since checking the system properties for changes is expensive, they are checked
+     * at most once per {@value #VERSION_CHECK_INTERVAL} milliseconds, reloading them and notifying the listeners,
+     * if changed. Accessing properties or calling {@link #reload()} checks them immediately.
+     * @return the current version, never null.
+     */
+    @Override
     public String getVersion(){
+        if(!isDisabled()){
+            long checked = lastChecked.get();
+            long now = System.currentTimeMillis();
+            if(now - checked >= VERSION_CHECK_INTERVAL && lastChecked.compareAndSet(checked, now)){
+                reload();
+            }
+        }
         return cachedProperties.getVersion();
     }
 
+    @Override
+    public void addChangeListener(BiConsumer<Set<String>, PropertySource> l) {
+        this.cachedProperties.addChangeListener(l);
+    }
+
+    @Override
+    public void removeChangeListener(BiConsumer<Set<String>, PropertySource> l) {
+        this.cachedProperties.removeChangeListener(l);
+    }
+
+    @Override
+    public void removeAllChangeListeners() {
+        this.cachedProperties.removeAllChangeListeners();
+    }
+
     @Override
     public ChangeSupport getChangeSupport() {
         return ChangeSupport.SUPPORTED;
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tamaya.spisupport;
+
+import org.apache.tamaya.spi.ConfigurationContext;
+import org.apache.tamaya.spi.FilterContext;
+import org.apache.tamaya.spi.PropertyValue;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link BatchFilterContext}.
+ */
+public class BatchFilterContextTest {
+
+    @Test
+    public void reset() {
+        Map<String, PropertyValue> entries = new HashMap<>();
+        entries.put("a", PropertyValue.createValue("a", "1"));
+        entries.put("b", PropertyValue.createValue("b", "2"));
+        BatchFilterContext context = new BatchFilterContext(entries, ConfigurationContext.EMPTY);
+        assertThat(context.reset(entries.get("a"))).isSameAs(context);
+        assertThat(context.getProperty()).isSameAs(entries.get("a"));
+        assertThat(context.reset(entries.get("b")).getAllValues()).containsExactly(entries.get("b"));
+        assertThat(context.getConfigEntries()).isEqualTo(entries);
+        assertThat(context.isSinglePropertyScoped()).isFalse();
+    }
+
+    @Test
+    public void applyFilters_ReusesContext() {
+        Map<FilterContext, Boolean> contexts = new IdentityHashMap<>();
+        ConfigurationContext configurationContext = new DefaultConfigurationBuilder()
+                .addPropertyFilters((value, ctx) -> {
+                    contexts.put(ctx, Boolean.TRUE);
+                    assertThat(ctx.getProperty()).isSameAs(value);
+                    assertThat(ctx.getConfigEntries()).hasSize(100);
+                    return value;
+                }).build().getContext();
+        Map<String, PropertyValue> entries = new HashMap<>();
+        for(int i=0;i<100;i++){
+            entries.put("key"+i, PropertyValue.createValue("key"+i, "v"));
+        }
+        assertThat(PropertyFiltering.applyFilters(entries, configurationContext)).isEqualTo(entries);
+        assertThat(contexts).hasSize(1);
+    }
+}
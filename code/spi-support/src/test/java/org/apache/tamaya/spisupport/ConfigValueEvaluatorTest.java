@@ -25,12 +25,15 @@ import org.apache.tamaya.spisupport.propertysource.BuildablePropertySource;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class ConfigValueEvaluatorTest {
@@ -66,4 +69,54 @@ public class ConfigValueEvaluatorTest {
         assertThat(map).isNotNull();
         assertThat(map).isEmpty();
     }
+
+    @Test
+    public void evaluateRawValue_StopsAtFirstMatch() {
+        PropertySource low = mock(PropertySource.class);
+        PropertySource high = BuildablePropertySource.builder()
+                .withName("high").withSimpleProperty("foo", "high").build();
+        when(context.getPropertySources()).thenReturn(Arrays.asList(low, high));
+        assertThat(evaluator.evaluateRawValue("foo", context).getValue()).isEqualTo("high");
+        verify(low, never()).get("foo");
+    }
+
+    @Test
+    public void evaluateRawValue_SkipsSourcesNotContainingKey() {
+        PropertySource low = mock(PropertySource.class);
+        when(low.mightContain("foo")).thenReturn(false);
+        PropertySource high = BuildablePropertySource.builder()
+                .withName("high").withSimpleProperty("bar", "high").build();
+        when(context.getPropertySources()).thenReturn(Arrays.asList(low, high));
+        assertThat(evaluator.evaluateRawValue("foo", context)).isNull();
+        assertThat(evaluator.evaluateAllValues("foo", context)).isEmpty();
+        assertThat(new DefaultConfigValueEvaluator().evaluateRawValue("foo", context)).isNull();
+        verify(low, never()).get("foo");
+    }
+
+    @Test
+    public void evaluateAllValues_InOrderOfPrecedence() {
+        PropertySource low = BuildablePropertySource.builder()
+                .withName("low").withSimpleProperty("foo", "low").build();
+        PropertySource high = BuildablePropertySource.builder()
+                .withName("high").withSimpleProperty("foo", "high").build();
+        when(context.getPropertySources()).thenReturn(Collections.unmodifiableList(Arrays.asList(low, high)));
+        List<PropertyValue> values = evaluator.evaluateAllValues("foo", context);
+        assertThat(values).extracting(PropertyValue::getValue).containsExactly("high", "low");
+        assertThat(evaluator.evaluateRawValues(context).get("foo").getValue()).isEqualTo("high");
+    }
+
+    @Test
+    public void evaluateRawValues_RequestsOnlyUnresolvedKeys() {
+        PropertySource low = mock(PropertySource.class);
+        when(low.getAll(Collections.singleton("b"))).thenReturn(
+                Collections.singletonMap("b", PropertyValue.createValue("b", "low")));
+        PropertySource high = BuildablePropertySource.builder()
+                .withName("high").withSimpleProperty("a", "high").build();
+        when(context.getPropertySources()).thenReturn(Arrays.asList(low, high));
+        Map<String, PropertyValue> values = evaluator.evaluateRawValues(Arrays.asList("a", "b"), context);
+        assertThat(values).containsOnlyKeys("a", "b");
+        assertThat(values.get("a").getValue()).isEqualTo("high");
+        assertThat(values.get("b").getValue()).isEqualTo("low");
+        verify(low, never()).get("a");
+    }
 }
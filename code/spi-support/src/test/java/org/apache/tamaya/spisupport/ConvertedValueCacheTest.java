@@ -0,0 +1,262 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tamaya.spisupport;
+
+import org.apache.tamaya.TypeLiteral;
+import org.apache.tamaya.spi.ChangeSupport;
+import org.apache.tamaya.spi.ConfigurationContext;
+import org.apache.tamaya.spi.PropertySource;
+import org.apache.tamaya.spi.PropertyValue;
+import org.apache.tamaya.spisupport.propertysource.BuildablePropertySource;
+import org.apache.tamaya.spisupport.propertysource.SystemPropertySource;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ConvertedValueCache}.
+ */
+public class ConvertedValueCacheTest {
+
+    private static final TypeLiteral<Integer> INT_TYPE = TypeLiteral.of(Integer.class);
+
+    private ConfigurationContext context = new DefaultConfigurationBuilder()
+            .addPropertySources(BuildablePropertySource.builder().withName("test")
+                    .withSimpleProperty("a", "1").build())
+            .build().getContext();
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidSize() {
+        new ConvertedValueCache(context, 0);
+    }
+
+    @Test
+    public void get_ReusesResult() {
+        ConvertedValueCache cache = new ConvertedValueCache(context, 10);
+        assertThat(cache.get("a", INT_TYPE, () -> 1)).isEqualTo(1);
+        assertThat(cache.get("a", INT_TYPE, () -> 2)).isEqualTo(1);
+        assertThat(cache.get("a", TypeLiteral.of(Long.class), () -> 3L)).isEqualTo(3L);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void versionChange_InvalidatesEntries() {
+        VersionedPropertySource ps = new VersionedPropertySource(ChangeSupport.UNSUPPORTED);
+        ConfigurationContext context = new DefaultConfigurationBuilder().addPropertySources(ps).build().getContext();
+        ConvertedValueCache cache = new ConvertedValueCache(context, 10);
+        cache.get("a", INT_TYPE, () -> 1);
+        assertThat(cache.get("a", INT_TYPE, () -> 2)).isEqualTo(1);
+        ps.version = "2";
+        assertThat(cache.get("a", INT_TYPE, () -> 2)).isEqualTo(2);
+    }
+
+    @Test
+    public void changeEvent_InvalidatesChangedKeys() {
+        VersionedPropertySource ps = new VersionedPropertySource(ChangeSupport.SUPPORTED);
+        ConfigurationContext context = new DefaultConfigurationBuilder().addPropertySources(ps).build().getContext();
+        ConvertedValueCache cache = new ConvertedValueCache(context, 10);
+        cache.get("a", INT_TYPE, () -> 1);
+        cache.get("a", TypeLiteral.of(Long.class), () -> 1L);
+        cache.get("b", INT_TYPE, () -> 1);
+        ps.listener.accept(Collections.singleton("a"), ps);
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get("a", INT_TYPE, () -> 2)).isEqualTo(2);
+        assertThat(cache.get("b", INT_TYPE, () -> 2)).isEqualTo(1);
+        cache.release();
+        assertThat(ps.listener).isNull();
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void get_DoesNotCacheMutableResults() {
+        ConvertedValueCache cache = new ConvertedValueCache(context, 10);
+        TypeLiteral<List<String>> type = new TypeLiteral<List<String>>(){};
+        List<String> first = cache.get("a", type, ArrayList::new);
+        assertThat(cache.get("a", type, ArrayList::new)).isNotSameAs(first);
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void get_EvictsWhenFull() {
+        ConvertedValueCache cache = new ConvertedValueCache(context, 2);
+        for(int i=0;i<5;i++){
+            final int val = i;
+            cache.get("key"+i, INT_TYPE, () -> val);
+        }
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getEvictionCount()).isEqualTo(3);
+        cache.invalidateAll();
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void concurrentInvalidation_KeepsSizeConsistent() throws Exception {
+        ConvertedValueCache cache = new ConvertedValueCache(context, 8);
+        List<Thread> threads = new ArrayList<>();
+        for(int t=0;t<4;t++){
+            threads.add(new Thread(() -> {
+                for(int i=0;i<2000;i++){
+                    final int val = i;
+                    cache.get("key"+(i%16), INT_TYPE, () -> val);
+                    if(i%3==0){
+                        cache.invalidateAll();
+                    }else if(i%5==0){
+                        cache.invalidate(Collections.singleton("key"+(i%16)));
+                    }
+                }
+            }));
+        }
+        for(Thread thread:threads){
+            thread.start();
+        }
+        for(Thread thread:threads){
+            thread.join();
+        }
+        assertThat(cache.size()).isBetween(0, 8);
+        cache.invalidateAll();
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void configurationUsesCache() {
+        CountingPropertySource ps = new CountingPropertySource();
+        ConfigurationContext context = new DefaultConfigurationBuilder()
+                .addDefaultPropertyConverters()
+                .addPropertySources(ps)
+                .build().getContext();
+        DefaultConfiguration config = new DefaultConfiguration(context, new DefaultConfigValueEvaluator(), 100);
+        assertThat(config.get("a", Integer.class)).isEqualTo(1);
+        int accessCount = ps.accessCount.get();
+        assertThat(config.get("a", Integer.class)).isEqualTo(1);
+        assertThat(ps.accessCount.get()).isEqualTo(accessCount);
+        assertThat(config.get("b", Integer.class)).isNull();
+        assertThat(config.getConversionCache().getHitCount()).isEqualTo(1);
+        assertThat(config.getConversionCache().getMissCount()).isEqualTo(2);
+        assertThat(new DefaultConfiguration(context).getConversionCache()).isNull();
+    }
+
+    @Test
+    public void configurationReflectsSystemPropertyChanges() {
+        SystemPropertySource systemProperties = new SystemPropertySource();
+        ConfigurationContext context = new DefaultConfigurationBuilder()
+                .addDefaultPropertyConverters()
+                .addPropertySources(systemProperties).build().getContext();
+        DefaultConfiguration config = new DefaultConfiguration(context, new DefaultConfigValueEvaluator(), 100);
+        String key = "ConvertedValueCacheTest.sysprop";
+        try {
+            System.setProperty(key, "1");
+            assertThat(config.get(key, Integer.class)).isEqualTo(1);
+            System.setProperty(key, "2");
+            // the version is checked periodically only, so detect the change explicitly
+            systemProperties.reload();
+            assertThat(config.get(key, Integer.class)).isEqualTo(2);
+            System.clearProperty(key);
+            systemProperties.reload();
+            assertThat(config.get(key, Integer.class)).isNull();
+        }finally{
+            System.clearProperty(key);
+        }
+    }
+
+    private static final class CountingPropertySource implements PropertySource {
+        private final AtomicInteger accessCount = new AtomicInteger();
+
+        @Override
+        public String getName() {
+            return "counting";
+        }
+
+        @Override
+        public PropertyValue get(String key) {
+            accessCount.incrementAndGet();
+            if("a".equals(key)){
+                return PropertyValue.createValue(key, "1");
+            }
+            return null;
+        }
+
+        @Override
+        public Map<String, PropertyValue> getProperties() {
+            Map<String, String> values = new HashMap<>();
+            values.put("a", "1");
+            return PropertyValue.map(values, getName());
+        }
+
+        @Override
+        public ChangeSupport getChangeSupport() {
+            return ChangeSupport.IMMUTABLE;
+        }
+    }
+
+    private static final class VersionedPropertySource implements PropertySource {
+        private final ChangeSupport changeSupport;
+        private String version = "1";
+        private BiConsumer<Set<String>, PropertySource> listener;
+
+        VersionedPropertySource(ChangeSupport changeSupport){
+            this.changeSupport = changeSupport;
+        }
+
+        @Override
+        public String getName() {
+            return "versioned";
+        }
+
+        @Override
+        public PropertyValue get(String key) {
+            return null;
+        }
+
+        @Override
+        public Map<String, PropertyValue> getProperties() {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public ChangeSupport getChangeSupport() {
+            return changeSupport;
+        }
+
+        @Override
+        public String getVersion() {
+            return version;
+        }
+
+        @Override
+        public void addChangeListener(BiConsumer<Set<String>, PropertySource> l) {
+            this.listener = l;
+        }
+
+        @Override
+        public void removeChangeListener(BiConsumer<Set<String>, PropertySource> l) {
+            this.listener = null;
+        }
+    }
+}
@@ -18,12 +18,20 @@
  */
 package org.apache.tamaya.spisupport;
 
+import java.util.Arrays;
 import java.util.Map;
 import org.apache.tamaya.Configuration;
+import org.apache.tamaya.spi.ConfigurationContext;
+import org.apache.tamaya.spi.PropertySource;
 import org.apache.tamaya.spi.PropertyValue;
+import org.apache.tamaya.spisupport.propertysource.BuildablePropertySource;
 import org.junit.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  *
@@ -57,6 +65,21 @@ public class DefaultConfigValueEvaluatorTest {
         assertThat(result.get("confkey1").getValue()).isEqualTo("javaconf-value1");
     }
 
+    /**
+     * Test of evaluateRawValue method not accessing property sources with lower precedence.
+     */
+    @Test
+    public void testEvaluteRawValue_StopsAtFirstMatch() {
+        PropertySource low = mock(PropertySource.class);
+        PropertySource high = BuildablePropertySource.builder()
+                .withName("high").withSimpleProperty("foo", "high").build();
+        ConfigurationContext context = mock(ConfigurationContext.class);
+        when(context.getPropertySources()).thenReturn(Arrays.asList(low, high));
+        PropertyValue result = new DefaultConfigValueEvaluator().evaluateRawValue("foo", context);
+        assertThat(result.getValue()).isEqualTo("high");
+        verify(low, never()).get("foo");
+    }
+
     @Test
     public void testToString(){
         assertThat(new DefaultConfigValueEvaluator().toString()).isNotNull();
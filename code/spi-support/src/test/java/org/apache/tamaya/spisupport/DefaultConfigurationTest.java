@@ -18,15 +18,24 @@
  */
 package org.apache.tamaya.spisupport;
 
+import org.apache.tamaya.ConfigException;
+import org.apache.tamaya.Configuration;
 import org.apache.tamaya.TypeLiteral;
 import org.apache.tamaya.spi.ConfigurationContext;
+import org.apache.tamaya.spi.ConversionContext;
+import org.apache.tamaya.spi.IntPropertyConverter;
+import org.apache.tamaya.spi.PropertyFilter;
 import org.apache.tamaya.spi.PropertyValue;
+import org.apache.tamaya.spisupport.propertysource.MapPropertySource;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class DefaultConfigurationTest {
 
@@ -79,6 +88,41 @@ public class DefaultConfigurationTest {
         assertThat(c.get("Filternull")).isNull(); //current does apply filtering
     }
 
+    @Test
+    public void getAllReturnsSameAsGet() {
+        DefaultConfiguration c = new DefaultConfiguration(new MockedConfigurationContext());
+        Map<String, String> values = c.getAll(Arrays.asList("valueOfValid", "valueOfNull", "Filternull", "missing"));
+        assertThat(values).containsOnlyKeys("valueOfValid");
+        assertThat(values.get("valueOfValid")).isEqualTo(c.get("valueOfValid"));
+        assertThat(c.getAll(Collections.singletonList("missing"))).isEmpty();
+    }
+
+    @Test
+    public void forEachPropertyReturnsSameAsGetProperties() {
+        DefaultConfiguration c = new DefaultConfiguration(new MockedConfigurationContext());
+        Map<String, String> values = new HashMap<>();
+        c.forEachProperty(values::put);
+        assertThat(values).isEqualTo(c.getProperties());
+    }
+
+    @Test
+    public void forEachPropertyFiltersInMapScope() {
+        Map<String, String> props = new HashMap<>();
+        props.put("a", "1");
+        props.put("b", "2");
+        PropertyFilter scopeFilter = (value, ctx) ->
+                value.mutable().setValue(ctx.isSinglePropertyScoped() ? "single" : "map");
+        ConfigurationContext context = new DefaultConfigurationBuilder()
+                .addPropertySources(new MapPropertySource("map", props))
+                .addPropertyFilters(scopeFilter)
+                .build().getContext();
+        DefaultConfiguration c = new DefaultConfiguration(context);
+        Map<String, String> values = new HashMap<>();
+        c.forEachProperty(values::put);
+        assertThat(values).containsEntry("a", "map").containsEntry("b", "map");
+        assertThat(values).isEqualTo(c.getProperties());
+    }
+
     /**
      * Tests for getOrDefault(String, Class, String)
      */
@@ -210,6 +254,49 @@ public class DefaultConfigurationTest {
                 TypeLiteral.of(Integer.class))).isTrue();
     }
 
+    @Test
+    public void getIntUsesPrimitiveConverter() {
+        Map<String, String> props = new HashMap<>();
+        props.put("a", "1");
+        props.put("b", "x");
+        IntPropertyConverter converter = new IntPropertyConverter() {
+            @Override
+            public boolean canConvert(String value) {
+                return !value.isEmpty() && value.chars().allMatch(Character::isDigit);
+            }
+
+            @Override
+            public int convertInt(String value) {
+                return Integer.parseInt(value) * 10;
+            }
+
+            @Override
+            public Integer convert(String value, ConversionContext context) {
+                try {
+                    return Integer.valueOf(value);
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            }
+        };
+        Configuration c = new DefaultConfigurationBuilder()
+                .addPropertySources(new MapPropertySource("map", props))
+                .addPropertyConverters(TypeLiteral.of(Integer.class), converter)
+                .build();
+        assertThat(c.getInt("a")).isEqualTo(10);
+        assertThat(c.getInt("missing", 5)).isEqualTo(5);
+        assertThat(c.get("a", Integer.class)).isEqualTo(1);
+        assertThatThrownBy(() -> c.getInt("b", 5)).isInstanceOf(ConfigException.class);
+        assertThatThrownBy(() -> c.getInt("missing")).isInstanceOf(ConfigException.class);
+    }
+
+    @Test
+    public void getIntUsesBoxedConverters() {
+        DefaultConfiguration c = new DefaultConfiguration(new MockedConfigurationContext());
+        assertThat(c.getInt("missing", 5)).isEqualTo(5);
+        assertThatThrownBy(() -> c.getInt("valueOfValid", 5)).isInstanceOf(ConfigException.class);
+    }
+
     @Test(expected = NullPointerException.class)
     public void with_Null() {
         DefaultConfiguration c = new DefaultConfiguration(new MockedConfigurationContext());
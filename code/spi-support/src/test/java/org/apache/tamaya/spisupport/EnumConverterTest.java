@@ -18,6 +18,7 @@
  */
 package org.apache.tamaya.spisupport;
 
+import org.apache.tamaya.ConfigException;
 import org.apache.tamaya.TypeLiteral;
 import org.apache.tamaya.spi.ConversionContext;
 import org.junit.Test;
@@ -41,6 +42,16 @@ public class EnumConverterTest {
         A, B, C, D
     };
 
+    private enum BodyEnum {
+        plain,
+        WITH_BODY {
+            @Override
+            public String toString() {
+                return "body";
+            }
+        }
+    }
+
     @Test
     public void testConversionWithMixedCasing() {
         ConversionContext ctx = new ConversionContext.Builder(TypeLiteral.of(RoundingMode.class)).build();
@@ -55,6 +66,21 @@ public class EnumConverterTest {
         assertThat(testConverter.convert("fooBars", ctx)).isNull();
     }
 
+    @Test
+    public void testConvert_ExactMatchBeforeUpperCase() {
+        EnumConverter<BodyEnum> converter = new EnumConverter<>(BodyEnum.class);
+        assertThat(converter.convert("plain", DUMMY_CONTEXT)).isSameAs(BodyEnum.plain);
+        assertThat(converter.convert("Plain", DUMMY_CONTEXT)).isNull();
+        assertThat(converter.convert("with_Body", DUMMY_CONTEXT)).isSameAs(BodyEnum.WITH_BODY);
+        assertThat(new EnumConverter<>(BodyEnum.WITH_BODY.getClass()).convert("with_body", DUMMY_CONTEXT))
+                .isSameAs(BodyEnum.WITH_BODY);
+    }
+
+    @Test(expected = ConfigException.class)
+    public void testEnumBaseClassNotConvertible() {
+        new EnumConverter<>(Enum.class);
+    }
+
     @Test
     public void testConvert_Nulls() {
         ConversionContext ctx = new ConversionContext.Builder(TypeLiteral.of(RoundingMode.class)).build();
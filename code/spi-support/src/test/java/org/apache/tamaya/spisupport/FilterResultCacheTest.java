@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tamaya.spisupport;
+
+import org.apache.tamaya.spi.ConfigurationContext;
+import org.apache.tamaya.spi.FilterContext;
+import org.apache.tamaya.spi.PropertyFilter;
+import org.apache.tamaya.spi.PropertyValue;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link FilterResultCache}.
+ */
+public class FilterResultCacheTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    /** Appends the value of {@code suffix} to all other values. */
+    private final PropertyFilter suffixFilter = new PropertyFilter() {
+        @Override
+        public PropertyValue filterProperty(PropertyValue value, FilterContext context) {
+            calls.incrementAndGet();
+            PropertyValue suffix = context.getConfigEntries().get("suffix");
+            return value.mutable().setValue(value.getValue() + (suffix!=null?suffix.getValue():""));
+        }
+
+        @Override
+        public boolean appliesTo(String key) {
+            return !"suffix".equals(key);
+        }
+
+        @Override
+        public boolean isIdempotent() {
+            return true;
+        }
+
+        @Override
+        public Collection<String> getDependencies(String key) {
+            return Collections.singleton("suffix");
+        }
+    };
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidSize() {
+        new FilterResultCache(new PropertyFilterPlan(Collections.emptyList()), 0);
+    }
+
+    @Test
+    public void get_ReusesResultForUnchangedValues() {
+        FilterResultCache cache = new FilterResultCache(
+                new PropertyFilterPlan(Collections.singletonList(suffixFilter)), 10);
+        PropertyValue value = PropertyValue.createValue("a", "1");
+        assertThat(cache.get(value, true, Collections.emptyMap(), v -> PropertyValue.createValue("a", "x"))
+                .getValue()).isEqualTo("x");
+        assertThat(cache.get(value, true, Collections.emptyMap(), v -> null).getValue()).isEqualTo("x");
+        assertThat(cache.get(PropertyValue.createValue("a", "1"), true, Collections.emptyMap(), v -> null)
+                .getValue()).isEqualTo("x");
+        assertThat(cache.get(PropertyValue.createValue("a", "2"), true, Collections.emptyMap(), v -> null))
+                .isNull();
+        assertThat(cache.getHitCount()).isEqualTo(2);
+        assertThat(cache.getMissCount()).isEqualTo(2);
+        assertThat(cache.get(value, false, Collections.emptyMap(), v -> null)).isNull();
+        assertThat(cache.size()).isEqualTo(2);
+        cache.invalidateAll();
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void get_UsesQualifiedKeys() {
+        FilterResultCache cache = new FilterResultCache(
+                new PropertyFilterPlan(Collections.singletonList(suffixFilter)), 10);
+        PropertyValue first = PropertyValue.createObject("x").setValue("a", "1");
+        PropertyValue second = PropertyValue.createObject("y").setValue("a", "1");
+        assertThat(first).isEqualTo(second);
+        assertThat(cache.get(first, true, Collections.emptyMap(), v -> PropertyValue.createValue("a", "x"))
+                .getValue()).isEqualTo("x");
+        assertThat(cache.get(second, true, Collections.emptyMap(), v -> PropertyValue.createValue("a", "y"))
+                .getValue()).isEqualTo("y");
+        assertThat(cache.get(first, true, Collections.emptyMap(), v -> null).getValue()).isEqualTo("x");
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void get_EvictsWhenFull() {
+        FilterResultCache cache = new FilterResultCache(
+                new PropertyFilterPlan(Collections.singletonList(suffixFilter)), 2);
+        for(int i=0;i<5;i++){
+            cache.get(PropertyValue.createValue("key"+i, "1"), true, Collections.emptyMap(),
+                    v -> PropertyValue.createValue(v.getKey(), "x"));
+        }
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getEvictionCount()).isEqualTo(3);
+        // new keys are still memoized, after the cache was full.
+        PropertyValue value = PropertyValue.createValue("key5", "1");
+        cache.get(value, true, Collections.emptyMap(), v -> PropertyValue.createValue("key5", "x"));
+        assertThat(cache.get(value, true, Collections.emptyMap(), v -> null).getValue()).isEqualTo("x");
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void get_NoMemoizationWithoutDeclaredDependencies() {
+        FilterResultCache cache = new FilterResultCache(
+                new PropertyFilterPlan(Collections.singletonList((value, ctx) -> value)), 10);
+        PropertyValue value = PropertyValue.createValue("a", "1");
+        cache.get(value, true, Collections.emptyMap(), v -> value);
+        assertThat(cache.get(value, true, Collections.emptyMap(), v -> null)).isNull();
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void filtering_ReevaluatesChangedDependencies() {
+        ConfigurationContext context = new DefaultConfigurationBuilder().addPropertyFilters(suffixFilter)
+                .build().getContext();
+        Map<String, PropertyValue> properties = new HashMap<>();
+        properties.put("a", PropertyValue.createValue("a", "1").immutable());
+        properties.put("suffix", PropertyValue.createValue("suffix", "!").immutable());
+        assertThat(PropertyFiltering.applyFilters(properties, context).get("a").getValue()).isEqualTo("1!");
+        assertThat(PropertyFiltering.applyFilters(properties, context).get("a").getValue()).isEqualTo("1!");
+        assertThat(calls.get()).isEqualTo(1);
+        properties.put("suffix", PropertyValue.createValue("suffix", "?").immutable());
+        assertThat(PropertyFiltering.applyFilters(properties, context).get("a").getValue()).isEqualTo("1?");
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(PropertyFiltering.applyFilter(properties.get("a"), context).getValue()).isEqualTo("1");
+        assertThat(calls.get()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tamaya.spisupport;
+
+import org.apache.tamaya.spi.ChangeSupport;
+import org.apache.tamaya.spi.ConfigurationContext;
+import org.apache.tamaya.spi.PropertySource;
+import org.apache.tamaya.spi.PropertyValue;
+import org.apache.tamaya.spisupport.propertysource.BuildablePropertySource;
+import org.apache.tamaya.spisupport.propertysource.SystemPropertySource;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link IndexedConfigValueEvaluator}.
+ */
+public class IndexedConfigValueEvaluatorTest {
+
+    @Test
+    public void evaluateRawValue_HighestOrdinalWins() {
+        ConfigurationContext context = new DefaultConfigurationBuilder()
+                .addPropertySources(
+                        BuildablePropertySource.builder().withName("low").withOrdinal(10)
+                                .withSimpleProperty("a", "low").withSimpleProperty("b", "low").build(),
+                        BuildablePropertySource.builder().withName("high").withOrdinal(20)
+                                .withSimpleProperty("a", "high").build())
+                .sortPropertySources(PropertySourceComparator.getInstance())
+                .build().getContext();
+        IndexedConfigValueEvaluator evaluator = new IndexedConfigValueEvaluator();
+        assertThat(evaluator.evaluateRawValue("a", context).getValue()).isEqualTo("high");
+        assertThat(evaluator.evaluateRawValue("b", context).getValue()).isEqualTo("low");
+        assertThat(evaluator.evaluateRawValue("c", context)).isNull();
+        assertThat(evaluator.evaluateRawValue("a", context).getValue()).isEqualTo("high");
+    }
+
+    @Test
+    public void evaluateRawValue_UsesIndexForImmutableSources() {
+        CountingPropertySource ps = new CountingPropertySource(ChangeSupport.IMMUTABLE);
+        ps.values.put("a", "1");
+        ConfigurationContext context = new DefaultConfigurationBuilder().addPropertySources(ps).build().getContext();
+        IndexedConfigValueEvaluator evaluator = new IndexedConfigValueEvaluator();
+        for(int i=0;i<10;i++) {
+            assertThat(evaluator.evaluateRawValue("a", context).getValue()).isEqualTo("1");
+            assertThat(evaluator.evaluateRawValue("b", context)).isNull();
+        }
+        assertThat(ps.accessCount.get()).isEqualTo(2);
+        evaluator.invalidate();
+        assertThat(evaluator.evaluateRawValue("a", context).getValue()).isEqualTo("1");
+        assertThat(ps.accessCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void evaluateRawValue_AlwaysQueriesUnsupportedSources() {
+        CountingPropertySource ps = new CountingPropertySource(ChangeSupport.UNSUPPORTED);
+        ps.values.put("a", "1");
+        ConfigurationContext context = new DefaultConfigurationBuilder().addPropertySources(ps).build().getContext();
+        IndexedConfigValueEvaluator evaluator = new IndexedConfigValueEvaluator();
+        assertThat(evaluator.evaluateRawValue("a", context).getValue()).isEqualTo("1");
+        ps.values.put("a", "2");
+        assertThat(evaluator.evaluateRawValue("a", context).getValue()).isEqualTo("2");
+    }
+
+    @Test
+    public void evaluateRawValue_RebuildsOnChangeEvent() {
+        CountingPropertySource ps = new CountingPropertySource(ChangeSupport.SUPPORTED);
+        ps.values.put("a", "1");
+        ConfigurationContext context = new DefaultConfigurationBuilder().addPropertySources(ps).build().getContext();
+        IndexedConfigValueEvaluator evaluator = new IndexedConfigValueEvaluator();
+        assertThat(evaluator.evaluateRawValue("a", context).getValue()).isEqualTo("1");
+        ps.values.put("a", "2");
+        assertThat(evaluator.evaluateRawValue("a", context).getValue()).isEqualTo("1");
+        ps.fireChange("a");
+        assertThat(evaluator.evaluateRawValue("a", context).getValue()).isEqualTo("2");
+    }
+
+    @Test
+    public void evaluateRawValue_ReflectsSystemPropertyChanges() {
+        SystemPropertySource systemProperties = new SystemPropertySource();
+        ConfigurationContext context = new DefaultConfigurationBuilder()
+                .addPropertySources(systemProperties).build().getContext();
+        IndexedConfigValueEvaluator evaluator = new IndexedConfigValueEvaluator();
+        String key = "IndexedConfigValueEvaluatorTest.sysprop";
+        try {
+            System.setProperty(key, "1");
+            assertThat(evaluator.evaluateRawValue(key, context).getValue()).isEqualTo("1");
+            System.setProperty(key, "2");
+            // the version is checked periodically only, so detect the change explicitly
+            systemProperties.reload();
+            assertThat(evaluator.evaluateRawValue(key, context).getValue()).isEqualTo("2");
+            System.clearProperty(key);
+            systemProperties.reload();
+            assertThat(evaluator.evaluateRawValue(key, context)).isNull();
+        }finally{
+            System.clearProperty(key);
+        }
+    }
+
+    @Test
+    public void evaluateRawValue_RebuildsOnVersionChange() {
+        CountingPropertySource ps = new CountingPropertySource(ChangeSupport.SUPPORTED);
+        ps.values.put("a", "1");
+        ConfigurationContext context = new DefaultConfigurationBuilder().addPropertySources(ps).build().getContext();
+        IndexedConfigValueEvaluator evaluator = new IndexedConfigValueEvaluator();
+        assertThat(evaluator.evaluateRawValue("a", context).getValue()).isEqualTo("1");
+        ps.values.put("a", "2");
+        ps.version = "2";
+        assertThat(evaluator.evaluateRawValue("a", context).getValue()).isEqualTo("2");
+        assertThat(ps.accessCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void evaluateRawValue_SwitchesContext() {
+        ConfigurationContext context1 = new DefaultConfigurationBuilder()
+                .addPropertySources(BuildablePropertySource.builder().withName("one")
+                        .withSimpleProperty("a", "1").build())
+                .build().getContext();
+        ConfigurationContext context2 = new DefaultConfigurationBuilder()
+                .addPropertySources(BuildablePropertySource.builder().withName("two")
+                        .withSimpleProperty("a", "2").build())
+                .build().getContext();
+        IndexedConfigValueEvaluator evaluator = new IndexedConfigValueEvaluator();
+        assertThat(evaluator.evaluateRawValue("a", context1).getValue()).isEqualTo("1");
+        assertThat(evaluator.evaluateRawValue("a", context2).getValue()).isEqualTo("2");
+    }
+
+    @Test
+    public void configurationWithIndexedEvaluator() {
+        ConfigurationContext context = new DefaultConfigurationBuilder()
+                .addPropertySources(BuildablePropertySource.builder().withName("one")
+                        .withSimpleProperty("a", "1").build())
+                .build().getContext();
+        DefaultConfiguration config = new DefaultConfiguration(context, new IndexedConfigValueEvaluator());
+        assertThat(config.get("a")).isEqualTo("1");
+        assertThat(config.get("b")).isNull();
+    }
+
+    private static final class CountingPropertySource implements PropertySource {
+        private final Map<String, String> values = new HashMap<>();
+        private final AtomicInteger accessCount = new AtomicInteger();
+        private final ChangeSupport changeSupport;
+        private volatile String version = "1";
+        private BiConsumer<Set<String>, PropertySource> listener;
+
+        CountingPropertySource(ChangeSupport changeSupport){
+            this.changeSupport = changeSupport;
+        }
+
+        @Override
+        public String getName() {
+            return "counting";
+        }
+
+        @Override
+        public PropertyValue get(String key) {
+            accessCount.incrementAndGet();
+            String value = values.get(key);
+            if(value==null){
+                return null;
+            }
+            return PropertyValue.createValue(key, value);
+        }
+
+        @Override
+        public Map<String, PropertyValue> getProperties() {
+            return PropertyValue.map(values, getName());
+        }
+
+        @Override
+        public ChangeSupport getChangeSupport() {
+            return changeSupport;
+        }
+
+        @Override
+        public String getVersion() {
+            return version;
+        }
+
+        @Override
+        public void addChangeListener(BiConsumer<Set<String>, PropertySource> l) {
+            this.listener = l;
+        }
+
+        void fireChange(String key){
+            listener.accept(Collections.singleton(key), this);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tamaya.spisupport;
+
+import org.apache.tamaya.spi.PropertySource;
+import org.apache.tamaya.spisupport.propertysource.BuildablePropertySource;
+import org.apache.tamaya.spisupport.propertysource.MapPropertySource;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link KeyBloomFilter}.
+ */
+public class KeyBloomFilterTest {
+
+    @Test(expected = NullPointerException.class)
+    public void nullKeys() {
+        new KeyBloomFilter(null);
+    }
+
+    @Test
+    public void emptyFilter_ContainsNothing() {
+        KeyBloomFilter filter = new KeyBloomFilter(Collections.emptyList());
+        assertThat(filter.mightContain("a")).isFalse();
+        assertThat(filter.mightContain("")).isFalse();
+        assertThat(filter.getBitCount()).isEqualTo(64);
+    }
+
+    @Test
+    public void mightContain_NoFalseNegatives() {
+        List<String> keys = new ArrayList<>();
+        for(int i=0;i<10000;i++){
+            keys.add("service.a" + (i % 10) + ".b" + i + ".timeout");
+        }
+        KeyBloomFilter filter = new KeyBloomFilter(keys);
+        for(String key:keys){
+            assertThat(filter.mightContain(key)).isTrue();
+        }
+    }
+
+    @Test
+    public void mightContain_FewFalsePositives() {
+        List<String> keys = new ArrayList<>();
+        for(int i=0;i<10000;i++){
+            keys.add("key." + i);
+        }
+        KeyBloomFilter filter = new KeyBloomFilter(keys);
+        int falsePositives = 0;
+        for(int i=0;i<10000;i++){
+            if(filter.mightContain("other." + i)){
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    @Test
+    public void propertySources_SkipMissingKeys() {
+        PropertySource buildable = BuildablePropertySource.builder()
+                .withSimpleProperty("a", "1").build();
+        assertThat(buildable.mightContain("a")).isTrue();
+        assertThat(buildable.mightContain("b")).isFalse();
+        PropertySource map = new MapPropertySource("map", Collections.singletonMap("a", "1"), "pre.");
+        assertThat(map.mightContain("pre.a")).isTrue();
+        assertThat(map.mightContain("a")).isFalse();
+        PropertySource snapshot = DefaultPropertySourceSnapshot.of(buildable);
+        assertThat(snapshot.mightContain("a")).isTrue();
+        assertThat(snapshot.mightContain("b")).isFalse();
+    }
+}
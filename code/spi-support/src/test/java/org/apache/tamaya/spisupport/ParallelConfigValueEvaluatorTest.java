@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tamaya.spisupport;
+
+import org.apache.tamaya.Configuration;
+import org.apache.tamaya.spi.ConfigurationBuilder;
+import org.apache.tamaya.spi.PropertySource;
+import org.apache.tamaya.spi.PropertyValue;
+import org.apache.tamaya.spisupport.propertysource.BuildablePropertySource;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ParallelConfigValueEvaluator} and parallel evaluation of
+ * {@link DefaultConfiguration#getProperties()}.
+ */
+public class ParallelConfigValueEvaluatorTest {
+
+    private static ConfigurationBuilder createBuilder(){
+        ConfigurationBuilder builder = new DefaultConfigurationBuilder();
+        for(int s=0;s<12;s++){
+            BuildablePropertySource.Builder psBuilder = BuildablePropertySource.builder()
+                    .withName("source"+s).withOrdinal(s);
+            for(int k=0;k<500;k++){
+                psBuilder.withSimpleProperty("key"+(s*200+k), "value"+s);
+            }
+            builder.addPropertySources(psBuilder.build());
+        }
+        return builder.addPropertyFilters((value, context) -> PropertyValue.createValue(value.getKey(), value.getValue().toUpperCase()))
+                .sortPropertySources(PropertySourceComparator.getInstance());
+    }
+
+    @Test
+    public void evaluateRawValues_HighestOrdinalWins() {
+        Configuration config = createBuilder().build();
+        Map<String, PropertyValue> values = new ParallelConfigValueEvaluator().evaluateRawValues(config.getContext());
+        assertThat(values).isEqualTo(new DefaultConfigValueEvaluator().evaluateRawValues(config.getContext()));
+        assertThat(values.get("key0").getValue()).isEqualTo("value0");
+        assertThat(values.get("key499").getValue()).isEqualTo("value2");
+        assertThat(values.get("key2699").getValue()).isEqualTo("value11");
+    }
+
+    @Test
+    public void evaluateRawValues_IgnoresNullValues() {
+        PropertySource low = BuildablePropertySource.builder().withName("low").withOrdinal(1)
+                .withSimpleProperty("a", "low").build();
+        PropertySource high = BuildablePropertySource.builder().withName("high").withOrdinal(2)
+                .withProperties(PropertyValue.createValue("a", null)).build();
+        Configuration config = new DefaultConfigurationBuilder().addPropertySources(low, high)
+                .sortPropertySources(PropertySourceComparator.getInstance()).build();
+        assertThat(new ParallelConfigValueEvaluator().evaluateRawValues(config.getContext()).get("a").getValue())
+                .isEqualTo("low");
+    }
+
+    @Test
+    public void getProperties_SameAsSerial() {
+        DefaultConfiguration parallel = (DefaultConfiguration)createBuilder().setParallelEvaluation(true).build();
+        Configuration serial = createBuilder().build();
+        assertThat(parallel.isParallelEvaluation()).isTrue();
+        assertThat(parallel.getProperties()).hasSize(2700).isEqualTo(serial.getProperties());
+        assertThat(parallel.get("key2699")).isEqualTo("VALUE11");
+        assertThat(((DefaultConfiguration)parallel.toBuilder().build()).isParallelEvaluation()).isTrue();
+    }
+}
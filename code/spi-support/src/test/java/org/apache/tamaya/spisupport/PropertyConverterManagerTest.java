@@ -20,6 +20,7 @@ package org.apache.tamaya.spisupport;
 
 import java.lang.reflect.Method;
 
+import org.apache.tamaya.ConfigException;
 import org.apache.tamaya.spi.ConversionContext;
 import org.apache.tamaya.spi.PropertyConverter;
 import org.apache.tamaya.TypeLiteral;
@@ -193,7 +194,52 @@ public class PropertyConverterManagerTest {
         assertThat(result).isEqualTo(101);
     }
 
-    
+
+    @Test
+    public void testResolvedConvertersAreCached() {
+        ServiceContext serviceContext = ServiceContextManager.getServiceContext(getClass().getClassLoader());
+        PropertyConverterManager manager = new PropertyConverterManager(serviceContext, true);
+        List<PropertyConverter<Integer>> converters = manager.getPropertyConverters(TypeLiteral.of(Integer.class));
+        assertThat(manager.getPropertyConverters(TypeLiteral.of(Integer.class))).isSameAs(converters);
+        assertThat(manager.getPropertyConverters(TypeLiteral.of(String.class))).isEmpty();
+    }
+
+    @Test
+    public void testRegisterInvalidatesResolvedConverters() {
+        ServiceContext serviceContext = ServiceContextManager.getServiceContext(getClass().getClassLoader());
+        PropertyConverterManager manager = new PropertyConverterManager(serviceContext, false);
+        assertThat(manager.getPropertyConverters(TypeLiteral.of(String.class))).isEmpty();
+        PropertyConverter<String> first = (value, ctx) -> value;
+        PropertyConverter<String> second = (value, ctx) -> value.trim();
+        manager.register(TypeLiteral.of(String.class), first);
+        manager.register(TypeLiteral.of(String.class), second);
+        manager.register(TypeLiteral.of(String.class), first);
+        assertThat(List.class.cast(manager.getPropertyConverters(TypeLiteral.of(String.class)))).containsExactlyInAnyOrder(first, second);
+        assertThat(List.class.cast(manager.getPropertyConverters().get(TypeLiteral.of(String.class)))).containsExactlyInAnyOrder(first, second);
+    }
+
+    @Test
+    public void testArrayConvertersApplyToAllArrayTypes() {
+        ServiceContext serviceContext = ServiceContextManager.getServiceContext(getClass().getClassLoader());
+        PropertyConverterManager manager = new PropertyConverterManager(serviceContext, false);
+        PropertyConverter<Object[]> arrayConverter = (value, ctx) -> new Object[]{value};
+        PropertyConverter<int[]> intArrayConverter = (value, ctx) -> new int[0];
+        manager.register(TypeLiteral.of(Object[].class), arrayConverter);
+        manager.register(TypeLiteral.of(int[].class), intArrayConverter);
+        assertThat(List.class.cast(manager.getPropertyConverters(TypeLiteral.of(String[].class))))
+                .containsExactly(arrayConverter);
+        assertThat(List.class.cast(manager.getPropertyConverters(TypeLiteral.of(int[].class))))
+                .containsExactly(intArrayConverter, arrayConverter);
+        assertThat(manager.getPropertyConverters(TypeLiteral.of(String.class))).isEmpty();
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testResolvedConvertersAreUnmodifiable() {
+        ServiceContext serviceContext = ServiceContextManager.getServiceContext(getClass().getClassLoader());
+        PropertyConverterManager manager = new PropertyConverterManager(serviceContext, true);
+        manager.getPropertyConverters(TypeLiteral.of(Integer.class)).clear();
+    }
+
     @Test
     public void testCreateEnumPropertyConverter() {
         ServiceContext serviceContext = ServiceContextManager.getServiceContext(getClass().getClassLoader());
@@ -203,6 +249,41 @@ public class PropertyConverterManagerTest {
         assertThat(manager.isTargetTypeSupported(TypeLiteral.of(MyEnum.class))).isTrue();
     }
 
+    @Test
+    public void testDynamicConvertersAreResolvedOnce() {
+        ServiceContext serviceContext = ServiceContextManager.getServiceContext(getClass().getClassLoader());
+        PropertyConverterManager manager = new PropertyConverterManager(serviceContext, false);
+        PropertyConverter<MyType> pc = manager.createDefaultPropertyConverter(TypeLiteral.of(MyType.class));
+        assertThat(pc).isNotNull();
+        assertThat(manager.createDefaultPropertyConverter(TypeLiteral.of(MyType.class))).isSameAs(pc);
+        assertThat(manager.createDefaultPropertyConverter(TypeLiteral.of(Object.class))).isNull();
+        assertThat(manager.createDefaultPropertyConverter(TypeLiteral.of(Object.class))).isNull();
+    }
+
+    @Test
+    public void testStringConstructorIsUsedAsConverter() {
+        ServiceContext serviceContext = ServiceContextManager.getServiceContext(getClass().getClassLoader());
+        PropertyConverterManager manager = new PropertyConverterManager(serviceContext, false);
+        PropertyConverter<MyConstructedType> pc = manager.createDefaultPropertyConverter(
+                TypeLiteral.of(MyConstructedType.class));
+        assertThat(pc.convert("IN", DUMMY_CONTEXT).value).isEqualTo("IN");
+        assertThat(pc.convert(null, DUMMY_CONTEXT)).isNull();
+    }
+
+    @Test(expected = ConfigException.class)
+    public void testFactoryMethodFailureIsWrapped() {
+        ServiceContext serviceContext = ServiceContextManager.getServiceContext(getClass().getClassLoader());
+        PropertyConverterManager manager = new PropertyConverterManager(serviceContext, false);
+        manager.createDefaultPropertyConverter(TypeLiteral.of(MyParsedType.class)).convert("x", DUMMY_CONTEXT);
+    }
+
+    @Test(expected = ConfigException.class)
+    public void testNonStaticFactoryMethodIsRejected() {
+        ServiceContext serviceContext = ServiceContextManager.getServiceContext(getClass().getClassLoader());
+        PropertyConverterManager manager = new PropertyConverterManager(serviceContext, false);
+        manager.createDefaultPropertyConverter(TypeLiteral.of(MyInstanceType.class)).convert("x", DUMMY_CONTEXT);
+    }
+
     @Test
     public void testGetFactoryMethod() throws Exception {
         ServiceContext serviceContext = ServiceContextManager.getServiceContext(getClass().getClassLoader());
@@ -224,10 +305,7 @@ public class PropertyConverterManagerTest {
     }
 
     @Test
-    public void testMapBoxedType() throws Exception {
-        ServiceContext serviceContext = ServiceContextManager.getServiceContext(getClass().getClassLoader());
-        PropertyConverterManager manager = new PropertyConverterManager(serviceContext, false);
-
+    public void testMapBoxedType() {
         Class[] boxed = new Class[]{
             Integer[].class, Short[].class, Byte[].class, Long[].class,
             Boolean[].class, Character[].class, Float[].class, Double[].class
@@ -237,14 +315,11 @@ public class PropertyConverterManagerTest {
             boolean[].class, char[].class, float[].class, double[].class
         };
 
-        Method method = PropertyConverterManager.class.getDeclaredMethod("mapBoxedType", TypeLiteral.class);
-        method.setAccessible(true);
-
         for (int i = 0; i < boxed.length; i++) {
             assertThat(TypeLiteral.of(boxed[i]))
-                    .isEqualTo(method.invoke(manager, TypeLiteral.of(primitive[i])));
+                    .isSameAs(TypeLiteral.of(primitive[i]).getBoxedType());
             assertThat(TypeLiteral.of(boxed[i].getComponentType()))
-                    .isEqualTo(method.invoke(manager, TypeLiteral.of(primitive[i].getComponentType())));
+                    .isSameAs(TypeLiteral.of(primitive[i].getComponentType()).getBoxedType());
         }
     }
 
@@ -270,6 +345,32 @@ public class PropertyConverterManagerTest {
 
     }
 
+    public static class MyConstructedType {
+
+        private final String value;
+
+        private MyConstructedType(String value) {
+            if (value == null) {
+                throw new IllegalArgumentException("value required");
+            }
+            this.value = value;
+        }
+    }
+
+    public static class MyParsedType {
+
+        private static MyParsedType parse(String value) {
+            throw new IllegalArgumentException("Cannot parse: " + value);
+        }
+    }
+
+    public static class MyInstanceType {
+
+        public MyInstanceType from(String value) {
+            return this;
+        }
+    }
+
     private enum MyEnum {
         A, B, C
     }
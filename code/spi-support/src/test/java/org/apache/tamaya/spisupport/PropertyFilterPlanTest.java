@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tamaya.spisupport;
+
+import org.apache.tamaya.spi.ConfigurationContext;
+import org.apache.tamaya.spi.FilterContext;
+import org.apache.tamaya.spi.PropertyFilter;
+import org.apache.tamaya.spi.PropertyValue;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PropertyFilterPlan}.
+ */
+public class PropertyFilterPlanTest {
+
+    private final PropertyFilter all = (value, ctx) -> value;
+    private final PropertyFilter secrets = ScopedPropertyFilter.ofPrefixes((value, ctx) -> value, "secret.");
+
+    @Test
+    public void getPlan_NoFilters() {
+        PropertyFilterPlan.KeyPlan plan = new PropertyFilterPlan(Collections.emptyList()).getPlan("a");
+        assertThat(plan.getFilters()).isEmpty();
+        assertThat(plan.isSinglePass()).isTrue();
+    }
+
+    @Test
+    public void getPlan_SelectsApplicableFilters() {
+        PropertyFilterPlan filterPlan = new PropertyFilterPlan(Arrays.asList(all, secrets));
+        assertThat(filterPlan.getPlan("a").getFilters()).containsExactly(all);
+        assertThat(filterPlan.getPlan("secret.password").getFilters()).containsExactly(all, secrets);
+        assertThat(filterPlan.getPlan("a")).isSameAs(filterPlan.getPlan("a"));
+        assertThat(filterPlan.getFilters()).containsExactly(all, secrets);
+    }
+
+    @Test
+    public void getPlan_SinglePassOnlyIfAllIdempotent() {
+        PropertyFilterPlan filterPlan = new PropertyFilterPlan(Arrays.asList(all,
+                ScopedPropertyFilter.ofPrefixes((value, ctx) -> value, "secret.").idempotent()));
+        assertThat(filterPlan.getPlan("a").isSinglePass()).isFalse();
+        filterPlan = new PropertyFilterPlan(Arrays.asList(secrets, new RegexPropertyFilter()));
+        assertThat(filterPlan.getPlan("a").isSinglePass()).isTrue();
+        assertThat(filterPlan.getPlan("secret.a").isSinglePass()).isFalse();
+    }
+
+    @Test
+    public void filtering_SkipsFiltersNotApplicable() {
+        AtomicInteger calls = new AtomicInteger();
+        PropertyFilter counting = ScopedPropertyFilter.ofPrefixes((value, ctx) -> {
+            calls.incrementAndGet();
+            return value.mutable().setValue("***");
+        }, "secret.");
+        ConfigurationContext context = new DefaultConfigurationBuilder().addPropertyFilters(counting)
+                .build().getContext();
+        assertThat(PropertyFiltering.applyFilter(PropertyValue.createValue("a", "1"), context).getValue())
+                .isEqualTo("1");
+        assertThat(calls.get()).isEqualTo(0);
+        assertThat(PropertyFiltering.applyFilter(PropertyValue.createValue("secret.a", "1"), context).getValue())
+                .isEqualTo("***");
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void filtering_IdempotentFiltersEvaluatedOnce() {
+        AtomicInteger calls = new AtomicInteger();
+        PropertyFilter appending = new PropertyFilter() {
+            @Override
+            public PropertyValue filterProperty(PropertyValue value, FilterContext context) {
+                calls.incrementAndGet();
+                return value.mutable().setValue(value.getValue() + "!");
+            }
+
+            @Override
+            public boolean isIdempotent() {
+                return true;
+            }
+        };
+        ConfigurationContext context = new DefaultConfigurationBuilder().addPropertyFilters(appending)
+                .build().getContext();
+        assertThat(PropertyFiltering.applyFilter(PropertyValue.createValue("a", "1"), context).getValue())
+                .isEqualTo("1!");
+        assertThat(calls.get()).isEqualTo(1);
+    }
+}
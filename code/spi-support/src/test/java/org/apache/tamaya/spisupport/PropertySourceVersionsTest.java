@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tamaya.spisupport;
+
+import org.apache.tamaya.spi.ChangeSupport;
+import org.apache.tamaya.spi.ConfigurationContext;
+import org.apache.tamaya.spi.PropertySource;
+import org.apache.tamaya.spi.PropertyValue;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link PropertySourceVersions}.
+ */
+public class PropertySourceVersionsTest {
+
+    @Test
+    public void current_ReturnsSameSnapshotWhileUnchanged() {
+        VersionedPropertySource ps = new VersionedPropertySource("1");
+        PropertySourceVersions versions = new PropertySourceVersions(Arrays.asList(ps, new VersionedPropertySource("x")));
+        String[] snapshot = versions.current();
+        assertThat(snapshot).containsExactly("1", "x");
+        assertThat(versions.current()).isSameAs(snapshot);
+        ps.version = "2";
+        String[] changed = versions.current();
+        assertThat(changed).isNotSameAs(snapshot).containsExactly("2", "x");
+        assertThat(versions.current()).isSameAs(changed);
+    }
+
+    @Test
+    public void current_ComparesVersionStrings() {
+        // "Aa" and "BB" share the same hash code.
+        VersionedPropertySource ps = new VersionedPropertySource("Aa");
+        PropertySourceVersions versions = new PropertySourceVersions(Collections.singletonList(ps));
+        String[] snapshot = versions.current();
+        ps.version = "BB";
+        assertThat(versions.current()).isNotSameAs(snapshot);
+    }
+
+    @Test
+    public void current_NoSources() {
+        PropertySourceVersions versions = new PropertySourceVersions(Collections.emptyList());
+        assertThat(versions.current()).isEmpty();
+        assertThat(versions.current()).isSameAs(versions.current());
+    }
+
+    @Test
+    public void of_IgnoresImmutableSources() {
+        VersionedPropertySource ps = new VersionedPropertySource("1");
+        VersionedPropertySource immutable = new VersionedPropertySource("a", ChangeSupport.IMMUTABLE);
+        ConfigurationContext context = mock(ConfigurationContext.class);
+        when(context.getPropertySources()).thenReturn(Arrays.asList(ps, immutable));
+        PropertySourceVersions versions = PropertySourceVersions.of(context);
+        String[] snapshot = versions.current();
+        assertThat(snapshot).containsExactly("1");
+        immutable.version = "b";
+        assertThat(versions.current()).isSameAs(snapshot);
+        ps.version = "2";
+        assertThat(versions.current()).containsExactly("2");
+    }
+
+    private static final class VersionedPropertySource implements PropertySource {
+        private volatile String version;
+        private final ChangeSupport changeSupport;
+
+        VersionedPropertySource(String version){
+            this(version, ChangeSupport.UNSUPPORTED);
+        }
+
+        VersionedPropertySource(String version, ChangeSupport changeSupport){
+            this.version = version;
+            this.changeSupport = changeSupport;
+        }
+
+        @Override
+        public ChangeSupport getChangeSupport() {
+            return changeSupport;
+        }
+
+        @Override
+        public String getName() {
+            return "versioned";
+        }
+
+        @Override
+        public PropertyValue get(String key) {
+            return null;
+        }
+
+        @Override
+        public Map<String, PropertyValue> getProperties() {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public String getVersion() {
+            return version;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tamaya.spisupport;
+
+import org.apache.tamaya.spi.PropertySource;
+import org.apache.tamaya.spisupport.propertysource.BuildablePropertySource;
+import org.apache.tamaya.spisupport.propertysource.SimplePropertySource;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link RadixTreeMap}.
+ */
+public class RadixTreeMapTest {
+
+    private static final String[] SEGMENTS = {"service", "a", "b", "ab", "timeout", "url", "pool", "p", ""};
+
+    private static Map<String, String> createRandomKeys(int count){
+        Random random = new Random(42);
+        Map<String, String> values = new TreeMap<>();
+        for(int i=0;i<count;i++){
+            StringBuilder key = new StringBuilder(SEGMENTS[random.nextInt(SEGMENTS.length)]);
+            int depth = random.nextInt(5);
+            for(int d=0;d<depth;d++){
+                key.append('.').append(SEGMENTS[random.nextInt(SEGMENTS.length)]);
+            }
+            values.put(key.toString(), "value" + i);
+        }
+        return values;
+    }
+
+    @Test
+    public void behavesLikeSortedMap() {
+        Map<String, String> expected = createRandomKeys(2000);
+        RadixTreeMap<String> map = new RadixTreeMap<>();
+        for(Map.Entry<String, String> en:expected.entrySet()){
+            assertThat(map.put(en.getKey(), en.getValue())).isNull();
+        }
+        assertThat(map).hasSize(expected.size());
+        assertThat(new ArrayList<>(map.keySet())).containsExactlyElementsOf(expected.keySet());
+        assertThat(map).isEqualTo(expected);
+        for(String key:expected.keySet()){
+            assertThat(map.get(key)).isEqualTo(expected.get(key));
+            assertThat(map.containsKey(key + "x")).isEqualTo(expected.containsKey(key + "x"));
+        }
+        assertThat(map.put("service.a", "new")).isEqualTo(expected.get("service.a"));
+        assertThat(map.get("service.a")).isEqualTo("new");
+        assertThat(map.get("servic")).isNull();
+        assertThat(map.get(1)).isNull();
+    }
+
+    @Test
+    public void getPrefixed() {
+        Map<String, String> expected = createRandomKeys(500);
+        RadixTreeMap<String> map = new RadixTreeMap<>(expected);
+        for(String prefix:new String[]{"", "s", "service.", "service.a", "service.ab.", "a.b.p", "x", "timeouts"}){
+            Map<String, String> prefixed = new TreeMap<>();
+            expected.forEach((k, v) -> {
+                if(k.startsWith(prefix)){
+                    prefixed.put(k, v);
+                }
+            });
+            assertThat(map.getPrefixed(prefix)).isEqualTo(prefixed);
+        }
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void removeNotSupported() {
+        RadixTreeMap<String> map = new RadixTreeMap<>();
+        map.put("a", "b");
+        map.remove("a");
+    }
+
+    @Test
+    public void emptyKeyAndClear() {
+        RadixTreeMap<String> map = new RadixTreeMap<>();
+        map.put("", "root");
+        map.put("a", "a");
+        assertThat(map.get("")).isEqualTo("root");
+        assertThat(map.getPrefixed("")).hasSize(2);
+        map.clear();
+        assertThat(map).isEmpty();
+        assertThat(map.get("a")).isNull();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void serializable() throws Exception {
+        RadixTreeMap<String> map = new RadixTreeMap<>(createRandomKeys(100));
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try(ObjectOutputStream oos = new ObjectOutputStream(bos)){
+            oos.writeObject(map);
+        }
+        try(ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray()))){
+            assertThat((Map<String, String>)ois.readObject()).isEqualTo(map);
+        }
+    }
+
+    @Test
+    public void propertySourcesWithRadixTreeStorage() {
+        Map<String, String> values = createRandomKeys(200);
+        PropertySource buildable = BuildablePropertySource.builder().withRadixTreeStorage(true)
+                .withSimpleProperties(values).build();
+        PropertySource simple = SimplePropertySource.newBuilder().withName("simple").withRadixTreeStorage(true)
+                .withProperties(values).build();
+        PropertySource snapshot = new DefaultPropertySourceSnapshot(buildable, values.keySet(), true);
+        PropertySource reference = BuildablePropertySource.builder().withSimpleProperties(values).build();
+        for(PropertySource ps:new PropertySource[]{buildable, simple, snapshot}){
+            assertThat(ps.getProperties()).hasSize(values.size());
+            assertThat(ps.get("service.a").getValue()).isEqualTo(values.get("service.a"));
+            assertThat(ps.getProperties("service.a").keySet())
+                    .isEqualTo(reference.getProperties("service.a").keySet());
+        }
+        assertThat(snapshot.getProperties()).isEqualTo(reference.getProperties());
+        assertThat(buildable.get("missing.key")).isNull();
+    }
+}
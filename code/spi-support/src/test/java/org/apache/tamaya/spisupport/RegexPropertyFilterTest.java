@@ -24,6 +24,7 @@ import org.apache.tamaya.spi.PropertyValue;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.regex.PatternSyntaxException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -73,6 +74,53 @@ public class RegexPropertyFilterTest {
         
     }
 
+    @org.junit.Test
+    public void testFilterProperty_MixedExpressions() throws Exception {
+        RegexPropertyFilter filter = new RegexPropertyFilter();
+        filter.setIncludes("exact", "secret\\..*", "db.*", "[a-c]+\\.port", "(?i)upper", "(x)\\1");
+        FilterContext ctx = new FilterContext(prop1, configContext);
+        String[] included = {"exact", "secret.a", "db", "dbx.y", "abc.port", "UPPER", "xx"};
+        String[] excluded = {"exactly", "secretX", "d", "abd.port", "uppers", "xy", ""};
+        for(int i=0;i<2;i++) {
+            for (String key : included) {
+                PropertyValue value = PropertyValue.createValue(key, "v");
+                assertThat(filter.filterProperty(value, ctx)).as(key).isSameAs(value);
+            }
+            for (String key : excluded) {
+                assertThat(filter.filterProperty(PropertyValue.createValue(key, "v"), ctx)).as(key).isNull();
+            }
+        }
+        assertThat(filter.filterProperty(null, ctx)).isNull();
+    }
+
+    @org.junit.Test
+    public void testFilterProperty_SameNamedGroups() throws Exception {
+        RegexPropertyFilter filter = new RegexPropertyFilter();
+        filter.setIncludes("(?<id>a.*)", "(?<id>b.*)", "c+", "(?<=x)y|z");
+        FilterContext ctx = new FilterContext(prop1, configContext);
+        for (String key : new String[]{"a1", "b2", "ccc", "z"}) {
+            PropertyValue value = PropertyValue.createValue(key, "v");
+            assertThat(filter.filterProperty(value, ctx)).as(key).isSameAs(value);
+        }
+        assertThat(filter.filterProperty(PropertyValue.createValue("d", "v"), ctx)).isNull();
+    }
+
+    @org.junit.Test
+    public void testFilterProperty_ExpressionsReplaced() throws Exception {
+        RegexPropertyFilter filter = new RegexPropertyFilter();
+        FilterContext ctx = new FilterContext(prop1, configContext);
+        assertThat(filter.filterProperty(prop1, ctx)).isSameAs(prop1);
+        filter.setExcludes("test1");
+        assertThat(filter.filterProperty(prop1, ctx)).isNull();
+        filter.setExcludes("test2");
+        assertThat(filter.filterProperty(prop1, ctx)).isSameAs(prop1);
+    }
+
+    @org.junit.Test(expected = PatternSyntaxException.class)
+    public void testInvalidExpression() throws Exception {
+        new RegexPropertyFilter().setIncludes("a(");
+    }
+
     @org.junit.Test
     public void testToString() throws Exception {
         RegexPropertyFilter filter = new RegexPropertyFilter();
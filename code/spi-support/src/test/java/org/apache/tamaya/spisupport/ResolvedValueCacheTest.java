@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tamaya.spisupport;
+
+import org.apache.tamaya.spi.ChangeSupport;
+import org.apache.tamaya.spi.ConfigurationContext;
+import org.apache.tamaya.spi.PropertySource;
+import org.apache.tamaya.spi.PropertyValue;
+import org.apache.tamaya.spisupport.propertysource.BuildablePropertySource;
+import org.apache.tamaya.spisupport.propertysource.SystemPropertySource;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ResolvedValueCache}.
+ */
+public class ResolvedValueCacheTest {
+
+    private ConfigurationContext context = new DefaultConfigurationBuilder()
+            .addPropertySources(BuildablePropertySource.builder().withName("test")
+                    .withSimpleProperty("a", "1").build())
+            .build().getContext();
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidSize() {
+        new ResolvedValueCache(context, 0);
+    }
+
+    @Test
+    public void get_CountsHitsAndMisses() {
+        ResolvedValueCache cache = new ResolvedValueCache(context, 10);
+        assertThat(cache.get("a", k -> PropertyValue.createValue(k, "1")).getValue()).isEqualTo("1");
+        assertThat(cache.get("a", k -> PropertyValue.createValue(k, "2")).getValue()).isEqualTo("1");
+        assertThat(cache.get("b", k -> null)).isNull();
+        assertThat(cache.get("b", k -> PropertyValue.createValue(k, "2"))).isNull();
+        assertThat(cache.getHitCount()).isEqualTo(2);
+        assertThat(cache.getMissCount()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void get_EvictsWhenFull() {
+        ResolvedValueCache cache = new ResolvedValueCache(context, 2);
+        for(int i=0;i<5;i++){
+            cache.get("key"+i, k -> PropertyValue.createValue(k, k));
+        }
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getEvictionCount()).isEqualTo(3);
+        assertThat(cache.getMaxSize()).isEqualTo(2);
+    }
+
+    @Test
+    public void invalidate_RemovesKeys() {
+        ResolvedValueCache cache = new ResolvedValueCache(context, 10);
+        cache.get("a", k -> PropertyValue.createValue(k, "1"));
+        cache.get("b", k -> PropertyValue.createValue(k, "1"));
+        cache.invalidate(Collections.singleton("a"));
+        assertThat(cache.get("a", k -> PropertyValue.createValue(k, "2")).getValue()).isEqualTo("2");
+        assertThat(cache.get("b", k -> PropertyValue.createValue(k, "2")).getValue()).isEqualTo("1");
+        cache.invalidateAll();
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void changeEvent_InvalidatesChangedKeys() {
+        VersionedPropertySource ps = new VersionedPropertySource(ChangeSupport.SUPPORTED);
+        ConfigurationContext context = new DefaultConfigurationBuilder().addPropertySources(ps).build().getContext();
+        ResolvedValueCache cache = new ResolvedValueCache(context, 10);
+        cache.get("a", k -> PropertyValue.createValue(k, "1"));
+        cache.get("b", k -> PropertyValue.createValue(k, "1"));
+        ps.listener.accept(Collections.singleton("a"), ps);
+        assertThat(cache.get("a", k -> PropertyValue.createValue(k, "2")).getValue()).isEqualTo("2");
+        assertThat(cache.get("b", k -> PropertyValue.createValue(k, "2")).getValue()).isEqualTo("1");
+        cache.release();
+        assertThat(ps.listener).isNull();
+    }
+
+    @Test
+    public void versionChange_InvalidatesEntries() {
+        VersionedPropertySource ps = new VersionedPropertySource(ChangeSupport.UNSUPPORTED);
+        ConfigurationContext context = new DefaultConfigurationBuilder().addPropertySources(ps).build().getContext();
+        ResolvedValueCache cache = new ResolvedValueCache(context, 10);
+        cache.get("a", k -> PropertyValue.createValue(k, "1"));
+        assertThat(cache.get("a", k -> PropertyValue.createValue(k, "2")).getValue()).isEqualTo("1");
+        ps.version = "2";
+        assertThat(cache.get("a", k -> PropertyValue.createValue(k, "2")).getValue()).isEqualTo("2");
+    }
+
+    @Test
+    public void versionChange_ComparesVersionStrings() {
+        VersionedPropertySource ps = new VersionedPropertySource(ChangeSupport.UNSUPPORTED);
+        // "Aa" and "BB" share the same hash code.
+        ps.version = "Aa";
+        ConfigurationContext context = new DefaultConfigurationBuilder().addPropertySources(ps).build().getContext();
+        ResolvedValueCache cache = new ResolvedValueCache(context, 10);
+        cache.get("a", k -> PropertyValue.createValue(k, "1"));
+        ps.version = "BB";
+        assertThat(cache.get("a", k -> PropertyValue.createValue(k, "2")).getValue()).isEqualTo("2");
+    }
+
+    @Test
+    public void versionChange_OfSupportedSourceInvalidatesEntries() {
+        VersionedPropertySource ps = new VersionedPropertySource(ChangeSupport.SUPPORTED);
+        ConfigurationContext context = new DefaultConfigurationBuilder().addPropertySources(ps).build().getContext();
+        ResolvedValueCache cache = new ResolvedValueCache(context, 10);
+        cache.get("a", k -> PropertyValue.createValue(k, "1"));
+        ps.version = "2";
+        assertThat(cache.get("a", k -> PropertyValue.createValue(k, "2")).getValue()).isEqualTo("2");
+    }
+
+    @Test
+    public void configurationReflectsSystemPropertyChanges() {
+        SystemPropertySource systemProperties = new SystemPropertySource();
+        ConfigurationContext context = new DefaultConfigurationBuilder()
+                .addPropertySources(systemProperties).build().getContext();
+        DefaultConfiguration config = new DefaultConfiguration(context, new DefaultConfigValueEvaluator(), 100);
+        String key = "ResolvedValueCacheTest.sysprop";
+        try {
+            System.setProperty(key, "1");
+            assertThat(config.get(key)).isEqualTo("1");
+            System.setProperty(key, "2");
+            // the version is checked periodically only, so detect the change explicitly
+            systemProperties.reload();
+            assertThat(config.get(key)).isEqualTo("2");
+            System.clearProperty(key);
+            systemProperties.reload();
+            assertThat(config.get(key)).isNull();
+        }finally{
+            System.clearProperty(key);
+        }
+    }
+
+    @Test
+    public void configurationUsesCache() {
+        DefaultConfiguration config = new DefaultConfiguration(context, new DefaultConfigValueEvaluator(), 100);
+        assertThat(config.get("a")).isEqualTo("1");
+        assertThat(config.get("a")).isEqualTo("1");
+        assertThat(config.get("b")).isNull();
+        assertThat(config.getValueCache().getHitCount()).isEqualTo(1);
+        assertThat(config.getValueCache().getMissCount()).isEqualTo(2);
+        assertThat(new DefaultConfiguration(context).getValueCache()).isNull();
+    }
+
+    private static final class VersionedPropertySource implements PropertySource {
+        private final ChangeSupport changeSupport;
+        private String version = "1";
+        private BiConsumer<Set<String>, PropertySource> listener;
+
+        VersionedPropertySource(ChangeSupport changeSupport){
+            this.changeSupport = changeSupport;
+        }
+
+        @Override
+        public String getName() {
+            return "versioned";
+        }
+
+        @Override
+        public PropertyValue get(String key) {
+            return null;
+        }
+
+        @Override
+        public Map<String, PropertyValue> getProperties() {
+            return new HashMap<>();
+        }
+
+        @Override
+        public ChangeSupport getChangeSupport() {
+            return changeSupport;
+        }
+
+        @Override
+        public String getVersion() {
+            return version;
+        }
+
+        @Override
+        public void addChangeListener(BiConsumer<Set<String>, PropertySource> l) {
+            this.listener = l;
+        }
+
+        @Override
+        public void removeChangeListener(BiConsumer<Set<String>, PropertySource> l) {
+            this.listener = null;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tamaya.spisupport;
+
+import org.apache.tamaya.spi.ConfigurationContext;
+import org.apache.tamaya.spi.FilterContext;
+import org.apache.tamaya.spi.PropertyFilter;
+import org.apache.tamaya.spi.PropertyValue;
+import org.junit.Test;
+
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ScopedPropertyFilter}.
+ */
+public class ScopedPropertyFilterTest {
+
+    private final PropertyFilter removing = (value, ctx) -> null;
+
+    @Test
+    public void ofPrefixes() {
+        ScopedPropertyFilter filter = ScopedPropertyFilter.ofPrefixes(removing, "a.", "b.");
+        assertThat(filter.appliesTo("a.x")).isTrue();
+        assertThat(filter.appliesTo("b.x")).isTrue();
+        assertThat(filter.appliesTo("c.x")).isFalse();
+        assertThat(filter.isIdempotent()).isFalse();
+        assertThat(filter.idempotent().isIdempotent()).isTrue();
+    }
+
+    @Test
+    public void ofPattern() {
+        ScopedPropertyFilter filter = ScopedPropertyFilter.ofPattern(removing, Pattern.compile(".*\\.password"));
+        assertThat(filter.appliesTo("db.password")).isTrue();
+        assertThat(filter.appliesTo("db.password.hint")).isFalse();
+    }
+
+    @Test
+    public void filterProperty_OnlyFiltersKeysInScope() {
+        ScopedPropertyFilter filter = ScopedPropertyFilter.ofPrefixes(removing, "secret.");
+        PropertyValue inScope = PropertyValue.createValue("secret.a", "1");
+        PropertyValue outOfScope = PropertyValue.createValue("a", "1");
+        assertThat(filter.filterProperty(inScope, new FilterContext(inScope, ConfigurationContext.EMPTY)))
+                .isNull();
+        assertThat(filter.filterProperty(outOfScope, new FilterContext(outOfScope, ConfigurationContext.EMPTY)))
+                .isSameAs(outOfScope);
+        assertThat(filter.filterProperty(null, new FilterContext(outOfScope, ConfigurationContext.EMPTY)))
+                .isNull();
+    }
+
+    @Test
+    public void filterProperty_UsesQualifiedKey() {
+        ScopedPropertyFilter filter = ScopedPropertyFilter.ofPrefixes(removing, "secret.");
+        PropertyValue child = PropertyValue.createObject("secret").setValue("a", "1");
+        assertThat(child.getKey()).isEqualTo("a");
+        assertThat(filter.filterProperty(child, new FilterContext(child, ConfigurationContext.EMPTY)))
+                .isNull();
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tamaya.spisupport;
+
+import org.apache.tamaya.Configuration;
+import org.apache.tamaya.spi.PropertySource;
+import org.apache.tamaya.spi.PropertyValue;
+import org.apache.tamaya.spisupport.propertysource.BuildablePropertySource;
+import org.apache.tamaya.spisupport.propertysource.MapPropertySource;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link SortedKeyIndex} and prefix queries.
+ */
+public class SortedKeyIndexTest {
+
+    private static Map<String, PropertyValue> createProperties(){
+        Map<String, String> values = new HashMap<>();
+        values.put("tenants.a.url", "urlA");
+        values.put("tenants.a.user", "userA");
+        values.put("tenants.ab.url", "urlAB");
+        values.put("tenants.b.url", "urlB");
+        values.put("tenants", "all");
+        values.put("other", "other");
+        return PropertyValue.map(values, "test");
+    }
+
+    @Test
+    public void getProperties_ReturnsSubtree() {
+        SortedKeyIndex index = new SortedKeyIndex(createProperties());
+        assertThat(index.size()).isEqualTo(6);
+        assertThat(index.getProperties("tenants.a.")).containsOnlyKeys("tenants.a.url", "tenants.a.user");
+        assertThat(index.getProperties("tenants.a")).containsOnlyKeys("tenants.a.url", "tenants.a.user",
+                "tenants.ab.url");
+        assertThat(index.getProperties("tenants.c.")).isEmpty();
+        assertThat(index.getProperties("")).hasSize(6);
+    }
+
+    @Test
+    public void upperBound() {
+        assertThat(SortedKeyIndex.upperBound("a.")).isEqualTo("a/");
+        assertThat(SortedKeyIndex.upperBound("a" + Character.MAX_VALUE)).isEqualTo("b");
+        assertThat(SortedKeyIndex.upperBound(String.valueOf(Character.MAX_VALUE))).isNull();
+        assertThat(SortedKeyIndex.upperBound("")).isNull();
+    }
+
+    @Test
+    public void propertySources_UseIndex() {
+        PropertySource buildable = BuildablePropertySource.builder().withProperties(createProperties()).build();
+        Map<String, String> values = new HashMap<>();
+        values.put("tenants.a.url", "urlA");
+        values.put("other", "other");
+        PropertySource map = new MapPropertySource("map", values);
+        assertThat(buildable.getProperties("tenants.b.")).containsOnlyKeys("tenants.b.url");
+        assertThat(map.getProperties("tenants.")).containsOnlyKeys("tenants.a.url");
+        assertThat(new DefaultPropertySourceSnapshot(buildable).getProperties("tenants.ab"))
+                .containsOnlyKeys("tenants.ab.url");
+    }
+
+    @Test
+    public void configuration_GetPropertiesWithPrefix() {
+        Configuration config = new DefaultConfigurationBuilder()
+                .addPropertySources(
+                        BuildablePropertySource.builder().withName("low").withOrdinal(1)
+                                .withProperties(createProperties()).build(),
+                        BuildablePropertySource.builder().withName("high").withOrdinal(2)
+                                .withSimpleProperty("tenants.a.url", "override")
+                                .withSimpleProperty("tenants.c.url", "urlC").build())
+                .sortPropertySources(PropertySourceComparator.getInstance())
+                .build();
+        Map<String, String> tenant = config.getProperties("tenants.a.");
+        assertThat(tenant).containsOnlyKeys("tenants.a.url", "tenants.a.user");
+        assertThat(tenant.get("tenants.a.url")).isEqualTo("override");
+        assertThat(config.getProperties("tenants.c.")).containsEntry("tenants.c.url", "urlC");
+        assertThat(config.getProperties("")).isEqualTo(config.getProperties());
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tamaya.spisupport;
+
+import org.apache.tamaya.spi.PropertySource;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link WeakChangeListener}.
+ */
+public class WeakChangeListenerTest {
+
+    @Test
+    public void accept_NotifiesTarget() {
+        List<Set<String>> target = new ArrayList<>();
+        WeakChangeListener<List<Set<String>>> listener = new WeakChangeListener<>(target, List::add);
+        PropertySource ps = mock(PropertySource.class);
+        listener.accept(Collections.singleton("a"), ps);
+        assertThat(target).containsExactly(Collections.singleton("a"));
+        verify(ps, never()).removeChangeListener(listener);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void requiresTarget() {
+        new WeakChangeListener<Object>(null, (t, keys) -> {});
+    }
+}
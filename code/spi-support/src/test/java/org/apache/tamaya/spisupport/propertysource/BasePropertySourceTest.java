@@ -18,6 +18,7 @@
  */
 package org.apache.tamaya.spisupport.propertysource;
 
+import org.apache.tamaya.spi.ChangeSupport;
 import org.apache.tamaya.spi.PropertySource;
 import org.apache.tamaya.spi.PropertyValue;
 import org.apache.tamaya.spisupport.PropertySourceComparator;
@@ -102,6 +103,36 @@ public class BasePropertySourceTest {
         assertThat(bs1.toStringValues()).contains("name='testEqualsName'");
     }
 
+    @Test
+    public void testKeyIndexIsResetOnPrefixAndDisabledChange() {
+        PrefixedPropertySource ps = new PrefixedPropertySource();
+        assertThat(ps.getProperties("a.")).containsOnlyKeys("a.b");
+        assertThat(ps.mightContainKey("a.b")).isTrue();
+        ps.setPrefix("p.");
+        assertThat(ps.getProperties("a.")).isEmpty();
+        assertThat(ps.getProperties("p.a.")).containsOnlyKeys("p.a.b");
+        assertThat(ps.mightContainKey("p.a.b")).isTrue();
+        ps.setDisabled(true);
+        assertThat(ps.getProperties("p.a.")).isEmpty();
+        assertThat(ps.mightContainKey("p.a.b")).isFalse();
+    }
+
+    private static class PrefixedPropertySource extends BasePropertySource {
+
+        private PrefixedPropertySource() {
+            super("prefixed");
+            setChangeSupport(ChangeSupport.IMMUTABLE);
+        }
+
+        @Override
+        public Map<String, PropertyValue> getProperties() {
+            if(isDisabled()){
+                return Collections.emptyMap();
+            }
+            return mapProperties(Collections.singletonMap("a.b", "c"), 0L);
+        }
+    }
+
     private class EmptyPropertySource extends BasePropertySource {
 
         @Override
@@ -20,6 +20,8 @@ package org.apache.tamaya.spisupport.propertysource;
 
 import java.io.StringReader;
 import java.io.StringWriter;
+
+import org.apache.tamaya.spi.ChangeSupport;
 import org.junit.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -55,7 +57,10 @@ public class CLIPropertySourceTest {
             assertThat("d").isEqualTo(ps.getProperties().get("c").getValue());
             assertThat(ps.getOrdinal()).isEqualTo(16);
             
+            String version = ps.getVersion();
             CLIPropertySource.initMainArgs("-e", "f");
+            assertThat(ps.getVersion()).isNotEqualTo(version);
+            assertThat(ps.getChangeSupport()).isEqualTo(ChangeSupport.UNSUPPORTED);
             assertThat(ps.getProperties()).isNotEmpty();
             assertThat("f").isEqualTo(ps.getProperties().get("e").getValue());
             
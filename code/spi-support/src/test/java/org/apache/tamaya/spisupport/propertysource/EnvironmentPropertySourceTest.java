@@ -23,7 +23,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.io.IOException;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 import org.apache.tamaya.spi.PropertyValue;
 import org.junit.Test;
@@ -140,6 +146,91 @@ public class EnvironmentPropertySourceTest {
         }
     }
 
+    @Test
+    public void testForEachProperty() throws Exception {
+        EnvironmentPropertySource localEnvironmentPropertySource = new EnvironmentPropertySource("someprefix");
+        Map<String, PropertyValue> props = new HashMap<>();
+        localEnvironmentPropertySource.forEachProperty(value -> props.put(value.getKey(), value));
+        assertThat(props).isEqualTo(localEnvironmentPropertySource.getProperties());
+        assertThat(StreamSupport.stream(localEnvironmentPropertySource.spliterator(), true)
+                .collect(Collectors.toMap(PropertyValue::getKey, v -> v))).isEqualTo(props);
+    }
+
+    @Test
+    public void testMightContain() throws Exception {
+        for (String key : System.getenv().keySet()) {
+            assertThat(envPropertySource.mightContain(key)).isTrue();
+        }
+        EnvironmentPropertySource localEnvironmentPropertySource = new EnvironmentPropertySource();
+        localEnvironmentPropertySource.setPropertiesProvider(new EnvironmentPropertySource.SystemPropertiesProvider() {
+            private final Map<String, String> env = Collections.singletonMap("COM_ACME_SIZE", "10");
+
+            @Override
+            String getenv(String key) {
+                return env.get(key);
+            }
+
+            @Override
+            Map<String, String> getenv() {
+                return env;
+            }
+        });
+        assertThat(localEnvironmentPropertySource.mightContain("com.acme.size")).isTrue();
+        assertThat(localEnvironmentPropertySource.get("com.acme.size").getValue()).isEqualTo("10");
+        assertThat(localEnvironmentPropertySource.mightContain("com.acme.other")).isFalse();
+    }
+
+    @Test
+    public void testMightContain_CaseInsensitiveEnvironment() throws Exception {
+        EnvironmentPropertySource localEnvironmentPropertySource = new EnvironmentPropertySource();
+        localEnvironmentPropertySource.setPropertiesProvider(new EnvironmentPropertySource.SystemPropertiesProvider() {
+            private final Map<String, String> env = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            {
+                env.put("Path", "/bin");
+                env.put("java_home", "/java");
+            }
+
+            @Override
+            String getenv(String key) {
+                return env.get(key);
+            }
+
+            @Override
+            Map<String, String> getenv() {
+                return env;
+            }
+        });
+        for(String key:new String[]{"path", "PATH", "Path", "java.home", "JAVA_HOME"}) {
+            assertThat(localEnvironmentPropertySource.get(key)).isNotNull();
+            assertThat(localEnvironmentPropertySource.mightContain(key)).isTrue();
+        }
+        assertThat(localEnvironmentPropertySource.mightContain("java.other")).isFalse();
+    }
+
+    @Test
+    public void testGet_UpperCasesIndependentOfDefaultLocale() throws Exception {
+        EnvironmentPropertySource localEnvironmentPropertySource = new EnvironmentPropertySource();
+        localEnvironmentPropertySource.setPropertiesProvider(new EnvironmentPropertySource.SystemPropertiesProvider() {
+            @Override
+            String getenv(String key) {
+                return "TIME_ID".equals(key) ? "1" : null;
+            }
+
+            @Override
+            Map<String, String> getenv() {
+                return Collections.singletonMap("TIME_ID", "1");
+            }
+        });
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(new Locale("tr", "TR"));
+            assertThat(localEnvironmentPropertySource.get("time.id")).isNotNull();
+            assertThat(localEnvironmentPropertySource.mightContain("time.id")).isTrue();
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
     @Test
     public void testIsScannable() throws Exception {
         assertThat(envPropertySource.isScannable()).isTrue();
@@ -32,6 +32,7 @@ import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.entry;
 
 public class SimplePropertySourceTest {
@@ -200,6 +201,19 @@ public class SimplePropertySourceTest {
         assertThat(ps1.getProperties().get("a").getValue()).isEqualTo("b");
     }
 
+    @Test
+    public void getProperties_Unmodifiable() throws Exception {
+        for(boolean radixTreeStorage:new boolean[]{false, true}) {
+            SimplePropertySource ps = SimplePropertySource.newBuilder()
+                    .withUuidName()
+                    .withRadixTreeStorage(radixTreeStorage)
+                    .withProperty("a", "b")
+                    .build();
+            assertThatThrownBy(() -> ps.getProperties().put("c", PropertyValue.createValue("c", "d")))
+                    .isInstanceOf(UnsupportedOperationException.class);
+        }
+    }
+
     @Test
     public void testScannable() {
         SimplePropertySource sps = SimplePropertySource.newBuilder().withUuidName().build();
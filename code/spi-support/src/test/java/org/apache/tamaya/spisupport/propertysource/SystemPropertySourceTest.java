@@ -25,8 +25,10 @@ import org.apache.tamaya.spi.PropertySource;
 import org.apache.tamaya.spi.PropertyValue;
 import org.junit.Test;
 
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class SystemPropertySourceTest {
@@ -140,6 +142,35 @@ public class SystemPropertySourceTest {
         System.clearProperty("test");
     }
 
+    @Test
+    public void testVersionAndChangeListeners() throws Exception {
+        SystemPropertySource ps = new SystemPropertySource();
+        Set<String> changedKeys = new HashSet<>();
+        ps.addChangeListener((keys, source) -> changedKeys.addAll(keys));
+        String version = ps.getVersion();
+        try {
+            System.setProperty("SystemPropertySourceTest.version", "1");
+            ps.reload();
+            assertThat(ps.getVersion()).isNotEqualTo(version);
+            assertThat(changedKeys).contains("SystemPropertySourceTest.version");
+        }finally{
+            System.clearProperty("SystemPropertySourceTest.version");
+        }
+    }
+
+    @Test
+    public void testVersionIsCheckedPeriodically() throws Exception {
+        SystemPropertySource ps = new SystemPropertySource();
+        String version = ps.getVersion();
+        try {
+            System.setProperty("SystemPropertySourceTest.periodic", "1");
+            Thread.sleep(600L);
+            assertThat(ps.getVersion()).isNotEqualTo(version);
+        }finally{
+            System.clearProperty("SystemPropertySourceTest.periodic");
+        }
+    }
+
     private void checkWithSystemProperties(Map<String, PropertyValue> toCheck) {
         Properties systemEntries = System.getProperties();
         int num = 0;